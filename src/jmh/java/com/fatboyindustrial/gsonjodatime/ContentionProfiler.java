@@ -0,0 +1,272 @@
+/*
+ * GSON Joda Time Serialisers
+ *
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjodatime;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.profile.InternalProfiler;
+import org.openjdk.jmh.results.AggregationPolicy;
+import org.openjdk.jmh.results.IterationResult;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.ScalarResult;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A JMH profiler that reports the lock contention of the benchmark threads, from the
+ * {@link ThreadMXBean} of the benchmark's JVM:
+ * <ul>
+ *   <li>{@code contention.blocked}: the number of times the threads blocked to enter a monitor, per
+ *       iteration;</li>
+ *   <li>{@code contention.blocked.time}: the time they spent blocked, if the JVM supports contention
+ *       monitoring;</li>
+ *   <li>{@code contention.waited}: the number of times they waited or parked, as on a
+ *       {@link java.util.concurrent.locks.Lock};</li>
+ *   <li>{@code contention.monitor:<class>@<method>}: the number of samples, taken every
+ *       {@value #SAMPLE_MILLIS} ms, that found a thread blocked on a monitor of the class entered by the method
+ *       (the first on the stack outside the JDK), for the {@value #MONITORS} most sampled monitors.</li>
+ * </ul>
+ * Enable it with {@code -prof com.fatboyindustrial.gsonjodatime.ContentionProfiler}.
+ */
+public class ContentionProfiler implements InternalProfiler
+{
+  /** The interval between the samples of the blocked threads. */
+  private static final long SAMPLE_MILLIS = 10;
+
+  /** The number of monitors reported. */
+  private static final int MONITORS = 5;
+
+  /** The number of frames sampled from the stack of a blocked thread. */
+  private static final int STACK_DEPTH = 16;
+
+  /** The part of the names of the benchmark threads. */
+  private static final String WORKER = "jmh-worker";
+
+  /** The thread management bean. */
+  private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+  /** The blocked counts, blocked times and waited counts of the benchmark threads before the iteration. */
+  private Map<Long, long[]> before;
+
+  /** The sampler of the blocked threads. */
+  private Sampler sampler;
+
+  /**
+   * Describes the profiler.
+   * @return The description.
+   */
+  @Override
+  public String getDescription()
+  {
+    return "Lock contention of the benchmark threads, from the ThreadMXBean";
+  }
+
+  /**
+   * Records the contention counts, and starts sampling the blocked threads.
+   * @param benchmarkParams The benchmark parameters.
+   * @param iterationParams The iteration parameters.
+   */
+  @Override
+  public void beforeIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams)
+  {
+    if (this.threads.isThreadContentionMonitoringSupported())
+    {
+      this.threads.setThreadContentionMonitoringEnabled(true);
+    }
+
+    this.before = counts();
+    this.sampler = new Sampler();
+    this.sampler.start();
+  }
+
+  /**
+   * Stops sampling the blocked threads, and reports the contention of the iteration.
+   * @param benchmarkParams The benchmark parameters.
+   * @param iterationParams The iteration parameters.
+   * @param result The result of the iteration.
+   * @return The contention results.
+   */
+  @Override
+  public Collection<? extends Result> afterIteration(
+    BenchmarkParams benchmarkParams,
+    IterationParams iterationParams,
+    IterationResult result)
+  {
+    final Map<String, Integer> monitors = this.sampler.finish();
+    final Map<Long, long[]> after = counts();
+
+    final long[] total = new long[3];
+    for (final Map.Entry<Long, long[]> entry : after.entrySet())
+    {
+      final long[] start = this.before.get(entry.getKey());
+      for (int i = 0; i < total.length; i++)
+      {
+        total[i] += entry.getValue()[i] - (start == null ? 0 : start[i]);
+      }
+    }
+
+    final List<Result> results = new ArrayList<Result>();
+    results.add(new ScalarResult("contention.blocked", total[0], "counts", AggregationPolicy.AVG));
+    if (this.threads.isThreadContentionMonitoringEnabled())
+    {
+      results.add(new ScalarResult("contention.blocked.time", total[1], "ms", AggregationPolicy.AVG));
+    }
+    results.add(new ScalarResult("contention.waited", total[2], "counts", AggregationPolicy.AVG));
+
+    final List<Map.Entry<String, Integer>> sorted = new ArrayList<Map.Entry<String, Integer>>(monitors.entrySet());
+    Collections.sort(sorted, new Comparator<Map.Entry<String, Integer>>()
+    {
+      @Override
+      public int compare(Map.Entry<String, Integer> a, Map.Entry<String, Integer> b)
+      {
+        return b.getValue().compareTo(a.getValue());
+      }
+    });
+    for (final Map.Entry<String, Integer> monitor : sorted.subList(0, Math.min(MONITORS, sorted.size())))
+    {
+      results.add(new ScalarResult(
+        "contention.monitor:" + monitor.getKey(), monitor.getValue(), "samples", AggregationPolicy.AVG));
+    }
+
+    return results;
+  }
+
+  /**
+   * Reads the contention counts of the benchmark threads.
+   * @return The blocked count, blocked time and waited count of each thread, by its ID.
+   */
+  private Map<Long, long[]> counts()
+  {
+    final Map<Long, long[]> counts = new HashMap<Long, long[]>();
+    for (final ThreadInfo info : this.threads.getThreadInfo(this.threads.getAllThreadIds(), 0))
+    {
+      if (info != null && info.getThreadName().contains(WORKER))
+      {
+        counts.put(info.getThreadId(), new long[] {
+          info.getBlockedCount(), Math.max(0, info.getBlockedTime()), info.getWaitedCount() });
+      }
+    }
+    return counts;
+  }
+
+  /**
+   * Samples the monitors that the benchmark threads are blocked on.
+   */
+  private final class Sampler extends Thread
+  {
+    /** The number of samples that found a thread blocked on each monitor, by class and method. */
+    private final Map<String, Integer> monitors = new HashMap<String, Integer>();
+
+    /** Whether to stop sampling. */
+    private volatile boolean stopped;
+
+    /**
+     * Constructor.
+     */
+    public Sampler()
+    {
+      super("contention-sampler");
+      setDaemon(true);
+    }
+
+    /**
+     * Samples the blocked threads until stopped.
+     */
+    @Override
+    public void run()
+    {
+      final ThreadMXBean threads = ContentionProfiler.this.threads;
+      while (!this.stopped)
+      {
+        for (final ThreadInfo info : threads.getThreadInfo(threads.getAllThreadIds(), STACK_DEPTH))
+        {
+          if (info != null && info.getThreadState() == Thread.State.BLOCKED &&
+              info.getThreadName().contains(WORKER) && info.getLockInfo() != null)
+          {
+            final String key = info.getLockInfo().getClassName() + "@" + caller(info.getStackTrace());
+            final Integer count = this.monitors.get(key);
+            this.monitors.put(key, count == null ? 1 : count + 1);
+          }
+        }
+
+        try
+        {
+          Thread.sleep(SAMPLE_MILLIS);
+        }
+        catch (InterruptedException e)
+        {
+          return;
+        }
+      }
+    }
+
+    /**
+     * Finds the method that entered the monitor: the first one outside the JDK, since a monitor of a JDK class
+     * (such as a synchronized map) is usually entered on behalf of its caller.
+     * @param stack The stack of the blocked thread.
+     * @return The class and name of the method.
+     */
+    private String caller(StackTraceElement[] stack)
+    {
+      for (final StackTraceElement frame : stack)
+      {
+        final String name = frame.getClassName();
+        if (!name.startsWith("java.") && !name.startsWith("sun.") && !name.startsWith("jdk."))
+        {
+          return name + "." + frame.getMethodName();
+        }
+      }
+      return stack.length == 0 ? "?" : stack[0].getClassName() + "." + stack[0].getMethodName();
+    }
+
+    /**
+     * Stops sampling.
+     * @return The number of samples that found a thread blocked on each monitor, by class and method.
+     */
+    public Map<String, Integer> finish()
+    {
+      this.stopped = true;
+      try
+      {
+        join();
+      }
+      catch (InterruptedException e)
+      {
+        Thread.currentThread().interrupt();
+      }
+      return this.monitors;
+    }
+  }
+}
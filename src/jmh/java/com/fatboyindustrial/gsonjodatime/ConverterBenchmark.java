@@ -0,0 +1,212 @@
+/*
+ * GSON Joda Time Serialisers
+ *
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjodatime;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.joda.time.DateMidnight;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.Duration;
+import org.joda.time.Instant;
+import org.joda.time.Interval;
+import org.joda.time.LocalDate;
+import org.joda.time.LocalDateTime;
+import org.joda.time.LocalTime;
+import org.joda.time.Period;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Type;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the serialisation and deserialisation of a value of each Joda Time type, both through a {@link Gson}
+ * instance configured by {@link Converters#registerAll(GsonBuilder)} and with the type's converter alone.  The
+ * {@code jmh} profile runs with the GC profiler, so {@code gc.alloc.rate.norm} reports the bytes allocated by
+ * each operation.  A single type can be measured with {@code -Djmh.args="ConverterBenchmark -p sample=PERIOD"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConverterBenchmark
+{
+  /** The value to convert. */
+  @Param
+  public Sample sample;
+
+  /** The GSON instance with the Joda Time converters registered. */
+  private Gson gson;
+
+  /** The JSON of the value. */
+  private String json;
+
+  /** The text of the value. */
+  private String text;
+
+  /**
+   * Creates the JSON and text of the value.
+   */
+  @Setup(Level.Trial)
+  public void setUp()
+  {
+    this.gson = Converters.registerAll(new GsonBuilder()).create();
+    this.json = this.gson.toJson(this.sample.value, this.sample.type);
+    this.text = this.sample.converter.print(this.sample.value);
+  }
+
+  /**
+   * Serialises the value through GSON.
+   * @return The JSON.
+   */
+  @Benchmark
+  public String serialise()
+  {
+    return this.gson.toJson(this.sample.value, this.sample.type);
+  }
+
+  /**
+   * Deserialises the value through GSON.
+   * @return The value.
+   */
+  @Benchmark
+  public Object deserialise()
+  {
+    return this.gson.fromJson(this.json, this.sample.type);
+  }
+
+  /**
+   * Prints the value with its converter.
+   * @return The text.
+   */
+  @Benchmark
+  public String print()
+  {
+    return this.sample.converter.print(this.sample.value);
+  }
+
+  /**
+   * Parses the value with its converter.
+   * @return The value.
+   */
+  @Benchmark
+  public Object parse()
+  {
+    return this.sample.converter.parse(this.text);
+  }
+
+  /**
+   * A value of each Joda Time type, and its converter.
+   */
+  public enum Sample
+  {
+    DATE_MIDNIGHT(
+      Converters.DATE_MIDNIGHT_TYPE,
+      new DateMidnight(2024, 2, 29, DateTimeZone.forID("Australia/Brisbane")),
+      new DateMidnightConverter()),
+
+    DATE_TIME(
+      Converters.DATE_TIME_TYPE,
+      new DateTime(2024, 2, 29, 13, 45, 30, 123, DateTimeZone.forID("Europe/London")),
+      new DateTimeConverter()),
+
+    DATE_TIME_ZONE(
+      Converters.DATE_TIME_ZONE_TYPE,
+      DateTimeZone.forID("America/New_York"),
+      new DateTimeZoneConverter()),
+
+    DURATION(
+      Converters.DURATION_TYPE,
+      new Duration(93784005L),
+      new DurationConverter()),
+
+    INSTANT(
+      Converters.INSTANT_TYPE,
+      new Instant(1709214330123L),
+      new InstantConverter()),
+
+    INTERVAL(
+      Converters.INTERVAL_TYPE,
+      new Interval(1709214330123L, 1711892730456L, DateTimeZone.UTC),
+      new IntervalConverter()),
+
+    LOCAL_DATE(
+      Converters.LOCAL_DATE_TYPE,
+      new LocalDate(2024, 2, 29),
+      new LocalDateConverter()),
+
+    LOCAL_DATE_TIME(
+      Converters.LOCAL_DATE_TIME_TYPE,
+      new LocalDateTime(2024, 2, 29, 13, 45, 30, 123),
+      new LocalDateTimeConverter()),
+
+    LOCAL_TIME(
+      Converters.LOCAL_TIME_TYPE,
+      new LocalTime(13, 45, 30, 123),
+      new LocalTimeConverter()),
+
+    PERIOD(
+      Converters.PERIOD_TYPE,
+      new Period(1, 2, 3, 4, 5, 6, 7, 8),
+      new PeriodConverter());
+
+    /** The type of the value. */
+    final Type type;
+
+    /** The value. */
+    final Object value;
+
+    /** The converter of the value. */
+    final StringConverter<Object> converter;
+
+    /**
+     * Constructor.
+     * @param type The type of the value.
+     * @param value The value.
+     * @param converter The converter of the value.
+     */
+    @SuppressWarnings("unchecked")
+    Sample(Type type, Object value, StringConverter<?> converter)
+    {
+      this.type = type;
+      this.value = value;
+      this.converter = (StringConverter<Object>) converter;
+    }
+  }
+}
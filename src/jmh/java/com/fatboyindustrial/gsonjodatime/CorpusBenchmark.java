@@ -0,0 +1,163 @@
+/*
+ * GSON Joda Time Serialisers
+ *
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjodatime;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedReader;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the reading and writing of the records of a {@link TemporalCorpus}, whose values are shaped like real
+ * traffic, through a {@link Gson} instance configured by {@link Converters#registerAll(GsonBuilder)}.  Each
+ * operation reads or writes one record, cycling through the corpus.  The corpus is generated from the
+ * {@code seed} parameter, or read from a fixture file written by {@link TemporalCorpus#main(String[])} with
+ * {@code -Djmh.args="CorpusBenchmark -p file=corpus.ndjson"}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CorpusBenchmark
+{
+  /** The number of records generated. */
+  private static final int RECORDS = 10000;
+
+  /** The seed of the generated corpus. */
+  @Param({ "0" })
+  public long seed;
+
+  /** The fixture file to read the corpus from, or empty to generate it. */
+  @Param({ "" })
+  public String file;
+
+  /** The GSON instance with the Joda Time converters registered. */
+  private Gson gson;
+
+  /** The JSON of the records. */
+  private String[] lines;
+
+  /** The records. */
+  private TemporalCorpus.Record[] records;
+
+  /** The index of the next record. */
+  private int next;
+
+  /**
+   * Generates or reads the corpus.
+   * @throws IOException if the fixture file can't be read.
+   */
+  @Setup(Level.Trial)
+  public void setUp() throws IOException
+  {
+    this.gson = Converters.registerAll(new GsonBuilder()).create();
+
+    final List<String> lines = new ArrayList<String>();
+    if (this.file.isEmpty())
+    {
+      final TemporalCorpus corpus = new TemporalCorpus(this.seed);
+      for (int i = 0; i < RECORDS; i++)
+      {
+        lines.add(corpus.next());
+      }
+    }
+    else
+    {
+      final BufferedReader reader = new BufferedReader(
+        new InputStreamReader(new FileInputStream(this.file), "UTF-8"));
+      try
+      {
+        String line;
+        while ((line = reader.readLine()) != null)
+        {
+          lines.add(line);
+        }
+      }
+      finally
+      {
+        reader.close();
+      }
+    }
+
+    this.lines = lines.toArray(new String[lines.size()]);
+    this.records = new TemporalCorpus.Record[this.lines.length];
+    for (int i = 0; i < this.lines.length; i++)
+    {
+      this.records[i] = this.gson.fromJson(this.lines[i], TemporalCorpus.Record.class);
+    }
+  }
+
+  /**
+   * Reads the next record.
+   * @return The record.
+   */
+  @Benchmark
+  public TemporalCorpus.Record read()
+  {
+    return this.gson.fromJson(this.lines[advance()], TemporalCorpus.Record.class);
+  }
+
+  /**
+   * Writes the next record.
+   * @return The JSON.
+   */
+  @Benchmark
+  public String write()
+  {
+    return this.gson.toJson(this.records[advance()]);
+  }
+
+  /**
+   * Moves to the next record, starting again after the last.
+   * @return The index of the record.
+   */
+  private int advance()
+  {
+    final int index = this.next;
+    this.next = index + 1 == this.lines.length ? 0 : index + 1;
+    return index;
+  }
+}
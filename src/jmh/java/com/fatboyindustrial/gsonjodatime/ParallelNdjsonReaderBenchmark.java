@@ -0,0 +1,176 @@
+/*
+ * GSON Joda Time Serialisers
+ *
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjodatime;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.LocalDate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how {@link ParallelNdjsonReader} scales with the number of decoding threads, against a single threaded
+ * {@link NdjsonReader} baseline.  The {@code threads} parameter can be set to the machine's core counts of
+ * interest with {@code -Djmh.args="ParallelNdjsonReaderBenchmark -p threads=1,2,4,8,16,32"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParallelNdjsonReaderBenchmark
+{
+  /** The number of records in the input. */
+  private static final int RECORDS = 100000;
+
+  /** The GSON instance with the Joda Time converters registered. */
+  private Gson gson;
+
+  /** The NDJSON input. */
+  private String input;
+
+  /**
+   * Creates the input.
+   */
+  @Setup(Level.Trial)
+  public void setUp()
+  {
+    this.gson = Converters.registerAll(new GsonBuilder()).create();
+
+    final StringBuilder text = new StringBuilder();
+    final DateTime start = new DateTime(2024, 3, 31, 0, 0, DateTimeZone.forID("Europe/London"));
+    for (int i = 0; i < RECORDS; i++)
+    {
+      final Event event = new Event();
+      event.host = "host-" + (i % 50);
+      event.at = start.plusMillis(i * 1733);
+      event.day = new LocalDate(2024, 1, 1).plusDays(i % 366);
+      event.bytes = i * 31L;
+      text.append(this.gson.toJson(event)).append('\n');
+    }
+    this.input = text.toString();
+  }
+
+  /**
+   * Decodes the input on the benchmark thread alone.
+   * @param blackhole The sink of the records.
+   */
+  @Benchmark
+  public void sequential(Blackhole blackhole) throws IOException
+  {
+    final NdjsonReader<Event> reader = new NdjsonReader<Event>(this.gson, new StringReader(this.input), Event.class);
+    while (reader.hasNext())
+    {
+      blackhole.consume(reader.next());
+    }
+    reader.close();
+  }
+
+  /**
+   * Decodes the input on the pool's threads.
+   * @param pool The decoding threads.
+   * @param blackhole The sink of the records.
+   */
+  @Benchmark
+  public void parallel(Pool pool, Blackhole blackhole) throws IOException
+  {
+    final ParallelNdjsonReader<Event> reader = new ParallelNdjsonReader<Event>(
+      this.gson, new StringReader(this.input), Event.class, pool.executor, pool.order, 64 * 1024, 2 * pool.threads);
+    while (reader.hasNext())
+    {
+      blackhole.consume(reader.next());
+    }
+    reader.close();
+  }
+
+  /**
+   * The decoding threads.
+   */
+  @State(Scope.Benchmark)
+  public static class Pool
+  {
+    /** The number of decoding threads. */
+    @Param({ "1", "2", "4", "8" })
+    public int threads;
+
+    /** The order to deliver the records in. */
+    @Param({ "INPUT", "COMPLETION" })
+    public RecordOrder order;
+
+    /** The executor to decode on. */
+    private ExecutorService executor;
+
+    /**
+     * Starts the executor.
+     */
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+      this.executor = Executors.newFixedThreadPool(this.threads);
+    }
+
+    /**
+     * Stops the executor.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown()
+    {
+      this.executor.shutdownNow();
+    }
+  }
+
+  /**
+   * A record with Joda Time fields.
+   */
+  public static class Event
+  {
+    private String host;
+    private DateTime at;
+    private LocalDate day;
+    private long bytes;
+  }
+}
@@ -0,0 +1,146 @@
+/*
+ * GSON Joda Time Serialisers
+ *
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjodatime;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.joda.time.DateMidnight;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.Duration;
+import org.joda.time.Instant;
+import org.joda.time.Interval;
+import org.joda.time.LocalDate;
+import org.joda.time.LocalDateTime;
+import org.joda.time.LocalTime;
+import org.joda.time.Period;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures whole record round trips through a {@link Gson} instance configured by
+ * {@link Converters#registerAll(GsonBuilder)}, for a record with a field of every Joda Time type.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoundTripBenchmark
+{
+  /** The GSON instance with the Joda Time converters registered. */
+  private Gson gson;
+
+  /** The record. */
+  private Record record;
+
+  /** The JSON of the record. */
+  private String json;
+
+  /**
+   * Creates the record and its JSON.
+   */
+  @Setup(Level.Trial)
+  public void setUp()
+  {
+    this.gson = Converters.registerAll(new GsonBuilder()).create();
+
+    final DateTimeZone zone = DateTimeZone.forID("Europe/London");
+    this.record = new Record();
+    this.record.id = "8c2f6e0a";
+    this.record.dateMidnight = new DateMidnight(2024, 2, 29, zone);
+    this.record.dateTime = new DateTime(2024, 2, 29, 13, 45, 30, 123, zone);
+    this.record.zone = zone;
+    this.record.duration = new Duration(93784005L);
+    this.record.instant = new Instant(1709214330123L);
+    this.record.interval = new Interval(1709214330123L, 1711892730456L, DateTimeZone.UTC);
+    this.record.localDate = new LocalDate(2024, 2, 29);
+    this.record.localDateTime = new LocalDateTime(2024, 2, 29, 13, 45, 30, 123);
+    this.record.localTime = new LocalTime(13, 45, 30, 123);
+    this.record.period = new Period(1, 2, 3, 4, 5, 6, 7, 8);
+    this.json = this.gson.toJson(this.record);
+  }
+
+  /**
+   * Serialises the record.
+   * @return The JSON.
+   */
+  @Benchmark
+  public String serialise()
+  {
+    return this.gson.toJson(this.record);
+  }
+
+  /**
+   * Deserialises the record.
+   * @return The record.
+   */
+  @Benchmark
+  public Record deserialise()
+  {
+    return this.gson.fromJson(this.json, Record.class);
+  }
+
+  /**
+   * Serialises the record and deserialises the result.
+   * @return The record.
+   */
+  @Benchmark
+  public Record roundTrip()
+  {
+    return this.gson.fromJson(this.gson.toJson(this.record), Record.class);
+  }
+
+  /**
+   * A record with a field of every Joda Time type.
+   */
+  public static class Record
+  {
+    private String id;
+    private DateMidnight dateMidnight;
+    private DateTime dateTime;
+    private DateTimeZone zone;
+    private Duration duration;
+    private Instant instant;
+    private Interval interval;
+    private LocalDate localDate;
+    private LocalDateTime localDateTime;
+    private LocalTime localTime;
+    private Period period;
+  }
+}
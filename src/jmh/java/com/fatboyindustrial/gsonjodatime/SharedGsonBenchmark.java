@@ -0,0 +1,189 @@
+/*
+ * GSON Joda Time Serialisers
+ *
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjodatime;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how the conversion of each Joda Time type scales with the number of threads sharing a single
+ * {@link Gson} instance configured by {@link Converters#registerAll(GsonBuilder)}, as in a server whose request
+ * threads share one instance.  The {@link #main(String[])} method runs the benchmarks at 1, 2, 4 and so on up to
+ * N threads (the {@code -t} option, or the number of processors by default) with the {@link ContentionProfiler},
+ * and prints the throughput per thread, the scaling efficiency against a single thread, and the most contended
+ * monitor at each thread count:
+ * <pre>
+ *   mvn -Pjmh test-compile exec:exec -Djmh.main=com.fatboyindustrial.gsonjodatime.SharedGsonBenchmark \
+ *     -Djmh.args="-t 64 -p sample=DATE_TIME,LOCAL_DATE"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SharedGsonBenchmark
+{
+  /** The value to convert. */
+  @Param
+  public ConverterBenchmark.Sample sample;
+
+  /** The GSON instance shared by the benchmark threads. */
+  private Gson gson;
+
+  /** The JSON of the value. */
+  private String json;
+
+  /**
+   * Creates the shared GSON instance, and the JSON of the value.
+   */
+  @Setup(Level.Trial)
+  public void setUp()
+  {
+    this.gson = Converters.registerAll(new GsonBuilder()).create();
+    this.json = this.gson.toJson(this.sample.value, this.sample.type);
+  }
+
+  /**
+   * Serialises the value through the shared GSON instance.
+   * @return The JSON.
+   */
+  @Benchmark
+  public String serialise()
+  {
+    return this.gson.toJson(this.sample.value, this.sample.type);
+  }
+
+  /**
+   * Deserialises the value through the shared GSON instance.
+   * @return The value.
+   */
+  @Benchmark
+  public Object deserialise()
+  {
+    return this.gson.fromJson(this.json, this.sample.type);
+  }
+
+  /**
+   * Runs the benchmarks at each thread count, and prints how they scale.
+   * @param args The JMH command line options; {@code -t} sets the largest thread count.
+   * @throws Exception if the benchmarks can't be run.
+   */
+  public static void main(String[] args) throws Exception
+  {
+    final CommandLineOptions options = new CommandLineOptions(args);
+    final int maxThreads = options.getThreads().orElse(Runtime.getRuntime().availableProcessors());
+
+    final List<Integer> counts = new ArrayList<Integer>();
+    for (int threads = 1; threads < maxThreads; threads *= 2)
+    {
+      counts.add(threads);
+    }
+    counts.add(maxThreads);
+
+    // The results of each benchmark and sample, by thread count
+    final Map<String, Map<Integer, RunResult>> results = new TreeMap<String, Map<Integer, RunResult>>();
+    for (final int threads : counts)
+    {
+      final OptionsBuilder builder = new OptionsBuilder();
+      builder.parent(options).threads(threads).addProfiler(ContentionProfiler.class);
+      if (options.getIncludes().isEmpty())
+      {
+        builder.include(SharedGsonBenchmark.class.getName());
+      }
+
+      for (final RunResult result : new Runner(builder.build()).run())
+      {
+        final String name = result.getParams().getBenchmark().replaceAll(".*\\.", "") + " " +
+                            result.getParams().getParam("sample");
+        if (!results.containsKey(name))
+        {
+          results.put(name, new LinkedHashMap<Integer, RunResult>());
+        }
+        results.get(name).put(threads, result);
+      }
+    }
+
+    System.out.println();
+    System.out.println(String.format("%-32s %7s %14s %14s %10s %12s  %s",
+      "Benchmark", "Threads", "ops/ms", "ops/ms/thread", "Efficiency", "Blocked", "Most contended monitor"));
+    for (final Map.Entry<String, Map<Integer, RunResult>> entry : results.entrySet())
+    {
+      double single = Double.NaN;
+      for (final Map.Entry<Integer, RunResult> run : entry.getValue().entrySet())
+      {
+        final int threads = run.getKey();
+        final double perThread = run.getValue().getPrimaryResult().getScore() / threads;
+        if (threads == 1)
+        {
+          single = perThread;
+        }
+
+        final Map<String, Result> secondary = run.getValue().getSecondaryResults();
+        final Result blocked = secondary.get("contention.blocked");
+        String monitor = "-";
+        double samples = 0;
+        for (final Map.Entry<String, Result> result : secondary.entrySet())
+        {
+          if (result.getKey().startsWith("contention.monitor:") && result.getValue().getScore() > samples)
+          {
+            samples = result.getValue().getScore();
+            monitor = result.getKey().substring("contention.monitor:".length());
+          }
+        }
+
+        System.out.println(String.format("%-32s %7d %14.1f %14.1f %9.0f%% %12.0f  %s",
+          entry.getKey(), threads, perThread * threads, perThread, 100 * perThread / single,
+          blocked == null ? 0 : blocked.getScore(), monitor));
+      }
+    }
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * GSON Joda Time Serialisers
+ *
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjodatime;
+
+/**
+ * A {@link StringConverter} that consults a {@link ParseCache} before parsing.
+ * @param <T> The Joda Time type being converted.
+ */
+final class CachingConverter<T> implements StringConverter<T>
+{
+  /** The converter that does the work. */
+  private final StringConverter<T> converter;
+
+  /** The cache of parsed values. */
+  private final ParseCache<T> cache;
+
+  /**
+   * Constructor.
+   * @param converter The converter that does the work.
+   * @param cache The cache of parsed values.
+   */
+  CachingConverter(StringConverter<T> converter, ParseCache<T> cache)
+  {
+    if (converter == null) { throw new NullPointerException("converter cannot be null"); }
+    if (cache == null) { throw new NullPointerException("cache cannot be null"); }
+
+    this.converter = converter;
+    this.cache = cache;
+  }
+
+  /**
+   * Prints the given value as text.
+   * @param src The value to print (never {@code null}).
+   * @return The textual representation of {@code src}.
+   */
+  @Override
+  public String print(T src)
+  {
+    return this.converter.print(src);
+  }
+
+  /**
+   * Parses the given text, or returns the value previously parsed from the same text.
+   * @param text The text to parse (never {@code null} or empty).
+   * @return The parsed value.
+   * @throws IllegalArgumentException if the text cannot be parsed.
+   */
+  @Override
+  public T parse(String text)
+  {
+    T value = this.cache.get(text);
+    if (value == null)
+    {
+      value = this.converter.parse(text);
+      this.cache.put(text, value);
+    }
+
+    return value;
+  }
+}
@@ -0,0 +1,164 @@
+/*
+ * GSON Joda Time Serialisers
+ *
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjodatime;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * A buffered writer that hands its output on in chunks of a fixed size, flushing the output after each chunk.
+ * Unlike {@link java.io.BufferedWriter}, strings are copied straight into the buffer, however long they are, so
+ * no temporary arrays are allocated.
+ */
+final class ChunkedWriter extends Writer
+{
+  /** The output. */
+  private final Writer out;
+
+  /** The buffered characters. */
+  private final char[] buffer;
+
+  /** The number of buffered characters. */
+  private int length;
+
+  /**
+   * Constructor.
+   * @param out The output.
+   * @param chunkSize The number of characters in each chunk.
+   */
+  public ChunkedWriter(Writer out, int chunkSize)
+  {
+    if (out == null) { throw new NullPointerException("out cannot be null"); }
+    if (chunkSize <= 0) { throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize); }
+
+    this.out = out;
+    this.buffer = new char[chunkSize];
+  }
+
+  /**
+   * Writes a character.
+   * @param c The character.
+   * @throws IOException if the output can't be written.
+   */
+  @Override
+  public void write(int c) throws IOException
+  {
+    if (this.length == this.buffer.length)
+    {
+      writeChunk();
+    }
+    this.buffer[this.length++] = (char) c;
+  }
+
+  /**
+   * Writes characters.
+   * @param cbuf The characters.
+   * @param off The index of the first character to write.
+   * @param len The number of characters to write.
+   * @throws IOException if the output can't be written.
+   */
+  @Override
+  public void write(char[] cbuf, int off, int len) throws IOException
+  {
+    while (len > 0)
+    {
+      if (this.length == this.buffer.length)
+      {
+        writeChunk();
+      }
+      final int count = Math.min(len, this.buffer.length - this.length);
+      System.arraycopy(cbuf, off, this.buffer, this.length, count);
+      this.length += count;
+      off += count;
+      len -= count;
+    }
+  }
+
+  /**
+   * Writes part of a string.
+   * @param str The string.
+   * @param off The index of the first character to write.
+   * @param len The number of characters to write.
+   * @throws IOException if the output can't be written.
+   */
+  @Override
+  public void write(String str, int off, int len) throws IOException
+  {
+    while (len > 0)
+    {
+      if (this.length == this.buffer.length)
+      {
+        writeChunk();
+      }
+      final int count = Math.min(len, this.buffer.length - this.length);
+      str.getChars(off, off + count, this.buffer, this.length);
+      this.length += count;
+      off += count;
+      len -= count;
+    }
+  }
+
+  /**
+   * Writes the buffered characters, and flushes the output.
+   * @throws IOException if the output can't be written.
+   */
+  @Override
+  public void flush() throws IOException
+  {
+    writeChunk();
+  }
+
+  /**
+   * Writes the buffered characters, and closes the output.
+   * @throws IOException if the output can't be written or closed.
+   */
+  @Override
+  public void close() throws IOException
+  {
+    try
+    {
+      writeChunk();
+    }
+    finally
+    {
+      this.out.close();
+    }
+  }
+
+  /**
+   * Writes the buffered characters as a chunk, and flushes the output.
+   * @throws IOException if the output can't be written.
+   */
+  private void writeChunk() throws IOException
+  {
+    if (this.length > 0)
+    {
+      this.out.write(this.buffer, 0, this.length);
+      this.length = 0;
+    }
+    this.out.flush();
+  }
+}
@@ -0,0 +1,150 @@
+/*
+ * GSON Joda Time Serialisers
+ *
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjodatime;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Helpers for the type adapter factories that encode a whole collection of Joda Time values at once.  The
+ * factories handle arrays, and any collection type that an {@link ArrayList} can be assigned to (such as
+ * {@code List}, {@code Collection} and {@code Iterable}), of a single Joda Time element type.
+ */
+final class CollectionTypes
+{
+  /**
+   * Not instantiable.
+   */
+  private CollectionTypes()
+  {
+  }
+
+  /**
+   * Gets the element type of an array or list type.
+   * @param type The type.
+   * @return The element class, or {@code null} if {@code type} isn't an array, or a list type with a concrete
+   * element class.
+   */
+  static Class<?> elementClass(TypeToken<?> type)
+  {
+    final Class<?> rawType = type.getRawType();
+    if (rawType.isArray())
+    {
+      return rawType.getComponentType();
+    }
+
+    if (!rawType.isAssignableFrom(ArrayList.class) || !(type.getType() instanceof ParameterizedType))
+    {
+      return null;
+    }
+
+    final Type[] arguments = ((ParameterizedType) type.getType()).getActualTypeArguments();
+    return arguments.length == 1 && arguments[0] instanceof Class ? (Class<?>) arguments[0] : null;
+  }
+
+  /**
+   * Adapts an adapter of lists to the array or list type requested.
+   * @param type The array or list type, as accepted by {@link #elementClass}.
+   * @param elementClass The element class.
+   * @param adapter The adapter of lists.
+   * @return The adapter of {@code type}.
+   */
+  @SuppressWarnings("unchecked")
+  static <T, E> TypeAdapter<T> adapt(TypeToken<T> type, Class<E> elementClass, TypeAdapter<List<E>> adapter)
+  {
+    if (type.getRawType().isArray())
+    {
+      return (TypeAdapter<T>) new ArrayTypeAdapter<E>(elementClass, adapter);
+    }
+
+    return (TypeAdapter<T>) adapter;
+  }
+
+  /**
+   * Adapts an adapter of lists to arrays.
+   * @param <E> The element type.
+   */
+  private static final class ArrayTypeAdapter<E> extends TypeAdapter<E[]>
+  {
+    /** The element class. */
+    private final Class<E> elementClass;
+
+    /** The adapter of lists. */
+    private final TypeAdapter<List<E>> adapter;
+
+    /**
+     * Constructor.
+     * @param elementClass The element class.
+     * @param adapter The adapter of lists.
+     */
+    ArrayTypeAdapter(Class<E> elementClass, TypeAdapter<List<E>> adapter)
+    {
+      this.elementClass = elementClass;
+      this.adapter = adapter;
+    }
+
+    /**
+     * Writes the array as its list.
+     * @param out The writer to write to.
+     * @param value The array to write (may be {@code null}).
+     * @throws IOException if the writer fails.
+     */
+    @Override
+    public void write(JsonWriter out, E[] value) throws IOException
+    {
+      this.adapter.write(out, value == null ? null : Arrays.asList(value));
+    }
+
+    /**
+     * Reads a list and copies it to an array.
+     * @param in The reader to read from.
+     * @return The array, or {@code null}.
+     * @throws IOException if the reader fails.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E[] read(JsonReader in) throws IOException
+    {
+      final List<E> list = this.adapter.read(in);
+      if (list == null)
+      {
+        return null;
+      }
+
+      return list.toArray((E[]) Array.newInstance(this.elementClass, list.size()));
+    }
+  }
+}
@@ -38,7 +38,6 @@ import org.joda.time.LocalDateTime;
 import org.joda.time.LocalTime;
 import org.joda.time.Period;
 import org.joda.time.format.DateTimeFormatter;
-import org.joda.time.format.ISODateTimeFormat;
 
 import java.lang.reflect.Type;
 
@@ -78,7 +77,8 @@ public class Converters
   public static final Type DATE_TIME_ZONE_TYPE = new TypeToken<DateTimeZone>(){}.getType();
 
   /**
-   * Registers all the Joda Time converters.
+   * Registers all the Joda Time converters.  A single {@link JodaTypeAdapterFactory} is registered, which streams
+   * every supported type directly to and from JSON.
    * @param builder The GSON builder to register the converters with.
    * @return A reference to {@code builder}.
    */
@@ -86,16 +86,110 @@ public class Converters
   {
     if (builder == null) { throw new NullPointerException("builder cannot be null"); }
 
-    registerDateMidnight(builder);
-    registerDateTime(builder);
-    registerDuration(builder);
-    registerLocalDate(builder);
-    registerLocalDateTime(builder);
-    registerLocalTime(builder);
-    registerInterval(builder);
-    registerPeriod(builder);
-    registerInstant(builder);
-    registerDateTimeZone(builder);
+    builder.registerTypeAdapterFactory(new JodaTypeAdapterFactory());
+
+    return builder;
+  }
+
+  /**
+   * Registers all the Joda Time converters, using the given formatters.
+   * @param builder The GSON builder to register the converters with.
+   * @param formatters The formatters to print and parse with.
+   * @return A reference to {@code builder}.
+   */
+  public static GsonBuilder registerAll(GsonBuilder builder, FormatterRegistry formatters)
+  {
+    if (builder == null) { throw new NullPointerException("builder cannot be null"); }
+    if (formatters == null) { throw new NullPointerException("formatters cannot be null"); }
+
+    builder.registerTypeAdapterFactory(new JodaTypeAdapterFactory(formatters));
+
+    return builder;
+  }
+
+  /**
+   * Registers all the Joda Time converters, printing the compact ISO 8601 basic format, such as
+   * {@code 20240101T101500.123Z}.  Deserialisation accepts both the basic and the extended formats.
+   * @param builder The GSON builder to register the converters with.
+   * @return A reference to {@code builder}.
+   * @see FormatterRegistry#isoBasic()
+   */
+  public static GsonBuilder registerAllBasic(GsonBuilder builder)
+  {
+    return registerAll(builder, FormatterRegistry.isoBasic());
+  }
+
+  /**
+   * Registers all the Joda Time converters, encoding values as numbers wherever the type has a natural numeric
+   * form.  Deserialisation accepts both the numeric and the ISO 8601 forms.
+   * @param builder The GSON builder to register the converters with.
+   * @return A reference to {@code builder}.
+   * @see JodaTypeAdapterFactory#numeric(FormatterRegistry)
+   */
+  public static GsonBuilder registerAllNumeric(GsonBuilder builder)
+  {
+    if (builder == null) { throw new NullPointerException("builder cannot be null"); }
+
+    builder.registerTypeAdapterFactory(JodaTypeAdapterFactory.numeric(FormatterRegistry.iso()));
+
+    return builder;
+  }
+
+  /**
+   * Registers the zone dictionary encoding for lists and arrays of {@link DateTime}s, which keeps each value's
+   * region zone by writing a table of the zones alongside the values.
+   * @param builder The GSON builder to register the converters with.
+   * @return A reference to {@code builder}.
+   * @see ZoneDictionaryTypeAdapterFactory
+   */
+  public static GsonBuilder registerZoneDictionary(GsonBuilder builder)
+  {
+    return registerZoneDictionary(builder, FormatterRegistry.iso());
+  }
+
+  /**
+   * Registers the zone dictionary encoding for lists and arrays of {@link DateTime}s, using the given formatters.
+   * @param builder The GSON builder to register the converters with.
+   * @param formatters The formatters to print and parse the values with.
+   * @return A reference to {@code builder}.
+   * @see ZoneDictionaryTypeAdapterFactory
+   */
+  public static GsonBuilder registerZoneDictionary(GsonBuilder builder, FormatterRegistry formatters)
+  {
+    if (builder == null) { throw new NullPointerException("builder cannot be null"); }
+    if (formatters == null) { throw new NullPointerException("formatters cannot be null"); }
+
+    builder.registerTypeAdapterFactory(new ZoneDictionaryTypeAdapterFactory(formatters));
+
+    return builder;
+  }
+
+  /**
+   * Registers the delta encoding for lists and arrays of {@link Instant}s, {@link DateTime}s and
+   * {@link LocalDate}s, which writes a base value and the differences between consecutive values.
+   * @param builder The GSON builder to register the converters with.
+   * @return A reference to {@code builder}.
+   * @see DeltaTypeAdapterFactory
+   */
+  public static GsonBuilder registerDeltaEncoding(GsonBuilder builder)
+  {
+    return registerDeltaEncoding(builder, FormatterRegistry.iso());
+  }
+
+  /**
+   * Registers the delta encoding for lists and arrays of {@link Instant}s, {@link DateTime}s and
+   * {@link LocalDate}s, using the given formatters.
+   * @param builder The GSON builder to register the converters with.
+   * @param formatters The formatters to print and parse the base values with.
+   * @return A reference to {@code builder}.
+   * @see DeltaTypeAdapterFactory
+   */
+  public static GsonBuilder registerDeltaEncoding(GsonBuilder builder, FormatterRegistry formatters)
+  {
+    if (builder == null) { throw new NullPointerException("builder cannot be null"); }
+    if (formatters == null) { throw new NullPointerException("formatters cannot be null"); }
+
+    builder.registerTypeAdapterFactory(new DeltaTypeAdapterFactory(formatters));
 
     return builder;
   }
@@ -109,7 +203,7 @@ public class Converters
   {
     if (builder == null) { throw new NullPointerException("builder cannot be null"); }
 
-    builder.registerTypeAdapter(DATE_MIDNIGHT_TYPE, new DateMidnightConverter());
+    builder.registerTypeAdapter(DATE_MIDNIGHT_TYPE, new JodaTypeAdapter<DateMidnight>(new DateMidnightConverter()));
 
     return builder;
   }
@@ -123,11 +217,7 @@ public class Converters
   {
     if (builder == null) { throw new NullPointerException("builder cannot be null"); }
 
-    builder.registerTypeAdapter(
-      DATE_TIME_TYPE,
-      new DateTimeConverter(
-        ISODateTimeFormat.dateTime(),
-        ISODateTimeFormat.dateTimeParser().withOffsetParsed()));
+    builder.registerTypeAdapter(DATE_TIME_TYPE, new JodaTypeAdapter<DateTime>(new DateTimeConverter()));
 
     return builder;
   }
@@ -150,9 +240,28 @@ public class Converters
 
     builder.registerTypeAdapter(
       DATE_TIME_TYPE,
-      new DateTimeConverter(
-        serializeFormatter,
-        deserializeFormatter));
+      new JodaTypeAdapter<DateTime>(
+        new DateTimeConverter(
+          serializeFormatter,
+          deserializeFormatter)));
+
+    return builder;
+  }
+
+  /**
+   * Registers the {@link DateTime} converter, caching parsed values.
+   * @param builder The GSON builder to register the converter with.
+   * @param cache The cache of parsed values.
+   * @return A reference to {@code builder}.
+   */
+  public static GsonBuilder registerDateTime(GsonBuilder builder, ParseCache<DateTime> cache)
+  {
+    if (builder == null) { throw new NullPointerException("builder cannot be null"); }
+    if (cache == null) { throw new NullPointerException("cache cannot be null"); }
+
+    builder.registerTypeAdapter(
+      DATE_TIME_TYPE,
+      new JodaTypeAdapter<DateTime>(new CachingConverter<DateTime>(new DateTimeConverter(), cache)));
 
     return builder;
   }
@@ -166,7 +275,7 @@ public class Converters
   {
     if (builder == null) { throw new NullPointerException("builder cannot be null"); }
 
-    builder.registerTypeAdapter(DURATION_TYPE, new DurationConverter());
+    builder.registerTypeAdapter(DURATION_TYPE, new JodaTypeAdapter<Duration>(new DurationConverter()));
 
     return builder;
   }
@@ -180,7 +289,25 @@ public class Converters
   {
     if (builder == null) { throw new NullPointerException("builder cannot be null"); }
 
-    builder.registerTypeAdapter(LOCAL_DATE_TYPE, new LocalDateConverter());
+    builder.registerTypeAdapter(LOCAL_DATE_TYPE, new JodaTypeAdapter<LocalDate>(new LocalDateConverter()));
+
+    return builder;
+  }
+
+  /**
+   * Registers the {@link LocalDate} converter, caching parsed values.
+   * @param builder The GSON builder to register the converter with.
+   * @param cache The cache of parsed values.
+   * @return A reference to {@code builder}.
+   */
+  public static GsonBuilder registerLocalDate(GsonBuilder builder, ParseCache<LocalDate> cache)
+  {
+    if (builder == null) { throw new NullPointerException("builder cannot be null"); }
+    if (cache == null) { throw new NullPointerException("cache cannot be null"); }
+
+    builder.registerTypeAdapter(
+      LOCAL_DATE_TYPE,
+      new JodaTypeAdapter<LocalDate>(new CachingConverter<LocalDate>(new LocalDateConverter(), cache)));
 
     return builder;
   }
@@ -194,7 +321,25 @@ public class Converters
   {
     if (builder == null) { throw new NullPointerException("builder cannot be null"); }
 
-    builder.registerTypeAdapter(LOCAL_DATE_TIME_TYPE, new LocalDateTimeConverter());
+    builder.registerTypeAdapter(LOCAL_DATE_TIME_TYPE, new JodaTypeAdapter<LocalDateTime>(new LocalDateTimeConverter()));
+
+    return builder;
+  }
+
+  /**
+   * Registers the {@link LocalDateTime} converter, caching parsed values.
+   * @param builder The GSON builder to register the converter with.
+   * @param cache The cache of parsed values.
+   * @return A reference to {@code builder}.
+   */
+  public static GsonBuilder registerLocalDateTime(GsonBuilder builder, ParseCache<LocalDateTime> cache)
+  {
+    if (builder == null) { throw new NullPointerException("builder cannot be null"); }
+    if (cache == null) { throw new NullPointerException("cache cannot be null"); }
+
+    builder.registerTypeAdapter(
+      LOCAL_DATE_TIME_TYPE,
+      new JodaTypeAdapter<LocalDateTime>(new CachingConverter<LocalDateTime>(new LocalDateTimeConverter(), cache)));
 
     return builder;
   }
@@ -208,7 +353,25 @@ public class Converters
   {
     if (builder == null) { throw new NullPointerException("builder cannot be null"); }
 
-    builder.registerTypeAdapter(LOCAL_TIME_TYPE, new LocalTimeConverter());
+    builder.registerTypeAdapter(LOCAL_TIME_TYPE, new JodaTypeAdapter<LocalTime>(new LocalTimeConverter()));
+
+    return builder;
+  }
+
+  /**
+   * Registers the {@link LocalTime} converter, caching parsed values.
+   * @param builder The GSON builder to register the converter with.
+   * @param cache The cache of parsed values.
+   * @return A reference to {@code builder}.
+   */
+  public static GsonBuilder registerLocalTime(GsonBuilder builder, ParseCache<LocalTime> cache)
+  {
+    if (builder == null) { throw new NullPointerException("builder cannot be null"); }
+    if (cache == null) { throw new NullPointerException("cache cannot be null"); }
+
+    builder.registerTypeAdapter(
+      LOCAL_TIME_TYPE,
+      new JodaTypeAdapter<LocalTime>(new CachingConverter<LocalTime>(new LocalTimeConverter(), cache)));
 
     return builder;
   }
@@ -222,7 +385,25 @@ public class Converters
   {
     if (builder == null) { throw new NullPointerException("builder cannot be null"); }
 
-    builder.registerTypeAdapter(INSTANT_TYPE, new InstantConverter());
+    builder.registerTypeAdapter(INSTANT_TYPE, new JodaTypeAdapter<Instant>(new InstantConverter()));
+
+    return builder;
+  }
+
+  /**
+   * Registers the {@link Instant} converter, caching parsed values.
+   * @param builder The GSON builder to register the converter with.
+   * @param cache The cache of parsed values.
+   * @return A reference to {@code builder}.
+   */
+  public static GsonBuilder registerInstant(GsonBuilder builder, ParseCache<Instant> cache)
+  {
+    if (builder == null) { throw new NullPointerException("builder cannot be null"); }
+    if (cache == null) { throw new NullPointerException("cache cannot be null"); }
+
+    builder.registerTypeAdapter(
+      INSTANT_TYPE,
+      new JodaTypeAdapter<Instant>(new CachingConverter<Instant>(new InstantConverter(), cache)));
 
     return builder;
   }
@@ -236,7 +417,7 @@ public class Converters
   {
     if (builder == null) { throw new NullPointerException("builder cannot be null"); }
 
-    builder.registerTypeAdapter(INTERVAL_TYPE, new IntervalConverter());
+    builder.registerTypeAdapter(INTERVAL_TYPE, new JodaTypeAdapter<Interval>(new IntervalConverter()));
 
     return builder;
   }
@@ -250,7 +431,7 @@ public class Converters
   {
     if (builder == null) { throw new NullPointerException("builder cannot be null"); }
 
-    builder.registerTypeAdapter(PERIOD_TYPE, new PeriodConverter());
+    builder.registerTypeAdapter(PERIOD_TYPE, new JodaTypeAdapter<Period>(new PeriodConverter()));
 
     return builder;
   }
@@ -264,7 +445,24 @@ public class Converters
   {
     if (builder == null) { throw new NullPointerException("builder cannot be null"); }
 
-    builder.registerTypeAdapter(DATE_TIME_ZONE_TYPE, new DateTimeZoneConverter());
+    builder.registerTypeAdapter(DATE_TIME_ZONE_TYPE, new JodaTypeAdapter<DateTimeZone>(new DateTimeZoneConverter()));
+
+    return builder;
+  }
+
+  /**
+   * Registers the {@link DateTimeZone} converter, resolving the given zones up front.
+   * @param builder The GSON builder to register the converter with.
+   * @param zoneIds The IDs of the zones expected in the JSON.
+   * @return A reference to {@code builder}.
+   * @throws IllegalArgumentException if a zone ID isn't recognised.
+   */
+  public static GsonBuilder registerDateTimeZone(GsonBuilder builder, Iterable<String> zoneIds)
+  {
+    if (builder == null) { throw new NullPointerException("builder cannot be null"); }
+    if (zoneIds == null) { throw new NullPointerException("zoneIds cannot be null"); }
+
+    builder.registerTypeAdapter(DATE_TIME_ZONE_TYPE, new JodaTypeAdapter<DateTimeZone>(new DateTimeZoneConverter(zoneIds)));
 
     return builder;
   }
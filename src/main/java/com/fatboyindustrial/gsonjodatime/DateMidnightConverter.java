@@ -34,15 +34,36 @@ import com.google.gson.JsonSerializationContext;
 import com.google.gson.JsonSerializer;
 import org.joda.time.DateMidnight;
 import org.joda.time.format.DateTimeFormatter;
-import org.joda.time.format.ISODateTimeFormat;
 
 import java.lang.reflect.Type;
 
 /**
  * GSON serialiser/deserialiser for converting Joda {@link DateMidnight} objects.
  */
-public class DateMidnightConverter implements JsonSerializer<DateMidnight>, JsonDeserializer<DateMidnight>
+public class DateMidnightConverter implements JsonSerializer<DateMidnight>, JsonDeserializer<DateMidnight>, StringConverter<DateMidnight>
 {
+  /** The formatter to print and parse with. */
+  private final DateTimeFormatter formatter;
+
+  /**
+   * Constructs a converter using the ISO 8601 formatters.
+   */
+  public DateMidnightConverter()
+  {
+    this(FormatterRegistry.iso());
+  }
+
+  /**
+   * Constructs a converter using the given formatters.
+   * @param formatters The formatters to use.
+   */
+  public DateMidnightConverter(FormatterRegistry formatters)
+  {
+    if (formatters == null) { throw new NullPointerException("formatters cannot be null"); }
+
+    this.formatter = formatters.dateMidnightFormatter();
+  }
+
   /**
    * Gson invokes this call-back method during serialization when it encounters a field of the
    * specified type. <p>
@@ -59,8 +80,7 @@ public class DateMidnightConverter implements JsonSerializer<DateMidnight>, Json
   @Override
   public JsonElement serialize(DateMidnight src, Type typeOfSrc, JsonSerializationContext context)
   {
-    final DateTimeFormatter fmt = ISODateTimeFormat.dateTime();
-    return new JsonPrimitive(fmt.print(src));
+    return new JsonPrimitive(print(src));
   }
 
   /**
@@ -82,12 +102,35 @@ public class DateMidnightConverter implements JsonSerializer<DateMidnight>, Json
       throws JsonParseException
   {
     // Do not try to deserialize null or empty values
-    if (json.getAsString() == null || json.getAsString().isEmpty())
+    final String text = json.isJsonNull() ? null : json.getAsString();
+    if (text == null || text.isEmpty())
     {
       return null;
     }
 
-    final DateTimeFormatter fmt = ISODateTimeFormat.dateTime();
-    return new DateMidnight(fmt.parseDateTime(json.getAsString()));
+    return parse(text);
+  }
+
+  /**
+   * Prints the given value as text.
+   * @param src The value to print (never {@code null}).
+   * @return The textual representation of {@code src}.
+   */
+  @Override
+  public String print(DateMidnight src)
+  {
+    return this.formatter.print(src);
+  }
+
+  /**
+   * Parses the given text.
+   * @param text The text to parse (never {@code null} or empty).
+   * @return The parsed value.
+   * @throws IllegalArgumentException if the text cannot be parsed.
+   */
+  @Override
+  public DateMidnight parse(String text)
+  {
+    return new DateMidnight(this.formatter.parseDateTime(text));
   }
 }
@@ -33,6 +33,7 @@ import com.google.gson.JsonPrimitive;
 import com.google.gson.JsonSerializationContext;
 import com.google.gson.JsonSerializer;
 import org.joda.time.DateTime;
+import org.joda.time.chrono.ISOChronology;
 import org.joda.time.format.DateTimeFormatter;
 
 import java.lang.reflect.Type;
@@ -40,20 +41,84 @@ import java.lang.reflect.Type;
 /**
  * GSON serialiser/deserialiser for converting Joda {@link DateTime} objects.
  */
-public class DateTimeConverter implements JsonSerializer<DateTime>, JsonDeserializer<DateTime>
+public class DateTimeConverter implements JsonSerializer<DateTime>, JsonDeserializer<DateTime>, StringConverter<DateTime>
 {
   private final DateTimeFormatter serializeFormatter;
   private final DateTimeFormatter deserializeFormatter;
+  /** The fixed-width printer to try before the {@code serializeFormatter}, or {@code null} if there isn't one. */
+  private final IsoDateTimePrinter isoPrinter;
+  /** The printer to use instead of the {@code serializeFormatter} when the precision omits the fraction. */
+  private final DateTimeFormatter fractionlessPrinter;
+  /** The precision to print with. */
+  private final Precision precision;
+  /** Whether {@link IsoDateTimeParser} may be tried before the {@code deserializeFormatter}. */
+  private final boolean isoParser;
+  /** Whether {@link IsoDateTimeParser} may accept the basic format, which only the basic formatters parse. */
+  private final boolean basicParser;
+
+  /**
+   * Constructs a converter using the ISO 8601 formatters, which retain the parsed offset.
+   */
+  public DateTimeConverter()
+  {
+    this(FormatterRegistry.iso());
+  }
+
+  /**
+   * Constructs a converter using the given formatters.
+   * @param formatters The formatters to use.
+   */
+  public DateTimeConverter(FormatterRegistry formatters)
+  {
+    this(checked(formatters).dateTimePrinter(), formatters.dateTimeParser(), formatters.dateTimePrecision());
+  }
 
   public DateTimeConverter(
     final DateTimeFormatter serializeFormatter,
     final DateTimeFormatter deserializeFormatter)
+  {
+    this(serializeFormatter, deserializeFormatter, Precision.MILLISECOND);
+  }
+
+  /**
+   * Constructor.
+   * @param serializeFormatter The formatter to print with.
+   * @param deserializeFormatter The formatter to parse with.
+   * @param precision The precision to print with, if {@code serializeFormatter} is an ISO 8601 formatter.
+   */
+  private DateTimeConverter(
+    final DateTimeFormatter serializeFormatter,
+    final DateTimeFormatter deserializeFormatter,
+    final Precision precision)
   {
     if (serializeFormatter == null) { throw new NullPointerException("serializeFormatter cannot be null"); }
     if (deserializeFormatter == null) { throw new NullPointerException("deserializeFormatter cannot be null"); }
 
     this.serializeFormatter = serializeFormatter;
     this.deserializeFormatter = deserializeFormatter;
+    this.isoPrinter = IsoDateTimePrinter.select(
+      serializeFormatter,
+      FormatterRegistry.ISO_DATE_TIME_PRINTER,
+      FormatterRegistry.BASIC_DATE_TIME_PRINTER,
+      precision);
+    this.fractionlessPrinter = FormatterRegistry.withoutFraction(serializeFormatter);
+    this.precision = precision;
+    this.isoParser = deserializeFormatter == FormatterRegistry.ISO_DATE_TIME_PARSER ||
+                     deserializeFormatter == FormatterRegistry.BASIC_DATE_TIME_PARSER;
+    this.basicParser = deserializeFormatter == FormatterRegistry.BASIC_DATE_TIME_PARSER;
+  }
+
+  /**
+   * Checks the formatters given to {@link #DateTimeConverter(FormatterRegistry)}, which can only be done in an
+   * argument to the constructor it delegates to.
+   * @param formatters The formatters.
+   * @return The formatters.
+   */
+  private static FormatterRegistry checked(FormatterRegistry formatters)
+  {
+    if (formatters == null) { throw new NullPointerException("formatters cannot be null"); }
+
+    return formatters;
   }
 
   /**
@@ -72,7 +137,7 @@ public class DateTimeConverter implements JsonSerializer<DateTime>, JsonDeserial
   @Override
   public JsonElement serialize(DateTime src, Type typeOfSrc, JsonSerializationContext context)
   {
-    return new JsonPrimitive(this.serializeFormatter.print(src));
+    return new JsonPrimitive(print(src));
   }
 
   /**
@@ -94,11 +159,59 @@ public class DateTimeConverter implements JsonSerializer<DateTime>, JsonDeserial
       throws JsonParseException
   {
     // Do not try to deserialize null or empty values
-    if (json.getAsString() == null || json.getAsString().isEmpty())
+    final String text = json.isJsonNull() ? null : json.getAsString();
+    if (text == null || text.isEmpty())
     {
       return null;
     }
 
-    return this.deserializeFormatter.parseDateTime(json.getAsString());
+    return parse(text);
+  }
+
+  /**
+   * Prints the given value as text.
+   * @param src The value to print (never {@code null}).
+   * @return The textual representation of {@code src}.
+   */
+  @Override
+  public String print(DateTime src)
+  {
+    if (this.isoPrinter != null && src.getChronology() instanceof ISOChronology)
+    {
+      final long millis = src.getMillis();
+      final String printed = this.isoPrinter.print(millis, src.getZone().getOffset(millis));
+      if (printed != null)
+      {
+        return printed;
+      }
+    }
+
+    if (this.precision.omitsFraction(src.getMillisOfSecond()) && this.fractionlessPrinter != null)
+    {
+      return this.fractionlessPrinter.print(src);
+    }
+
+    return this.serializeFormatter.print(src);
+  }
+
+  /**
+   * Parses the given text.
+   * @param text The text to parse (never {@code null} or empty).
+   * @return The parsed value.
+   * @throws IllegalArgumentException if the text cannot be parsed.
+   */
+  @Override
+  public DateTime parse(String text)
+  {
+    if (this.isoParser)
+    {
+      final DateTime parsed = IsoDateTimeParser.parseDateTime(text, this.basicParser);
+      if (parsed != null)
+      {
+        return parsed;
+      }
+    }
+
+    return this.deserializeFormatter.parseDateTime(text);
   }
 }
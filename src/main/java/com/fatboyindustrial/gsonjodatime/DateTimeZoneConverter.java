@@ -35,12 +35,43 @@ import com.google.gson.JsonSerializer;
 import org.joda.time.DateTimeZone;
 
 import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * GSON serialiser/deserialiser for converting Joda {@link DateTimeZone} objects.
  */
-public class DateTimeZoneConverter implements JsonSerializer<DateTimeZone>, JsonDeserializer<DateTimeZone>
+public class DateTimeZoneConverter implements JsonSerializer<DateTimeZone>, JsonDeserializer<DateTimeZone>, StringConverter<DateTimeZone>
 {
+  /** Zones already resolved from region IDs, keyed by the ID. */
+  private final ConcurrentMap<String, DateTimeZone> zones;
+
+  /**
+   * Constructor.
+   */
+  public DateTimeZoneConverter()
+  {
+    this(Collections.singleton(DateTimeZone.UTC.getID()));
+  }
+
+  /**
+   * Constructs a converter that resolves the given zone IDs up front, so that values carrying them are never
+   * looked up from the zone provider.
+   * @param zoneIds The IDs of the zones to resolve.
+   * @throws IllegalArgumentException if an ID isn't recognised.
+   */
+  public DateTimeZoneConverter(Iterable<String> zoneIds)
+  {
+    if (zoneIds == null) { throw new NullPointerException("zoneIds cannot be null"); }
+
+    this.zones = new ConcurrentHashMap<String, DateTimeZone>();
+    for (final String zoneId : zoneIds)
+    {
+      this.zones.put(zoneId, DateTimeZone.forID(zoneId));
+    }
+  }
+
   /**
    * Gson invokes this call-back method during serialization when it encounters a field of the
    * specified type. <p>
@@ -57,7 +88,7 @@ public class DateTimeZoneConverter implements JsonSerializer<DateTimeZone>, Json
   @Override
   public JsonElement serialize(DateTimeZone src, Type typeOfSrc, JsonSerializationContext context)
   {
-    return new JsonPrimitive(src.getID());
+    return new JsonPrimitive(print(src));
   }
 
   /**
@@ -79,11 +110,66 @@ public class DateTimeZoneConverter implements JsonSerializer<DateTimeZone>, Json
       throws JsonParseException
   {
     // Do not try to deserialize null or empty values
-    if (json.getAsString() == null || json.getAsString().isEmpty())
+    final String text = json.isJsonNull() ? null : json.getAsString();
+    if (text == null || text.isEmpty())
     {
       return null;
     }
 
-    return DateTimeZone.forID(json.getAsString().trim());
+    return parse(text);
+  }
+
+  /**
+   * Prints the given value as text.
+   * @param src The value to print (never {@code null}).
+   * @return The textual representation of {@code src}.
+   */
+  @Override
+  public String print(DateTimeZone src)
+  {
+    return src.getID();
+  }
+
+  /**
+   * Parses the given text.
+   * @param text The text to parse (never {@code null} or empty).
+   * @return The parsed value.
+   * @throws IllegalArgumentException if the text cannot be parsed.
+   */
+  @Override
+  public DateTimeZone parse(String text)
+  {
+    final String id = text.trim();
+
+    // Offsets are parsed directly; region IDs come from the table, or are resolved once and added to it
+    final DateTimeZone offset = IsoDateTimeParser.parseOffsetZone(id);
+    if (offset != null)
+    {
+      return offset;
+    }
+
+    DateTimeZone zone = this.zones.get(id);
+    if (zone == null)
+    {
+      zone = DateTimeZone.forID(id);
+      if (isRegionId(id))
+      {
+        this.zones.putIfAbsent(id, zone);
+      }
+    }
+
+    return zone;
+  }
+
+  /**
+   * Tests whether the ID names a region rather than an offset.  There are only so many regions, so only these
+   * are added to the table, keeping it bounded.
+   * @param id The zone ID.
+   * @return {@code true} if {@code id} is a region ID.
+   */
+  private static boolean isRegionId(String id)
+  {
+    final char first = id.charAt(0);
+    return first != '+' && first != '-';
   }
 }
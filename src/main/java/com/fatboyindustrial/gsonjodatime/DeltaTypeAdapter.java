@@ -0,0 +1,467 @@
+/*
+ * GSON Joda Time Serialisers
+ *
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjodatime;
+
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeConstants;
+import org.joda.time.DateTimeZone;
+import org.joda.time.Instant;
+import org.joda.time.LocalDate;
+import org.joda.time.chrono.ISOChronology;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Streaming GSON type adapter that writes a list of Joda Time values as a base value and the differences between
+ * consecutive values, in units of the type (millis, or days for dates).  A series with a fixed stride is written
+ * as just its stride and length:
+ * <pre>
+ *   {"base":"2024-01-01T00:00:00.000Z","stride":60000,"count":1440}
+ *   {"base":"2024-01-01T00:00:00.000Z","deltas":[60000,61000,59000]}
+ * </pre>
+ * A {@code DateTime} series also has the {@code "zone"} of its base.  Lists that can't be written this way (those
+ * with {@code null}s, or {@code DateTime}s in different zones) are written as a plain array of textual values,
+ * which is also accepted when reading, as are lists whose base value doesn't parse back to itself (as when the
+ * printer drops the milliseconds).  The values are read straight into the list, without any intermediate
+ * {@link com.google.gson.JsonElement}s.  A fixed stride series read may have at most {@value #MAX_COUNT} values,
+ * so that untrusted input can't demand an arbitrarily large list.
+ * @param <E> The element type.
+ */
+abstract class DeltaTypeAdapter<E> extends TypeAdapter<List<E>>
+{
+  /** The name of the base value. */
+  private static final String BASE = "base";
+
+  /** The name of the zone of a {@code DateTime} base. */
+  private static final String ZONE = "zone";
+
+  /** The name of the fixed stride. */
+  private static final String STRIDE = "stride";
+
+  /** The name of the number of values in a fixed stride series. */
+  private static final String COUNT = "count";
+
+  /** The name of the differences between consecutive values. */
+  private static final String DELTAS = "deltas";
+
+  /** The largest number of values that a fixed stride series read may have. */
+  static final int MAX_COUNT = 1 << 20;
+
+  /** The converter of the base and plain values to and from text. */
+  private final StringConverter<E> converter;
+
+  /**
+   * Constructor.
+   * @param converter The converter of the base and plain values to and from text.
+   */
+  DeltaTypeAdapter(StringConverter<E> converter)
+  {
+    if (converter == null) { throw new NullPointerException("converter cannot be null"); }
+
+    this.converter = converter;
+  }
+
+  /**
+   * Creates an adapter of {@link Instant}s, with deltas in millis.
+   * @param converter The converter to and from text.
+   * @return The adapter.
+   */
+  static DeltaTypeAdapter<Instant> instant(StringConverter<Instant> converter)
+  {
+    return new DeltaTypeAdapter<Instant>(converter)
+    {
+      @Override
+      long units(Instant value)
+      {
+        return value.getMillis();
+      }
+
+      @Override
+      Instant value(long units, Instant base)
+      {
+        return new Instant(units);
+      }
+    };
+  }
+
+  /**
+   * Creates an adapter of {@link DateTime}s, with deltas in millis.  Every value must be in the zone and
+   * chronology of the base.
+   * @param converter The converter to and from text.
+   * @param zoneConverter The converter of the base's zone.
+   * @return The adapter.
+   */
+  static DeltaTypeAdapter<DateTime> dateTime(
+    StringConverter<DateTime> converter,
+    final StringConverter<DateTimeZone> zoneConverter)
+  {
+    if (zoneConverter == null) { throw new NullPointerException("zoneConverter cannot be null"); }
+
+    return new DeltaTypeAdapter<DateTime>(converter)
+    {
+      @Override
+      long units(DateTime value)
+      {
+        return value.getMillis();
+      }
+
+      @Override
+      DateTime value(long units, DateTime base)
+      {
+        return new DateTime(units, base.getChronology());
+      }
+
+      @Override
+      boolean sameSeries(DateTime base, DateTime value)
+      {
+        return value.getChronology().equals(base.getChronology());
+      }
+
+      @Override
+      void writeZone(JsonWriter out, DateTime base) throws IOException
+      {
+        out.name(ZONE).value(zoneConverter.print(base.getZone()));
+      }
+
+      @Override
+      DateTime withZone(DateTime base, String zone)
+      {
+        return base.withZone(zoneConverter.parse(zone));
+      }
+    };
+  }
+
+  /**
+   * Creates an adapter of {@link LocalDate}s, with deltas in days.
+   * @param converter The converter to and from text.
+   * @return The adapter.
+   */
+  static DeltaTypeAdapter<LocalDate> localDate(StringConverter<LocalDate> converter)
+  {
+    return new DeltaTypeAdapter<LocalDate>(converter)
+    {
+      @Override
+      long units(LocalDate value)
+      {
+        return IsoDateTimeParser.epochDay(value.getYear(), value.getMonthOfYear(), value.getDayOfMonth());
+      }
+
+      @Override
+      LocalDate value(long units, LocalDate base)
+      {
+        return new LocalDate(units * DateTimeConstants.MILLIS_PER_DAY, ISOChronology.getInstanceUTC());
+      }
+
+      @Override
+      boolean sameSeries(LocalDate base, LocalDate value)
+      {
+        return value.getChronology() instanceof ISOChronology;
+      }
+    };
+  }
+
+  /**
+   * Gets the position of a value in the series, in the units the deltas are measured in.
+   * @param value The value.
+   * @return The position of the value.
+   */
+  abstract long units(E value);
+
+  /**
+   * Creates the value at a position in the series.
+   * @param units The position of the value.
+   * @param base The base value of the series.
+   * @return The value.
+   */
+  abstract E value(long units, E base);
+
+  /**
+   * Tests whether a value can be recreated from its position and the base value of the series.
+   * @param base The base value of the series.
+   * @param value The value (which may be {@code base} itself).
+   * @return {@code true} if the value can be written as a delta.
+   */
+  boolean sameSeries(E base, E value)
+  {
+    return true;
+  }
+
+  /**
+   * Writes the zone of the base value, if the type has one that its text doesn't retain.
+   * @param out The writer to write to.
+   * @param base The base value of the series.
+   * @throws IOException if the writer fails.
+   */
+  void writeZone(JsonWriter out, E base) throws IOException
+  {
+  }
+
+  /**
+   * Moves the base value into the zone that was written for it.
+   * @param base The base value, as parsed from its text.
+   * @param zone The zone ID.
+   * @return The base value in the zone.
+   */
+  E withZone(E base, String zone)
+  {
+    return base;
+  }
+
+  /**
+   * Writes the list as a delta series where possible, or as a plain array otherwise.
+   * @param out The writer to write to.
+   * @param value The values to write (may be {@code null}).
+   * @throws IOException if the writer fails.
+   */
+  @Override
+  public void write(JsonWriter out, List<E> value) throws IOException
+  {
+    if (value == null)
+    {
+      out.nullValue();
+      return;
+    }
+
+    final int size = value.size();
+    final E base = size == 0 ? null : value.get(0);
+    if (base == null)
+    {
+      writePlain(out, value);
+      return;
+    }
+
+    // Check that every value fits the series, and whether it has a fixed stride
+    final long stride = size > 1 && value.get(1) != null ? units(value.get(1)) - units(base) : 0;
+    boolean fixed = true;
+    long previous = units(base);
+    for (int i = 0; i < size; i++)
+    {
+      final E element = value.get(i);
+      if (element == null || !sameSeries(base, element))
+      {
+        writePlain(out, value);
+        return;
+      }
+
+      final long units = units(element);
+      fixed &= i == 0 || units - previous == stride;
+      previous = units;
+    }
+
+    // The deltas are measured from the base as it's read back, so it must survive printing exactly
+    final String text = this.converter.print(base);
+    if (units(this.converter.parse(text)) != units(base))
+    {
+      writePlain(out, value);
+      return;
+    }
+
+    out.beginObject();
+    out.name(BASE).value(text);
+    writeZone(out, base);
+    // Longer series are written as deltas, so that they're read back despite the limit on the count
+    if (fixed && size <= MAX_COUNT)
+    {
+      out.name(STRIDE).value(stride);
+      out.name(COUNT).value(size);
+    }
+    else
+    {
+      out.name(DELTAS);
+      out.beginArray();
+      previous = units(base);
+      for (int i = 1; i < size; i++)
+      {
+        final long units = units(value.get(i));
+        out.value(units - previous);
+        previous = units;
+      }
+      out.endArray();
+    }
+    out.endObject();
+  }
+
+  /**
+   * Reads a delta series or a plain array of textual values.
+   * @param in The reader to read from.
+   * @return The values, or {@code null} for JSON {@code null}.
+   * @throws IOException if the reader fails.
+   */
+  @Override
+  public List<E> read(JsonReader in) throws IOException
+  {
+    final JsonToken token = in.peek();
+    if (token == JsonToken.NULL)
+    {
+      in.nextNull();
+      return null;
+    }
+
+    if (token == JsonToken.BEGIN_ARRAY)
+    {
+      return readPlain(in);
+    }
+
+    E base = null;
+    String zone = null;
+    long stride = 0;
+    int count = 1;
+    long[] deltas = null;
+    int deltaCount = 0;
+
+    in.beginObject();
+    while (in.hasNext())
+    {
+      final String name = in.nextName();
+      if (BASE.equals(name))
+      {
+        base = this.converter.parse(in.nextString());
+      }
+      else if (ZONE.equals(name))
+      {
+        zone = in.nextString();
+      }
+      else if (STRIDE.equals(name))
+      {
+        stride = in.nextLong();
+      }
+      else if (COUNT.equals(name))
+      {
+        count = in.nextInt();
+      }
+      else if (DELTAS.equals(name))
+      {
+        deltas = new long[16];
+        in.beginArray();
+        while (in.hasNext())
+        {
+          if (deltaCount == deltas.length)
+          {
+            deltas = Arrays.copyOf(deltas, deltaCount * 2);
+          }
+          deltas[deltaCount++] = in.nextLong();
+        }
+        in.endArray();
+      }
+      else
+      {
+        in.skipValue();
+      }
+    }
+    in.endObject();
+
+    if (base == null)
+    {
+      throw new JsonSyntaxException("Missing " + BASE + " value at " + in.getPath());
+    }
+    if (count < 1)
+    {
+      throw new JsonSyntaxException("Invalid " + COUNT + " " + count + " at " + in.getPath());
+    }
+    if (count > MAX_COUNT)
+    {
+      throw new JsonSyntaxException(
+        COUNT + " " + count + " exceeds the maximum of " + MAX_COUNT + " at " + in.getPath());
+    }
+    if (zone != null)
+    {
+      base = withZone(base, zone);
+    }
+
+    final int size = deltas == null ? count : deltaCount + 1;
+    final List<E> values = new ArrayList<E>(size);
+    values.add(base);
+
+    long units = units(base);
+    for (int i = 1; i < size; i++)
+    {
+      units += deltas == null ? stride : deltas[i - 1];
+      values.add(value(units, base));
+    }
+
+    return values;
+  }
+
+  /**
+   * Writes the list as a plain array of textual values.
+   * @param out The writer to write to.
+   * @param value The values to write.
+   * @throws IOException if the writer fails.
+   */
+  private void writePlain(JsonWriter out, List<E> value) throws IOException
+  {
+    out.beginArray();
+    for (final E element : value)
+    {
+      if (element == null)
+      {
+        out.nullValue();
+      }
+      else
+      {
+        out.value(this.converter.print(element));
+      }
+    }
+    out.endArray();
+  }
+
+  /**
+   * Reads a plain array of textual values.
+   * @param in The reader to read from, positioned at the array.
+   * @return The values.
+   * @throws IOException if the reader fails.
+   */
+  private List<E> readPlain(JsonReader in) throws IOException
+  {
+    final List<E> values = new ArrayList<E>();
+
+    in.beginArray();
+    while (in.hasNext())
+    {
+      if (in.peek() == JsonToken.NULL)
+      {
+        in.nextNull();
+        values.add(null);
+        continue;
+      }
+
+      // Do not try to deserialize empty values
+      final String text = in.nextString();
+      values.add(text.isEmpty() ? null : this.converter.parse(text));
+    }
+    in.endArray();
+
+    return values;
+  }
+}
@@ -0,0 +1,109 @@
+/*
+ * GSON Joda Time Serialisers
+ *
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjodatime;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import org.joda.time.DateTime;
+import org.joda.time.Instant;
+import org.joda.time.LocalDate;
+
+/**
+ * A GSON {@link TypeAdapterFactory} that writes lists and arrays of {@link Instant}s, {@link DateTime}s and
+ * {@link LocalDate}s as a base value and the differences between consecutive values, which suits sorted time
+ * series:
+ * <pre>
+ *   {"base":"2024-01-01T00:00:00.000Z","stride":60000,"count":1440}
+ *   {"base":"2024-01-01","deltas":[1,1,3,1]}
+ * </pre>
+ * Instants and date times are measured in millis, and dates in days.  Lists that can't be delta encoded (such as
+ * those containing {@code null}s) are written as plain arrays, which are accepted when reading too.
+ */
+public final class DeltaTypeAdapterFactory implements TypeAdapterFactory
+{
+  /** The adapter of {@code Instant} lists. */
+  private final DeltaTypeAdapter<Instant> instants;
+
+  /** The adapter of {@code DateTime} lists. */
+  private final DeltaTypeAdapter<DateTime> dateTimes;
+
+  /** The adapter of {@code LocalDate} lists. */
+  private final DeltaTypeAdapter<LocalDate> localDates;
+
+  /**
+   * Constructs a factory using the ISO 8601 formatters.
+   */
+  public DeltaTypeAdapterFactory()
+  {
+    this(FormatterRegistry.iso());
+  }
+
+  /**
+   * Constructs a factory using the given formatters.
+   * @param formatters The formatters to print and parse the base values with; base values are always printed
+   *                   with millisecond precision, whatever the precision of the formatters.
+   */
+  public DeltaTypeAdapterFactory(FormatterRegistry formatters)
+  {
+    if (formatters == null) { throw new NullPointerException("formatters cannot be null"); }
+
+    // The deltas are measured to the millisecond, so the base is printed to the millisecond too
+    final FormatterRegistry exact = formatters.withDateTimePrecision(Precision.MILLISECOND)
+                                              .withInstantPrecision(Precision.MILLISECOND);
+    this.instants = DeltaTypeAdapter.instant(new InstantConverter(exact));
+    this.dateTimes = DeltaTypeAdapter.dateTime(new DateTimeConverter(exact), new DateTimeZoneConverter());
+    this.localDates = DeltaTypeAdapter.localDate(new LocalDateConverter(formatters));
+  }
+
+  /**
+   * Returns a type adapter for {@code type}, or {@code null} if this factory doesn't support {@code type}.
+   * @param gson The GSON instance requesting the adapter.
+   * @param type The type to adapt.
+   * @return The adapter, or {@code null}.
+   */
+  @Override
+  public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type)
+  {
+    final Class<?> elementClass = CollectionTypes.elementClass(type);
+
+    if (elementClass == Instant.class)
+    {
+      return CollectionTypes.adapt(type, Instant.class, this.instants);
+    }
+    if (elementClass == DateTime.class)
+    {
+      return CollectionTypes.adapt(type, DateTime.class, this.dateTimes);
+    }
+    if (elementClass == LocalDate.class)
+    {
+      return CollectionTypes.adapt(type, LocalDate.class, this.localDates);
+    }
+
+    return null;
+  }
+}
@@ -39,7 +39,7 @@ import java.lang.reflect.Type;
 /**
  * GSON serialiser/deserialiser for converting Joda {@link Duration} objects.
  */
-public class DurationConverter implements JsonSerializer<Duration>, JsonDeserializer<Duration>
+public class DurationConverter implements JsonSerializer<Duration>, JsonDeserializer<Duration>, StringConverter<Duration>
 {
   /**
    * Gson invokes this call-back method during serialization when it encounters a field of the
@@ -57,7 +57,7 @@ public class DurationConverter implements JsonSerializer<Duration>, JsonDeserial
   @Override
   public JsonElement serialize(Duration src, Type typeOfSrc, JsonSerializationContext context)
   {
-    return new JsonPrimitive(src.toString());
+    return new JsonPrimitive(print(src));
   }
 
   /**
@@ -79,11 +79,35 @@ public class DurationConverter implements JsonSerializer<Duration>, JsonDeserial
       throws JsonParseException
   {
     // Do not try to deserialize null or empty values
-    if (json.getAsString() == null || json.getAsString().isEmpty())
+    final String text = json.isJsonNull() ? null : json.getAsString();
+    if (text == null || text.isEmpty())
     {
       return null;
     }
 
-    return Duration.parse(json.getAsString());
+    return parse(text);
+  }
+
+  /**
+   * Prints the given value as text.
+   * @param src The value to print (never {@code null}).
+   * @return The textual representation of {@code src}.
+   */
+  @Override
+  public String print(Duration src)
+  {
+    return src.toString();
+  }
+
+  /**
+   * Parses the given text.
+   * @param text The text to parse (never {@code null} or empty).
+   * @return The parsed value.
+   * @throws IllegalArgumentException if the text cannot be parsed.
+   */
+  @Override
+  public Duration parse(String text)
+  {
+    return Duration.parse(text);
   }
 }
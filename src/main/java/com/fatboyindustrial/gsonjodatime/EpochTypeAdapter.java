@@ -0,0 +1,299 @@
+/*
+ * GSON Joda Time Serialisers
+ *
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjodatime;
+
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeConstants;
+import org.joda.time.DateTimeZone;
+import org.joda.time.Duration;
+import org.joda.time.Instant;
+import org.joda.time.Interval;
+import org.joda.time.LocalDate;
+import org.joda.time.LocalTime;
+import org.joda.time.chrono.ISOChronology;
+
+import java.io.IOException;
+
+/**
+ * Streaming GSON type adapter that writes a Joda Time entity as a JSON number (or, for an {@link Interval}, an
+ * array of two numbers) measured from the epoch.  Both the numeric form and the textual form of the
+ * {@link StringConverter} are accepted when reading, so producers and consumers can switch independently.
+ * JSON {@code null} and the empty string both read as {@code null}.
+ * @param <T> The Joda Time type being converted.
+ */
+abstract class EpochTypeAdapter<T> extends TypeAdapter<T>
+{
+  /** The earliest epoch day that the ISO chronology supports. */
+  static final long MIN_EPOCH_DAY =
+    IsoDateTimeParser.epochDay(ISOChronology.getInstanceUTC().year().getMinimumValue(), 1, 1);
+
+  /** The latest epoch day that the ISO chronology supports. */
+  static final long MAX_EPOCH_DAY =
+    IsoDateTimeParser.epochDay(ISOChronology.getInstanceUTC().year().getMaximumValue(), 12, 31);
+
+  /** The converter to and from text. */
+  private final StringConverter<T> converter;
+
+  /**
+   * Constructor.
+   * @param converter The converter to and from text.
+   */
+  EpochTypeAdapter(StringConverter<T> converter)
+  {
+    if (converter == null) { throw new NullPointerException("converter cannot be null"); }
+
+    this.converter = converter;
+  }
+
+  /**
+   * Creates an adapter that encodes an {@link Instant} as epoch millis.
+   * @param converter The converter to and from text.
+   * @return The adapter.
+   */
+  static EpochTypeAdapter<Instant> instant(StringConverter<Instant> converter)
+  {
+    return new EpochTypeAdapter<Instant>(converter)
+    {
+      @Override
+      void writeNumber(JsonWriter out, Instant value) throws IOException
+      {
+        out.value(value.getMillis());
+      }
+
+      @Override
+      Instant readNumber(JsonReader in) throws IOException
+      {
+        return new Instant(in.nextLong());
+      }
+    };
+  }
+
+  /**
+   * Creates an adapter that encodes a {@link DateTime} as epoch millis.  Numeric values read back in UTC.
+   * @param converter The converter to and from text.
+   * @return The adapter.
+   */
+  static EpochTypeAdapter<DateTime> dateTime(StringConverter<DateTime> converter)
+  {
+    return new EpochTypeAdapter<DateTime>(converter)
+    {
+      @Override
+      void writeNumber(JsonWriter out, DateTime value) throws IOException
+      {
+        out.value(value.getMillis());
+      }
+
+      @Override
+      DateTime readNumber(JsonReader in) throws IOException
+      {
+        return new DateTime(in.nextLong(), DateTimeZone.UTC);
+      }
+    };
+  }
+
+  /**
+   * Creates an adapter that encodes a {@link LocalDate} as the number of days since 1970-01-01.
+   * @param converter The converter to and from text.
+   * @return The adapter.
+   */
+  static EpochTypeAdapter<LocalDate> localDate(StringConverter<LocalDate> converter)
+  {
+    return new EpochTypeAdapter<LocalDate>(converter)
+    {
+      @Override
+      void writeNumber(JsonWriter out, LocalDate value) throws IOException
+      {
+        out.value(IsoDateTimeParser.epochDay(value.getYear(), value.getMonthOfYear(), value.getDayOfMonth()));
+      }
+
+      @Override
+      LocalDate readNumber(JsonReader in) throws IOException
+      {
+        final long days = in.nextLong();
+        if (days < MIN_EPOCH_DAY || days > MAX_EPOCH_DAY)
+        {
+          throw new JsonSyntaxException("epoch day " + days + " is out of range at " + in.getPath());
+        }
+
+        return new LocalDate(days * DateTimeConstants.MILLIS_PER_DAY, ISOChronology.getInstanceUTC());
+      }
+    };
+  }
+
+  /**
+   * Creates an adapter that encodes a {@link LocalTime} as the millis of the day.
+   * @param converter The converter to and from text.
+   * @return The adapter.
+   */
+  static EpochTypeAdapter<LocalTime> localTime(StringConverter<LocalTime> converter)
+  {
+    return new EpochTypeAdapter<LocalTime>(converter)
+    {
+      @Override
+      void writeNumber(JsonWriter out, LocalTime value) throws IOException
+      {
+        out.value(value.getMillisOfDay());
+      }
+
+      @Override
+      LocalTime readNumber(JsonReader in) throws IOException
+      {
+        final long millis = in.nextLong();
+        if (millis < 0 || millis >= DateTimeConstants.MILLIS_PER_DAY)
+        {
+          throw new JsonSyntaxException("millis of day " + millis + " is out of range at " + in.getPath());
+        }
+
+        return LocalTime.fromMillisOfDay(millis);
+      }
+    };
+  }
+
+  /**
+   * Creates an adapter that encodes a {@link Duration} as millis.
+   * @param converter The converter to and from text.
+   * @return The adapter.
+   */
+  static EpochTypeAdapter<Duration> duration(StringConverter<Duration> converter)
+  {
+    return new EpochTypeAdapter<Duration>(converter)
+    {
+      @Override
+      void writeNumber(JsonWriter out, Duration value) throws IOException
+      {
+        out.value(value.getMillis());
+      }
+
+      @Override
+      Duration readNumber(JsonReader in) throws IOException
+      {
+        return new Duration(in.nextLong());
+      }
+    };
+  }
+
+  /**
+   * Creates an adapter that encodes an {@link Interval} as an array of its start and end epoch millis.
+   * Numeric values read back in the default zone, as textual values do.
+   * @param converter The converter to and from text.
+   * @return The adapter.
+   */
+  static EpochTypeAdapter<Interval> interval(StringConverter<Interval> converter)
+  {
+    return new EpochTypeAdapter<Interval>(converter)
+    {
+      @Override
+      void writeNumber(JsonWriter out, Interval value) throws IOException
+      {
+        out.beginArray();
+        out.value(value.getStartMillis());
+        out.value(value.getEndMillis());
+        out.endArray();
+      }
+
+      @Override
+      Interval readNumber(JsonReader in) throws IOException
+      {
+        in.beginArray();
+        final long start = in.nextLong();
+        final long end = in.nextLong();
+        in.endArray();
+
+        return new Interval(start, end);
+      }
+    };
+  }
+
+  /**
+   * Writes the numeric form of a value.
+   * @param out The writer to write to.
+   * @param value The value to write (never {@code null}).
+   * @throws IOException if the writer fails.
+   */
+  abstract void writeNumber(JsonWriter out, T value) throws IOException;
+
+  /**
+   * Reads the numeric form of a value.
+   * @param in The reader to read from, positioned at a number or array.
+   * @return The value read.
+   * @throws IOException if the reader fails.
+   */
+  abstract T readNumber(JsonReader in) throws IOException;
+
+  /**
+   * Writes one JSON value for {@code value}.
+   * @param out The writer to write to.
+   * @param value The value to write (may be {@code null}).
+   * @throws IOException if the writer fails.
+   */
+  @Override
+  public void write(JsonWriter out, T value) throws IOException
+  {
+    if (value == null)
+    {
+      out.nullValue();
+      return;
+    }
+
+    writeNumber(out, value);
+  }
+
+  /**
+   * Reads one JSON value, in either numeric or textual form, and converts it to a Joda Time entity.
+   * @param in The reader to read from.
+   * @return The converted value, or {@code null} for JSON {@code null} or an empty string.
+   * @throws IOException if the reader fails.
+   */
+  @Override
+  public T read(JsonReader in) throws IOException
+  {
+    final JsonToken token = in.peek();
+    if (token == JsonToken.NULL)
+    {
+      in.nextNull();
+      return null;
+    }
+
+    if (token != JsonToken.STRING)
+    {
+      return readNumber(in);
+    }
+
+    // Do not try to deserialize empty values
+    final String text = in.nextString();
+    if (text.isEmpty())
+    {
+      return null;
+    }
+
+    return this.converter.parse(text);
+  }
+}
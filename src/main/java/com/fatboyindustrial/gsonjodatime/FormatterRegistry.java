@@ -0,0 +1,609 @@
+/*
+ * GSON Joda Time Serialisers
+ *
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjodatime;
+
+import org.joda.time.format.DateTimeFormat;
+import org.joda.time.format.DateTimeFormatter;
+import org.joda.time.format.DateTimeFormatterBuilder;
+import org.joda.time.format.DateTimeParser;
+import org.joda.time.format.ISODateTimeFormat;
+import org.joda.time.format.ISOPeriodFormat;
+import org.joda.time.format.PeriodFormatter;
+
+/**
+ * An immutable set of compiled formatters, one per Joda Time type, that is injected into the converters.  Every
+ * formatter is compiled when the registry is built, so that converting a value never looks up a formatter or
+ * compiles a pattern. <p>
+ *
+ * Start from {@link #iso()} (or {@link #isoBasic()} for the compact basic format) and override the formatters,
+ * or the precision, of individual types with the {@code with} methods, each of which returns a new registry:
+ * <pre>
+ *   final FormatterRegistry formatters = FormatterRegistry.iso()
+ *     .withLocalDatePattern("dd/MM/yyyy")
+ *     .withInstantPrecision(Precision.SECOND);
+ *   final Gson gson = Converters.registerAll(new GsonBuilder(), formatters).create();
+ * </pre>
+ */
+public final class FormatterRegistry
+{
+  /** The default {@code DateTime} printer. */
+  static final DateTimeFormatter ISO_DATE_TIME_PRINTER = ISODateTimeFormat.dateTime();
+
+  /** The default {@code DateTime} parser, which retains the parsed offset. */
+  static final DateTimeFormatter ISO_DATE_TIME_PARSER = ISODateTimeFormat.dateTimeParser().withOffsetParsed();
+
+  /** The default {@code Instant} printer. */
+  static final DateTimeFormatter ISO_INSTANT_PRINTER = ISODateTimeFormat.dateTime().withZoneUTC();
+
+  /** The default {@code Instant} parser. */
+  static final DateTimeFormatter ISO_INSTANT_PARSER = ISODateTimeFormat.dateTimeParser().withZoneUTC();
+
+  /** The default {@code LocalDate} formatter. */
+  static final DateTimeFormatter ISO_LOCAL_DATE_FORMATTER = DateTimeFormat.forPattern("yyyy-MM-dd");
+
+  /** The default {@code LocalDateTime} formatter, which also parses values printed without the fraction. */
+  static final DateTimeFormatter ISO_LOCAL_DATE_TIME_FORMATTER = either(
+    DateTimeFormat.forPattern("yyyy-MM-dd'T'HH:mm:ss.SSS"),
+    DateTimeFormat.forPattern("yyyy-MM-dd'T'HH:mm:ss.SSS"),
+    DateTimeFormat.forPattern("yyyy-MM-dd'T'HH:mm:ss"));
+
+  /** The default {@code LocalTime} formatter. */
+  static final DateTimeFormatter ISO_LOCAL_TIME_FORMATTER =
+    either(ISODateTimeFormat.time(), ISODateTimeFormat.localTimeParser());
+
+  /** The basic format {@code DateTime} printer. */
+  static final DateTimeFormatter BASIC_DATE_TIME_PRINTER = ISODateTimeFormat.basicDateTime();
+
+  /** The basic format {@code DateTime} parser, which also accepts the extended format. */
+  static final DateTimeFormatter BASIC_DATE_TIME_PARSER = either(
+    ISODateTimeFormat.basicDateTime(),
+    ISODateTimeFormat.basicDateTime(),
+    ISODateTimeFormat.basicDateTimeNoMillis(),
+    ISODateTimeFormat.dateTimeParser()).withOffsetParsed();
+
+  /** The basic format {@code Instant} printer. */
+  static final DateTimeFormatter BASIC_INSTANT_PRINTER = BASIC_DATE_TIME_PRINTER.withZoneUTC();
+
+  /** The basic format {@code Instant} parser, which also accepts the extended format. */
+  static final DateTimeFormatter BASIC_INSTANT_PARSER = BASIC_DATE_TIME_PARSER.withZoneUTC();
+
+  /** The basic format {@code LocalDate} formatter, which also parses the extended format. */
+  static final DateTimeFormatter BASIC_LOCAL_DATE_FORMATTER =
+    either(ISODateTimeFormat.basicDate(), ISODateTimeFormat.basicDate(), ISO_LOCAL_DATE_FORMATTER);
+
+  /**
+   * The basic format {@code LocalDateTime} formatter, which also parses the extended format, and values printed
+   * without the fraction.
+   */
+  static final DateTimeFormatter BASIC_LOCAL_DATE_TIME_FORMATTER = either(
+    DateTimeFormat.forPattern("yyyyMMdd'T'HHmmss.SSS"),
+    DateTimeFormat.forPattern("yyyyMMdd'T'HHmmss.SSS"),
+    DateTimeFormat.forPattern("yyyyMMdd'T'HHmmss"),
+    ISO_LOCAL_DATE_TIME_FORMATTER);
+
+  /**
+   * The basic format {@code LocalTime} formatter, which also parses the extended format, and values printed
+   * without the fraction.
+   */
+  static final DateTimeFormatter BASIC_LOCAL_TIME_FORMATTER = either(
+    DateTimeFormat.forPattern("HHmmss.SSS"),
+    DateTimeFormat.forPattern("HHmmss.SSS"),
+    DateTimeFormat.forPattern("HHmmss"),
+    ISODateTimeFormat.localTimeParser());
+
+  /** The ISO 8601 formatters. */
+  private static final FormatterRegistry ISO = new FormatterRegistry(
+    ISODateTimeFormat.dateTime(),
+    ISO_DATE_TIME_PRINTER,
+    ISO_DATE_TIME_PARSER,
+    ISO_INSTANT_PRINTER,
+    ISO_INSTANT_PARSER,
+    ISO_LOCAL_DATE_FORMATTER,
+    ISO_LOCAL_DATE_TIME_FORMATTER,
+    ISO_LOCAL_TIME_FORMATTER,
+    ISOPeriodFormat.standard(),
+    Precision.MILLISECOND,
+    Precision.MILLISECOND,
+    Precision.MILLISECOND,
+    Precision.MILLISECOND);
+
+  /** The ISO 8601 basic format formatters. */
+  private static final FormatterRegistry ISO_BASIC = new FormatterRegistry(
+    either(
+      ISODateTimeFormat.basicDateTime(),
+      ISODateTimeFormat.basicDateTime(),
+      ISODateTimeFormat.basicDateTimeNoMillis(),
+      ISODateTimeFormat.dateTime()),
+    BASIC_DATE_TIME_PRINTER,
+    BASIC_DATE_TIME_PARSER,
+    BASIC_INSTANT_PRINTER,
+    BASIC_INSTANT_PARSER,
+    BASIC_LOCAL_DATE_FORMATTER,
+    BASIC_LOCAL_DATE_TIME_FORMATTER,
+    BASIC_LOCAL_TIME_FORMATTER,
+    ISOPeriodFormat.standard(),
+    Precision.MILLISECOND,
+    Precision.MILLISECOND,
+    Precision.MILLISECOND,
+    Precision.MILLISECOND);
+
+  private final DateTimeFormatter dateMidnightFormatter;
+  private final DateTimeFormatter dateTimePrinter;
+  private final DateTimeFormatter dateTimeParser;
+  private final DateTimeFormatter instantPrinter;
+  private final DateTimeFormatter instantParser;
+  private final DateTimeFormatter localDateFormatter;
+  private final DateTimeFormatter localDateTimeFormatter;
+  private final DateTimeFormatter localTimeFormatter;
+  private final PeriodFormatter periodFormatter;
+  private final Precision dateTimePrecision;
+  private final Precision instantPrecision;
+  private final Precision localDateTimePrecision;
+  private final Precision localTimePrecision;
+
+  private FormatterRegistry(
+    DateTimeFormatter dateMidnightFormatter,
+    DateTimeFormatter dateTimePrinter,
+    DateTimeFormatter dateTimeParser,
+    DateTimeFormatter instantPrinter,
+    DateTimeFormatter instantParser,
+    DateTimeFormatter localDateFormatter,
+    DateTimeFormatter localDateTimeFormatter,
+    DateTimeFormatter localTimeFormatter,
+    PeriodFormatter periodFormatter,
+    Precision dateTimePrecision,
+    Precision instantPrecision,
+    Precision localDateTimePrecision,
+    Precision localTimePrecision)
+  {
+    this.dateMidnightFormatter = dateMidnightFormatter;
+    this.dateTimePrinter = dateTimePrinter;
+    this.dateTimeParser = dateTimeParser;
+    this.instantPrinter = instantPrinter;
+    this.instantParser = instantParser;
+    this.localDateFormatter = localDateFormatter;
+    this.localDateTimeFormatter = localDateTimeFormatter;
+    this.localTimeFormatter = localTimeFormatter;
+    this.periodFormatter = periodFormatter;
+    this.dateTimePrecision = dateTimePrecision;
+    this.instantPrecision = instantPrecision;
+    this.localDateTimePrecision = localDateTimePrecision;
+    this.localTimePrecision = localTimePrecision;
+  }
+
+  /**
+   * Gets the registry of ISO 8601 formatters used by default.
+   * @return The ISO 8601 formatters.
+   */
+  public static FormatterRegistry iso()
+  {
+    return ISO;
+  }
+
+  /**
+   * Gets the registry of ISO 8601 basic format formatters, such as {@code 20240101T101500.123Z} for a
+   * {@code DateTime} and {@code 20240101} for a {@code LocalDate}.  The parsers accept both the basic and the
+   * extended format.  {@code Period} values have only one ISO 8601 format, which is used as is.
+   * @return The ISO 8601 basic format formatters.
+   */
+  public static FormatterRegistry isoBasic()
+  {
+    return ISO_BASIC;
+  }
+
+  /**
+   * Returns a copy of this registry using the given formatter for {@code DateMidnight} values.
+   * @param formatter The formatter to print and parse with.
+   * @return A new registry.
+   */
+  public FormatterRegistry withDateMidnight(DateTimeFormatter formatter)
+  {
+    if (formatter == null) { throw new NullPointerException("formatter cannot be null"); }
+
+    return new FormatterRegistry(
+      formatter, this.dateTimePrinter, this.dateTimeParser, this.instantPrinter, this.instantParser,
+      this.localDateFormatter, this.localDateTimeFormatter, this.localTimeFormatter, this.periodFormatter,
+      this.dateTimePrecision, this.instantPrecision, this.localDateTimePrecision, this.localTimePrecision);
+  }
+
+  /**
+   * Returns a copy of this registry using the given pattern for {@code DateMidnight} values.
+   * @param pattern The {@link DateTimeFormat} pattern to print and parse with.
+   * @return A new registry.
+   */
+  public FormatterRegistry withDateMidnightPattern(String pattern)
+  {
+    if (pattern == null) { throw new NullPointerException("pattern cannot be null"); }
+
+    return withDateMidnight(DateTimeFormat.forPattern(pattern));
+  }
+
+  /**
+   * Returns a copy of this registry using the given formatters for {@code DateTime} values.
+   * @param printer The formatter to print with.
+   * @param parser The formatter to parse with.
+   * @return A new registry.
+   */
+  public FormatterRegistry withDateTime(DateTimeFormatter printer, DateTimeFormatter parser)
+  {
+    if (printer == null) { throw new NullPointerException("printer cannot be null"); }
+    if (parser == null) { throw new NullPointerException("parser cannot be null"); }
+
+    return new FormatterRegistry(
+      this.dateMidnightFormatter, printer, parser, this.instantPrinter, this.instantParser,
+      this.localDateFormatter, this.localDateTimeFormatter, this.localTimeFormatter, this.periodFormatter,
+      this.dateTimePrecision, this.instantPrecision, this.localDateTimePrecision, this.localTimePrecision);
+  }
+
+  /**
+   * Returns a copy of this registry using the given pattern for {@code DateTime} values.  Parsed values retain
+   * the parsed offset, if the pattern has one.
+   * @param pattern The {@link DateTimeFormat} pattern to print and parse with.
+   * @return A new registry.
+   */
+  public FormatterRegistry withDateTimePattern(String pattern)
+  {
+    if (pattern == null) { throw new NullPointerException("pattern cannot be null"); }
+
+    final DateTimeFormatter formatter = DateTimeFormat.forPattern(pattern);
+    return withDateTime(formatter, formatter.withOffsetParsed());
+  }
+
+  /**
+   * Returns a copy of this registry using the given formatters for {@code Instant} values.
+   * @param printer The formatter to print with.
+   * @param parser The formatter to parse with.
+   * @return A new registry.
+   */
+  public FormatterRegistry withInstant(DateTimeFormatter printer, DateTimeFormatter parser)
+  {
+    if (printer == null) { throw new NullPointerException("printer cannot be null"); }
+    if (parser == null) { throw new NullPointerException("parser cannot be null"); }
+
+    return new FormatterRegistry(
+      this.dateMidnightFormatter, this.dateTimePrinter, this.dateTimeParser, printer, parser,
+      this.localDateFormatter, this.localDateTimeFormatter, this.localTimeFormatter, this.periodFormatter,
+      this.dateTimePrecision, this.instantPrecision, this.localDateTimePrecision, this.localTimePrecision);
+  }
+
+  /**
+   * Returns a copy of this registry using the given pattern, in UTC, for {@code Instant} values.
+   * @param pattern The {@link DateTimeFormat} pattern to print and parse with.
+   * @return A new registry.
+   */
+  public FormatterRegistry withInstantPattern(String pattern)
+  {
+    if (pattern == null) { throw new NullPointerException("pattern cannot be null"); }
+
+    final DateTimeFormatter formatter = DateTimeFormat.forPattern(pattern).withZoneUTC();
+    return withInstant(formatter, formatter);
+  }
+
+  /**
+   * Returns a copy of this registry using the given formatter for {@code LocalDate} values.
+   * @param formatter The formatter to print and parse with.
+   * @return A new registry.
+   */
+  public FormatterRegistry withLocalDate(DateTimeFormatter formatter)
+  {
+    if (formatter == null) { throw new NullPointerException("formatter cannot be null"); }
+
+    return new FormatterRegistry(
+      this.dateMidnightFormatter, this.dateTimePrinter, this.dateTimeParser, this.instantPrinter, this.instantParser,
+      formatter, this.localDateTimeFormatter, this.localTimeFormatter, this.periodFormatter,
+      this.dateTimePrecision, this.instantPrecision, this.localDateTimePrecision, this.localTimePrecision);
+  }
+
+  /**
+   * Returns a copy of this registry using the given pattern for {@code LocalDate} values.
+   * @param pattern The {@link DateTimeFormat} pattern to print and parse with.
+   * @return A new registry.
+   */
+  public FormatterRegistry withLocalDatePattern(String pattern)
+  {
+    if (pattern == null) { throw new NullPointerException("pattern cannot be null"); }
+
+    return withLocalDate(DateTimeFormat.forPattern(pattern));
+  }
+
+  /**
+   * Returns a copy of this registry using the given formatter for {@code LocalDateTime} values.
+   * @param formatter The formatter to print and parse with.
+   * @return A new registry.
+   */
+  public FormatterRegistry withLocalDateTime(DateTimeFormatter formatter)
+  {
+    if (formatter == null) { throw new NullPointerException("formatter cannot be null"); }
+
+    return new FormatterRegistry(
+      this.dateMidnightFormatter, this.dateTimePrinter, this.dateTimeParser, this.instantPrinter, this.instantParser,
+      this.localDateFormatter, formatter, this.localTimeFormatter, this.periodFormatter,
+      this.dateTimePrecision, this.instantPrecision, this.localDateTimePrecision, this.localTimePrecision);
+  }
+
+  /**
+   * Returns a copy of this registry using the given pattern for {@code LocalDateTime} values.
+   * @param pattern The {@link DateTimeFormat} pattern to print and parse with.
+   * @return A new registry.
+   */
+  public FormatterRegistry withLocalDateTimePattern(String pattern)
+  {
+    if (pattern == null) { throw new NullPointerException("pattern cannot be null"); }
+
+    return withLocalDateTime(DateTimeFormat.forPattern(pattern));
+  }
+
+  /**
+   * Returns a copy of this registry using the given formatter for {@code LocalTime} values.
+   * @param formatter The formatter to print and parse with.
+   * @return A new registry.
+   */
+  public FormatterRegistry withLocalTime(DateTimeFormatter formatter)
+  {
+    if (formatter == null) { throw new NullPointerException("formatter cannot be null"); }
+
+    return new FormatterRegistry(
+      this.dateMidnightFormatter, this.dateTimePrinter, this.dateTimeParser, this.instantPrinter, this.instantParser,
+      this.localDateFormatter, this.localDateTimeFormatter, formatter, this.periodFormatter,
+      this.dateTimePrecision, this.instantPrecision, this.localDateTimePrecision, this.localTimePrecision);
+  }
+
+  /**
+   * Returns a copy of this registry using the given pattern for {@code LocalTime} values.
+   * @param pattern The {@link DateTimeFormat} pattern to print and parse with.
+   * @return A new registry.
+   */
+  public FormatterRegistry withLocalTimePattern(String pattern)
+  {
+    if (pattern == null) { throw new NullPointerException("pattern cannot be null"); }
+
+    return withLocalTime(DateTimeFormat.forPattern(pattern));
+  }
+
+  /**
+   * Returns a copy of this registry using the given formatter for {@code Period} values.
+   * @param formatter The formatter to print and parse with.
+   * @return A new registry.
+   */
+  public FormatterRegistry withPeriod(PeriodFormatter formatter)
+  {
+    if (formatter == null) { throw new NullPointerException("formatter cannot be null"); }
+
+    return new FormatterRegistry(
+      this.dateMidnightFormatter, this.dateTimePrinter, this.dateTimeParser, this.instantPrinter, this.instantParser,
+      this.localDateFormatter, this.localDateTimeFormatter, this.localTimeFormatter, formatter,
+      this.dateTimePrecision, this.instantPrecision, this.localDateTimePrecision, this.localTimePrecision);
+  }
+
+  /**
+   * Returns a copy of this registry printing {@code DateTime}, {@code Instant}, {@code LocalDateTime} and
+   * {@code LocalTime} values with the given precision.
+   * @param precision The precision to print with.
+   * @return A new registry.
+   * @see #withDateTimePrecision(Precision)
+   */
+  public FormatterRegistry withPrecision(Precision precision)
+  {
+    if (precision == null) { throw new NullPointerException("precision cannot be null"); }
+
+    return new FormatterRegistry(
+      this.dateMidnightFormatter, this.dateTimePrinter, this.dateTimeParser, this.instantPrinter, this.instantParser,
+      this.localDateFormatter, this.localDateTimeFormatter, this.localTimeFormatter, this.periodFormatter,
+      precision, precision, precision, precision);
+  }
+
+  /**
+   * Returns a copy of this registry printing {@code DateTime} values with the given precision.  The precision
+   * applies to the ISO 8601 formatters (basic or extended) only; a formatter given to
+   * {@link #withDateTime(DateTimeFormatter, DateTimeFormatter)} or {@link #withDateTimePattern(String)} prints
+   * exactly what it was built to print.  Parsing accepts any precision.
+   * @param precision The precision to print with.
+   * @return A new registry.
+   */
+  public FormatterRegistry withDateTimePrecision(Precision precision)
+  {
+    if (precision == null) { throw new NullPointerException("precision cannot be null"); }
+
+    return new FormatterRegistry(
+      this.dateMidnightFormatter, this.dateTimePrinter, this.dateTimeParser, this.instantPrinter, this.instantParser,
+      this.localDateFormatter, this.localDateTimeFormatter, this.localTimeFormatter, this.periodFormatter,
+      precision, this.instantPrecision, this.localDateTimePrecision, this.localTimePrecision);
+  }
+
+  /**
+   * Returns a copy of this registry printing {@code Instant} values with the given precision.
+   * @param precision The precision to print with.
+   * @return A new registry.
+   * @see #withDateTimePrecision(Precision)
+   */
+  public FormatterRegistry withInstantPrecision(Precision precision)
+  {
+    if (precision == null) { throw new NullPointerException("precision cannot be null"); }
+
+    return new FormatterRegistry(
+      this.dateMidnightFormatter, this.dateTimePrinter, this.dateTimeParser, this.instantPrinter, this.instantParser,
+      this.localDateFormatter, this.localDateTimeFormatter, this.localTimeFormatter, this.periodFormatter,
+      this.dateTimePrecision, precision, this.localDateTimePrecision, this.localTimePrecision);
+  }
+
+  /**
+   * Returns a copy of this registry printing {@code LocalDateTime} values with the given precision.
+   * @param precision The precision to print with.
+   * @return A new registry.
+   * @see #withDateTimePrecision(Precision)
+   */
+  public FormatterRegistry withLocalDateTimePrecision(Precision precision)
+  {
+    if (precision == null) { throw new NullPointerException("precision cannot be null"); }
+
+    return new FormatterRegistry(
+      this.dateMidnightFormatter, this.dateTimePrinter, this.dateTimeParser, this.instantPrinter, this.instantParser,
+      this.localDateFormatter, this.localDateTimeFormatter, this.localTimeFormatter, this.periodFormatter,
+      this.dateTimePrecision, this.instantPrecision, precision, this.localTimePrecision);
+  }
+
+  /**
+   * Returns a copy of this registry printing {@code LocalTime} values with the given precision.
+   * @param precision The precision to print with.
+   * @return A new registry.
+   * @see #withDateTimePrecision(Precision)
+   */
+  public FormatterRegistry withLocalTimePrecision(Precision precision)
+  {
+    if (precision == null) { throw new NullPointerException("precision cannot be null"); }
+
+    return new FormatterRegistry(
+      this.dateMidnightFormatter, this.dateTimePrinter, this.dateTimeParser, this.instantPrinter, this.instantParser,
+      this.localDateFormatter, this.localDateTimeFormatter, this.localTimeFormatter, this.periodFormatter,
+      this.dateTimePrecision, this.instantPrecision, this.localDateTimePrecision, precision);
+  }
+
+  DateTimeFormatter dateMidnightFormatter()
+  {
+    return this.dateMidnightFormatter;
+  }
+
+  DateTimeFormatter dateTimePrinter()
+  {
+    return this.dateTimePrinter;
+  }
+
+  DateTimeFormatter dateTimeParser()
+  {
+    return this.dateTimeParser;
+  }
+
+  DateTimeFormatter instantPrinter()
+  {
+    return this.instantPrinter;
+  }
+
+  DateTimeFormatter instantParser()
+  {
+    return this.instantParser;
+  }
+
+  DateTimeFormatter localDateFormatter()
+  {
+    return this.localDateFormatter;
+  }
+
+  DateTimeFormatter localDateTimeFormatter()
+  {
+    return this.localDateTimeFormatter;
+  }
+
+  DateTimeFormatter localTimeFormatter()
+  {
+    return this.localTimeFormatter;
+  }
+
+  PeriodFormatter periodFormatter()
+  {
+    return this.periodFormatter;
+  }
+
+  Precision dateTimePrecision()
+  {
+    return this.dateTimePrecision;
+  }
+
+  Precision instantPrecision()
+  {
+    return this.instantPrecision;
+  }
+
+  Precision localDateTimePrecision()
+  {
+    return this.localDateTimePrecision;
+  }
+
+  Precision localTimePrecision()
+  {
+    return this.localTimePrecision;
+  }
+
+  /**
+   * Gets the formatter that prints the same as one of the ISO 8601 printers, but without the fraction of the
+   * second, for values that the fixed-width printer declines.
+   * @param printer The printer.
+   * @return The formatter without the fraction, or {@code null} if {@code printer} isn't an ISO 8601 printer.
+   */
+  static DateTimeFormatter withoutFraction(DateTimeFormatter printer)
+  {
+    if (printer == ISO_DATE_TIME_PRINTER)
+    {
+      return ISODateTimeFormat.dateTimeNoMillis();
+    }
+    if (printer == BASIC_DATE_TIME_PRINTER)
+    {
+      return ISODateTimeFormat.basicDateTimeNoMillis();
+    }
+    if (printer == ISO_INSTANT_PRINTER)
+    {
+      return ISODateTimeFormat.dateTimeNoMillis().withZoneUTC();
+    }
+    if (printer == BASIC_INSTANT_PRINTER)
+    {
+      return ISODateTimeFormat.basicDateTimeNoMillis().withZoneUTC();
+    }
+    if (printer == ISO_LOCAL_DATE_TIME_FORMATTER)
+    {
+      return DateTimeFormat.forPattern("yyyy-MM-dd'T'HH:mm:ss");
+    }
+    if (printer == BASIC_LOCAL_DATE_TIME_FORMATTER)
+    {
+      return DateTimeFormat.forPattern("yyyyMMdd'T'HHmmss");
+    }
+    if (printer == ISO_LOCAL_TIME_FORMATTER)
+    {
+      return DateTimeFormat.forPattern("HH:mm:ss");
+    }
+    if (printer == BASIC_LOCAL_TIME_FORMATTER)
+    {
+      return DateTimeFormat.forPattern("HHmmss");
+    }
+
+    return null;
+  }
+
+  /**
+   * Combines a printer with a choice of parsers, the longest successful parse of which is used.
+   * @param printer The formatter to print with.
+   * @param parsers The formatters to parse with.
+   * @return The combined formatter.
+   */
+  private static DateTimeFormatter either(DateTimeFormatter printer, DateTimeFormatter... parsers)
+  {
+    final DateTimeParser[] choices = new DateTimeParser[parsers.length];
+    for (int i = 0; i < parsers.length; i++)
+    {
+      choices[i] = parsers[i].getParser();
+    }
+
+    return new DateTimeFormatterBuilder().append(printer.getPrinter(), choices).toFormatter();
+  }
+}
@@ -32,21 +32,61 @@ import com.google.gson.JsonParseException;
 import com.google.gson.JsonPrimitive;
 import com.google.gson.JsonSerializationContext;
 import com.google.gson.JsonSerializer;
+import org.joda.time.DateTimeFieldType;
 import org.joda.time.Instant;
 import org.joda.time.format.DateTimeFormatter;
-import org.joda.time.format.ISODateTimeFormat;
 
 import java.lang.reflect.Type;
 
 /**
  * GSON serialiser/deserialiser for converting Joda {@link Instant} objects.
  */
-public class InstantConverter implements JsonSerializer<Instant>, JsonDeserializer<Instant>
+public class InstantConverter implements JsonSerializer<Instant>, JsonDeserializer<Instant>, StringConverter<Instant>
 {
   /** Printer. */
-  private static final DateTimeFormatter printer = ISODateTimeFormat.dateTime().withZoneUTC();
+  private final DateTimeFormatter printer;
   /** Formatter. */
-  private static final DateTimeFormatter formatter = ISODateTimeFormat.dateTimeParser().withZoneUTC();
+  private final DateTimeFormatter formatter;
+  /** The fixed-width printer to try before the {@code printer}, or {@code null} if there isn't one. */
+  private final IsoDateTimePrinter isoPrinter;
+  /** The printer to use instead of the {@code printer} when the precision omits the fraction. */
+  private final DateTimeFormatter fractionlessPrinter;
+  /** The precision to print with. */
+  private final Precision precision;
+  /** Whether {@link IsoDateTimeParser} may be tried before the {@code formatter}. */
+  private final boolean isoParser;
+  /** Whether {@link IsoDateTimeParser} may accept the basic format, which only the basic formatters parse. */
+  private final boolean basicParser;
+
+  /**
+   * Constructs a converter using the ISO 8601 formatters.
+   */
+  public InstantConverter()
+  {
+    this(FormatterRegistry.iso());
+  }
+
+  /**
+   * Constructs a converter using the given formatters.
+   * @param formatters The formatters to use.
+   */
+  public InstantConverter(FormatterRegistry formatters)
+  {
+    if (formatters == null) { throw new NullPointerException("formatters cannot be null"); }
+
+    this.printer = formatters.instantPrinter();
+    this.formatter = formatters.instantParser();
+    this.isoPrinter = IsoDateTimePrinter.select(
+      this.printer,
+      FormatterRegistry.ISO_INSTANT_PRINTER,
+      FormatterRegistry.BASIC_INSTANT_PRINTER,
+      formatters.instantPrecision());
+    this.fractionlessPrinter = FormatterRegistry.withoutFraction(this.printer);
+    this.precision = formatters.instantPrecision();
+    this.isoParser = this.formatter == FormatterRegistry.ISO_INSTANT_PARSER ||
+                     this.formatter == FormatterRegistry.BASIC_INSTANT_PARSER;
+    this.basicParser = this.formatter == FormatterRegistry.BASIC_INSTANT_PARSER;
+  }
 
   /**
    * Gson invokes this call-back method during serialization when it encounters a field of the
@@ -64,7 +104,7 @@ public class InstantConverter implements JsonSerializer<Instant>, JsonDeserializ
   @Override
   public JsonElement serialize(Instant src, Type typeOfSrc, JsonSerializationContext context)
   {
-    return new JsonPrimitive(printer.print(src));
+    return new JsonPrimitive(print(src));
   }
 
   /**
@@ -85,11 +125,59 @@ public class InstantConverter implements JsonSerializer<Instant>, JsonDeserializ
   public Instant deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context)
       throws JsonParseException
   {
-    if (json.getAsString() == null || json.getAsString().isEmpty())
+    // Do not try to deserialize null or empty values
+    final String text = json.isJsonNull() ? null : json.getAsString();
+    if (text == null || text.isEmpty())
     {
       return null;
     }
 
-    return Instant.parse(json.getAsString(), formatter);
+    return parse(text);
+  }
+
+  /**
+   * Prints the given value as text.
+   * @param src The value to print (never {@code null}).
+   * @return The textual representation of {@code src}.
+   */
+  @Override
+  public String print(Instant src)
+  {
+    if (this.isoPrinter != null)
+    {
+      final String printed = this.isoPrinter.print(src.getMillis(), 0);
+      if (printed != null)
+      {
+        return printed;
+      }
+    }
+
+    if (this.precision.omitsFraction(src.get(DateTimeFieldType.millisOfSecond())) && this.fractionlessPrinter != null)
+    {
+      return this.fractionlessPrinter.print(src);
+    }
+
+    return this.printer.print(src);
+  }
+
+  /**
+   * Parses the given text.
+   * @param text The text to parse (never {@code null} or empty).
+   * @return The parsed value.
+   * @throws IllegalArgumentException if the text cannot be parsed.
+   */
+  @Override
+  public Instant parse(String text)
+  {
+    if (this.isoParser)
+    {
+      final Instant parsed = IsoDateTimeParser.parseInstant(text, this.basicParser);
+      if (parsed != null)
+      {
+        return parsed;
+      }
+    }
+
+    return Instant.parse(text, this.formatter);
   }
 }
@@ -39,7 +39,7 @@ import java.lang.reflect.Type;
 /**
  * GSON serialiser/deserialiser for converting Joda {@link Interval} objects.
  */
-public class IntervalConverter implements JsonSerializer<Interval>, JsonDeserializer<Interval>
+public class IntervalConverter implements JsonSerializer<Interval>, JsonDeserializer<Interval>, StringConverter<Interval>
 {
   /**
    * Gson invokes this call-back method during serialization when it encounters a field of the
@@ -57,7 +57,7 @@ public class IntervalConverter implements JsonSerializer<Interval>, JsonDeserial
   @Override
   public JsonElement serialize(Interval src, Type typeOfSrc, JsonSerializationContext context)
   {
-    return new JsonPrimitive(src.toString());
+    return new JsonPrimitive(print(src));
   }
 
   /**
@@ -79,11 +79,35 @@ public class IntervalConverter implements JsonSerializer<Interval>, JsonDeserial
       throws JsonParseException
   {
     // Do not try to deserialize null or empty values
-    if (json.getAsString() == null || json.getAsString().isEmpty())
+    final String text = json.isJsonNull() ? null : json.getAsString();
+    if (text == null || text.isEmpty())
     {
       return null;
     }
 
-    return new Interval(json.getAsString());
+    return parse(text);
+  }
+
+  /**
+   * Prints the given value as text.
+   * @param src The value to print (never {@code null}).
+   * @return The textual representation of {@code src}.
+   */
+  @Override
+  public String print(Interval src)
+  {
+    return src.toString();
+  }
+
+  /**
+   * Parses the given text.
+   * @param text The text to parse (never {@code null} or empty).
+   * @return The parsed value.
+   * @throws IllegalArgumentException if the text cannot be parsed.
+   */
+  @Override
+  public Interval parse(String text)
+  {
+    return new Interval(text);
   }
 }
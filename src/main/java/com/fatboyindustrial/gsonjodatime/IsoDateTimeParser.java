@@ -0,0 +1,529 @@
+/*
+ * GSON Joda Time Serialisers
+ *
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjodatime;
+
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeConstants;
+import org.joda.time.DateTimeZone;
+import org.joda.time.Instant;
+import org.joda.time.LocalDate;
+import org.joda.time.LocalDateTime;
+import org.joda.time.LocalTime;
+import org.joda.time.chrono.ISOChronology;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Allocation-light parser for the common fixed ISO 8601 shape {@code yyyy-MM-ddTHH:mm:ss[.SSS](Z|±HH:mm)}, its
+ * basic counterpart {@code yyyyMMddTHHmmss[.SSS](Z|±HHmm)}, and the date and time parts of either on their own.
+ * The text is scanned character by character and the epoch millis and offset are computed directly, rather than
+ * going through Joda's general purpose parser chain.  The fraction may have between one and nine digits and is
+ * truncated to milliseconds, as Joda does. <p>
+ *
+ * The basic and extended formats are told apart by a single character: the one after the year for a date, and
+ * the one after the hour for a time, which is a separator only in the extended format.  The basic format is only
+ * accepted when the caller asks for it, since the extended formatters reject it and the fast path mustn't accept
+ * text that the formatter it stands in for would not. <p>
+ *
+ * Any text that doesn't have exactly this shape (or has out of range fields) is rejected with {@code null}, so
+ * that the caller can fall back to a {@link org.joda.time.format.DateTimeFormatter} that will either parse it
+ * or report the error.
+ */
+final class IsoDateTimeParser
+{
+  /** Returned by {@link #epochDay(String, boolean)} when the text can't be handled. */
+  private static final long NO_DAY = Long.MIN_VALUE;
+
+  /** Returned by {@link #offsetMillis} when the text can't be handled. */
+  private static final int NO_OFFSET = Integer.MIN_VALUE;
+
+  /** The largest offset handled, in minutes (exclusive). */
+  private static final int MAX_OFFSET_MINUTES = 24 * 60;
+
+  /** Fixed offset zones, indexed by offset minutes + {@link #MAX_OFFSET_MINUTES}. */
+  private static final AtomicReferenceArray<DateTimeZone> OFFSET_ZONES =
+    new AtomicReferenceArray<DateTimeZone>(2 * MAX_OFFSET_MINUTES);
+
+  /** Length of a date in the extended format, {@code yyyy-MM-dd}. */
+  private static final int EXTENDED_DATE_LENGTH = 10;
+
+  /** Length of a date in the basic format, {@code yyyyMMdd}. */
+  private static final int BASIC_DATE_LENGTH = 8;
+
+  /**
+   * Not instantiable.
+   */
+  private IsoDateTimeParser()
+  {
+  }
+
+  /**
+   * Parses the text to a {@link DateTime} in the parsed offset, as
+   * {@code ISODateTimeFormat.dateTimeParser().withOffsetParsed()} would.
+   * @param text The text to parse.
+   * @param basicAllowed Whether the basic format is accepted as well as the extended one.
+   * @return The parsed value, or {@code null} if the text isn't in the fast path shape.
+   */
+  static DateTime parseDateTime(String text, boolean basicAllowed)
+  {
+    final int zoneStart = zoneStart(text);
+    if (zoneStart < 0)
+    {
+      return null;
+    }
+
+    final boolean basic = isBasicDate(text);
+    if (basic && !basicAllowed)
+    {
+      return null;
+    }
+
+    final long local = localMillis(text, basic);
+    final int offset = offsetMillis(text, zoneStart, basic);
+    if (local == NO_DAY || offset == NO_OFFSET)
+    {
+      return null;
+    }
+
+    return new DateTime(local - offset, offsetZone(offset));
+  }
+
+  /**
+   * Parses the text to an {@link Instant}, as {@code ISODateTimeFormat.dateTimeParser().withZoneUTC()} would.
+   * @param text The text to parse.
+   * @param basicAllowed Whether the basic format is accepted as well as the extended one.
+   * @return The parsed value, or {@code null} if the text isn't in the fast path shape.
+   */
+  static Instant parseInstant(String text, boolean basicAllowed)
+  {
+    final int zoneStart = zoneStart(text);
+    if (zoneStart < 0)
+    {
+      return null;
+    }
+
+    final boolean basic = isBasicDate(text);
+    if (basic && !basicAllowed)
+    {
+      return null;
+    }
+
+    final long local = localMillis(text, basic);
+    final int offset = offsetMillis(text, zoneStart, basic);
+    if (local == NO_DAY || offset == NO_OFFSET)
+    {
+      return null;
+    }
+
+    return new Instant(local - offset);
+  }
+
+  /**
+   * Parses a date and time of day without a zone designator to a {@link LocalDateTime}.
+   * @param text The text to parse.
+   * @param basicAllowed Whether the basic format is accepted as well as the extended one.
+   * @return The parsed value, or {@code null} if the text isn't in the fast path shape.
+   */
+  static LocalDateTime parseLocalDateTime(String text, boolean basicAllowed)
+  {
+    final int dateLength = dateLength(text);
+    if (dateLength < 0 || text.length() <= dateLength || text.charAt(dateLength) != 'T')
+    {
+      return null;
+    }
+
+    final boolean basic = dateLength == BASIC_DATE_LENGTH;
+    if ((basic && !basicAllowed) || timeEnd(text, dateLength + 1, basic) != text.length())
+    {
+      return null;
+    }
+
+    final long local = localMillis(text, basic);
+    return local == NO_DAY ? null : new LocalDateTime(local, ISOChronology.getInstanceUTC());
+  }
+
+  /**
+   * Parses a date to a {@link LocalDate}.
+   * @param text The text to parse.
+   * @param basicAllowed Whether the basic format is accepted as well as the extended one.
+   * @return The parsed value, or {@code null} if the text isn't in the fast path shape.
+   */
+  static LocalDate parseLocalDate(String text, boolean basicAllowed)
+  {
+    final int dateLength = dateLength(text);
+    final boolean basic = dateLength == BASIC_DATE_LENGTH;
+    if (dateLength != text.length() || (basic && !basicAllowed))
+    {
+      return null;
+    }
+
+    final long day = epochDay(text, basic);
+    return day == NO_DAY ? null : new LocalDate(day * DateTimeConstants.MILLIS_PER_DAY, ISOChronology.getInstanceUTC());
+  }
+
+  /**
+   * Parses a time of day to a {@link LocalTime}.
+   * @param text The text to parse.
+   * @param basicAllowed Whether the basic format is accepted as well as the extended one.
+   * @return The parsed value, or {@code null} if the text isn't in the fast path shape.
+   */
+  static LocalTime parseLocalTime(String text, boolean basicAllowed)
+  {
+    // The shortest time is HHmmss
+    if (text.length() < 6)
+    {
+      return null;
+    }
+
+    final boolean basic = text.charAt(2) != ':';
+    if ((basic && !basicAllowed) || timeEnd(text, 0, basic) != text.length())
+    {
+      return null;
+    }
+
+    final int millisOfDay = millisOfDay(text, 0, basic);
+    return millisOfDay < 0 ? null : LocalTime.fromMillisOfDay(millisOfDay);
+  }
+
+  /**
+   * Parses a zone ID of the form {@code ±HH:mm}, as {@link DateTimeZone#forID(String)} would.
+   * @param id The zone ID.
+   * @return The fixed offset zone, or {@code null} if the ID isn't of that form.
+   */
+  static DateTimeZone parseOffsetZone(String id)
+  {
+    if (id.length() != 6)
+    {
+      return null;
+    }
+
+    final int offset = offsetMillis(id, 0, false);
+    return offset == NO_OFFSET ? null : offsetZone(offset);
+  }
+
+  /**
+   * Gets the fixed offset zone for the given offset, as {@link DateTimeZone#forOffsetMillis(int)} would.  Zones
+   * for whole minute offsets are cached here so that the hot path avoids Joda's synchronised offset cache.
+   * @param offsetMillis The offset.
+   * @return The zone.
+   */
+  static DateTimeZone offsetZone(int offsetMillis)
+  {
+    if (offsetMillis == 0)
+    {
+      return DateTimeZone.UTC;
+    }
+
+    if (offsetMillis % DateTimeConstants.MILLIS_PER_MINUTE != 0 ||
+        offsetMillis <= -MAX_OFFSET_MINUTES * DateTimeConstants.MILLIS_PER_MINUTE ||
+        offsetMillis >= MAX_OFFSET_MINUTES * DateTimeConstants.MILLIS_PER_MINUTE)
+    {
+      return DateTimeZone.forOffsetMillis(offsetMillis);
+    }
+
+    final int index = offsetMillis / DateTimeConstants.MILLIS_PER_MINUTE + MAX_OFFSET_MINUTES;
+    DateTimeZone zone = OFFSET_ZONES.get(index);
+    if (zone == null)
+    {
+      // Racing threads resolve equal zones, so there's no harm in either one winning
+      zone = DateTimeZone.forOffsetMillis(offsetMillis);
+      OFFSET_ZONES.lazySet(index, zone);
+    }
+
+    return zone;
+  }
+
+  /**
+   * Gets the length of the date at the start of the text, from the character after the year.
+   * @param text The text.
+   * @return {@link #BASIC_DATE_LENGTH} or {@link #EXTENDED_DATE_LENGTH}, or -1 if the text is too short.
+   */
+  private static int dateLength(String text)
+  {
+    if (text.length() < BASIC_DATE_LENGTH)
+    {
+      return -1;
+    }
+
+    return text.charAt(4) == '-' ? EXTENDED_DATE_LENGTH : BASIC_DATE_LENGTH;
+  }
+
+  /**
+   * Tests whether the date at the start of the text is in the basic format.
+   * @param text The text, which must be at least {@link #BASIC_DATE_LENGTH} long.
+   * @return {@code true} for the basic format.
+   */
+  private static boolean isBasicDate(String text)
+  {
+    return text.charAt(4) != '-';
+  }
+
+  /**
+   * Finds where the zone designator starts, checking the overall shape of the text on the way.
+   * @param text The text.
+   * @return The index of the zone designator, or -1 if the text doesn't have the fast path shape.
+   */
+  private static int zoneStart(String text)
+  {
+    final int dateLength = dateLength(text);
+    if (dateLength < 0 || text.length() <= dateLength || text.charAt(dateLength) != 'T')
+    {
+      return -1;
+    }
+
+    final int index = timeEnd(text, dateLength + 1, dateLength == BASIC_DATE_LENGTH);
+    return index == text.length() ? -1 : index;
+  }
+
+  /**
+   * Finds the end of a time of day, checking its separators and the length of its fraction.
+   * @param text The text.
+   * @param start The index of the hour.
+   * @param basic Whether the time is in the basic format.
+   * @return The index after the time, or -1 if it doesn't have the fast path shape.
+   */
+  private static int timeEnd(String text, int start, boolean basic)
+  {
+    final int length = text.length();
+    final int secondsEnd = start + (basic ? 6 : 8);
+    if (length < secondsEnd || (!basic && (text.charAt(start + 2) != ':' || text.charAt(start + 5) != ':')))
+    {
+      return -1;
+    }
+
+    if (secondsEnd == length || text.charAt(secondsEnd) != '.')
+    {
+      return secondsEnd;
+    }
+
+    int index = secondsEnd + 1;
+    while (index < length && index <= secondsEnd + 9 && isDigit(text.charAt(index)))
+    {
+      index++;
+    }
+
+    return index == secondsEnd + 1 ? -1 : index;
+  }
+
+  /**
+   * Computes the local millis (that is, the millis as if the text were in UTC) of the date and time fields.
+   * @param text The text, which must have passed {@link #zoneStart} or equivalent checks.
+   * @param basic Whether the text is in the basic format.
+   * @return The local millis, or {@link #NO_DAY} if a field is malformed or out of range.
+   */
+  private static long localMillis(String text, boolean basic)
+  {
+    final long day = epochDay(text, basic);
+    final int millisOfDay = millisOfDay(text, basic ? BASIC_DATE_LENGTH + 1 : EXTENDED_DATE_LENGTH + 1, basic);
+    if (day == NO_DAY || millisOfDay < 0)
+    {
+      return NO_DAY;
+    }
+
+    return day * DateTimeConstants.MILLIS_PER_DAY + millisOfDay;
+  }
+
+  /**
+   * Computes the epoch day of the date at the start of the text.
+   * @param text The text.
+   * @param basic Whether the date is in the basic format.
+   * @return The epoch day, or {@link #NO_DAY} if a field is malformed or out of range.
+   */
+  private static long epochDay(String text, boolean basic)
+  {
+    if (!basic && text.charAt(7) != '-')
+    {
+      return NO_DAY;
+    }
+
+    final int year = digits4(text, 0);
+    final int month = digits2(text, basic ? 4 : 5);
+    final int day = digits2(text, basic ? 6 : 8);
+
+    if (year < 0 || month < 1 || month > 12 || day < 1 || day > daysInMonth(year, month))
+    {
+      return NO_DAY;
+    }
+
+    return epochDay(year, month, day);
+  }
+
+  /**
+   * Computes the millis of the day of a time.
+   * @param text The text, which must have passed {@link #timeEnd}.
+   * @param start The index of the hour.
+   * @param basic Whether the time is in the basic format.
+   * @return The millis of the day, or -1 if a field is malformed or out of range.
+   */
+  private static int millisOfDay(String text, int start, boolean basic)
+  {
+    final int step = basic ? 2 : 3;
+    final int hour = digits2(text, start);
+    final int minute = digits2(text, start + step);
+    final int second = digits2(text, start + 2 * step);
+
+    if (hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59)
+    {
+      return -1;
+    }
+
+    int millis = 0;
+    final int secondsEnd = start + 2 * step + 2;
+    if (secondsEnd < text.length() && text.charAt(secondsEnd) == '.')
+    {
+      // Anything beyond milliseconds is truncated
+      int scale = 100;
+      for (int index = secondsEnd + 1; scale > 0 && index < text.length() && isDigit(text.charAt(index)); index++)
+      {
+        millis += (text.charAt(index) - '0') * scale;
+        scale /= 10;
+      }
+    }
+
+    return hour * DateTimeConstants.MILLIS_PER_HOUR +
+           minute * DateTimeConstants.MILLIS_PER_MINUTE +
+           second * DateTimeConstants.MILLIS_PER_SECOND +
+           millis;
+  }
+
+  /**
+   * Parses the zone designator, which must be {@code Z}, or {@code ±HH:mm} ({@code ±HHmm} in the basic format),
+   * and must end the text.
+   * @param text The text.
+   * @param index The index of the zone designator.
+   * @param basic Whether the designator is in the basic format.
+   * @return The offset in millis, or {@link #NO_OFFSET} if the designator can't be handled.
+   */
+  private static int offsetMillis(String text, int index, boolean basic)
+  {
+    final int remaining = text.length() - index;
+    final char sign = text.charAt(index);
+
+    if (sign == 'Z')
+    {
+      return remaining == 1 ? 0 : NO_OFFSET;
+    }
+
+    final int length = basic ? 5 : 6;
+    if (remaining != length || (sign != '+' && sign != '-') || (!basic && text.charAt(index + 3) != ':'))
+    {
+      return NO_OFFSET;
+    }
+
+    final int hours = digits2(text, index + 1);
+    final int minutes = digits2(text, index + length - 2);
+    if (hours < 0 || hours > 23 || minutes < 0 || minutes > 59)
+    {
+      return NO_OFFSET;
+    }
+
+    final int offset = hours * DateTimeConstants.MILLIS_PER_HOUR + minutes * DateTimeConstants.MILLIS_PER_MINUTE;
+    return sign == '-' ? -offset : offset;
+  }
+
+  /**
+   * Computes the number of days since 1970-01-01 in the proleptic Gregorian calendar.
+   * @param year The year.
+   * @param month The month of the year (1 - 12).
+   * @param day The day of the month.
+   * @return The epoch day.
+   */
+  static long epochDay(int year, int month, int day)
+  {
+    // Treat March as the first month, so the leap day is the last day of the (shifted) year
+    final int y = month <= 2 ? year - 1 : year;
+    final int era = (y >= 0 ? y : y - 399) / 400;
+    final int yearOfEra = y - era * 400;
+    final int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+    final int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+
+    return era * 146097L + dayOfEra - 719468L;
+  }
+
+  /**
+   * Gets the number of days in the month.
+   * @param year The year.
+   * @param month The month of the year (1 - 12).
+   * @return The number of days in the month.
+   */
+  static int daysInMonth(int year, int month)
+  {
+    if (month == 2)
+    {
+      return (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+    }
+
+    return 30 + ((month + (month >> 3)) & 1);
+  }
+
+  /**
+   * Reads two decimal digits.
+   * @param text The text.
+   * @param index The index of the first digit.
+   * @return The value, or a negative number if either character isn't a digit.
+   */
+  static int digits2(CharSequence text, int index)
+  {
+    final int tens = text.charAt(index) - '0';
+    final int ones = text.charAt(index + 1) - '0';
+
+    if (tens < 0 || tens > 9 || ones < 0 || ones > 9)
+    {
+      return -1;
+    }
+
+    return tens * 10 + ones;
+  }
+
+  /**
+   * Reads four decimal digits.
+   * @param text The text.
+   * @param index The index of the first digit.
+   * @return The value, or a negative number if any character isn't a digit.
+   */
+  static int digits4(CharSequence text, int index)
+  {
+    final int high = digits2(text, index);
+    final int low = digits2(text, index + 2);
+
+    if (high < 0 || low < 0)
+    {
+      return -1;
+    }
+
+    return high * 100 + low;
+  }
+
+  /**
+   * Tests for an ASCII decimal digit.
+   * @param c The character.
+   * @return {@code true} if {@code c} is a digit.
+   */
+  private static boolean isDigit(char c)
+  {
+    return c >= '0' && c <= '9';
+  }
+}
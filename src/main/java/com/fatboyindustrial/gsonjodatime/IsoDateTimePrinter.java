@@ -0,0 +1,355 @@
+/*
+ * GSON Joda Time Serialisers
+ *
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjodatime;
+
+import org.joda.time.DateTimeConstants;
+import org.joda.time.format.DateTimeFormatter;
+
+/**
+ * Fixed-width printer for the ISO 8601 shape {@code yyyy-MM-ddTHH:mm:ss.SSS(Z|±HH:mm)}, producing exactly what
+ * {@code ISODateTimeFormat.dateTime()} prints for an ISO chronology value, or for its basic counterpart
+ * {@code yyyyMMddTHHmmss.SSS(Z|±HHmm)}, producing what {@code ISODateTimeFormat.basicDateTime()} prints.  The
+ * date and time of day can also be printed on their own, for the partial types.  The epoch millis are decomposed
+ * arithmetically and the characters are written straight into a reusable per-thread buffer, two digits at a time,
+ * rather than walking Joda's composite printer. <p>
+ *
+ * The fraction is printed according to the printer's {@link Precision}, or not at all. <p>
+ *
+ * Values that can't be printed in this shape (years outside 0000 - 9999, or offsets that aren't a whole number
+ * of minutes) are declined with {@code null}, so that the caller can fall back to a formatter.
+ */
+final class IsoDateTimePrinter
+{
+  /** The printer of the extended format, {@code yyyy-MM-ddTHH:mm:ss.SSS(Z|±HH:mm)}. */
+  static final IsoDateTimePrinter EXTENDED = new IsoDateTimePrinter(false, Precision.MILLISECOND);
+
+  /** The printer of the basic format, {@code yyyyMMddTHHmmss.SSS(Z|±HHmm)}. */
+  static final IsoDateTimePrinter BASIC = new IsoDateTimePrinter(true, Precision.MILLISECOND);
+
+  /** The largest number of characters printed. */
+  private static final int MAX_LENGTH = 29;
+
+  /** The tens digit of every number from 0 to 99. */
+  private static final char[] DIGIT_TENS = new char[100];
+
+  /** The ones digit of every number from 0 to 99. */
+  private static final char[] DIGIT_ONES = new char[100];
+
+  static
+  {
+    for (int i = 0; i < 100; i++)
+    {
+      DIGIT_TENS[i] = (char) ('0' + i / 10);
+      DIGIT_ONES[i] = (char) ('0' + i % 10);
+    }
+  }
+
+  /** The per-thread scratch buffer. */
+  private static final ThreadLocal<char[]> BUFFER = new ThreadLocal<char[]>()
+  {
+    @Override
+    protected char[] initialValue()
+    {
+      return new char[MAX_LENGTH];
+    }
+  };
+
+  /** Whether to print the basic format, which has no separators between the fields. */
+  private final boolean basic;
+
+  /** The precision to print the time with. */
+  private final Precision precision;
+
+  /**
+   * Constructor.
+   * @param basic Whether to print the basic format.
+   * @param precision The precision to print the time with.
+   */
+  private IsoDateTimePrinter(boolean basic, Precision precision)
+  {
+    this.basic = basic;
+    this.precision = precision;
+  }
+
+  /**
+   * Gets a printer of the same format with the given precision.
+   * @param precision The precision to print the time with.
+   * @return The printer.
+   */
+  IsoDateTimePrinter withPrecision(Precision precision)
+  {
+    if (precision == null) { throw new NullPointerException("precision cannot be null"); }
+
+    return precision == this.precision ? this : new IsoDateTimePrinter(this.basic, precision);
+  }
+
+  /**
+   * Selects the printer that prints the same as the given formatter.
+   * @param formatter The formatter a converter has been configured with.
+   * @param extended The formatter that prints the extended format.
+   * @param basic The formatter that prints the basic format.
+   * @return The matching printer, or {@code null} if the formatter is neither of the ISO 8601 formatters.
+   */
+  static IsoDateTimePrinter select(DateTimeFormatter formatter, DateTimeFormatter extended, DateTimeFormatter basic)
+  {
+    return select(formatter, extended, basic, Precision.MILLISECOND);
+  }
+
+  /**
+   * Selects the printer that prints the same as the given formatter, but with the given precision.
+   * @param formatter The formatter a converter has been configured with.
+   * @param extended The formatter that prints the extended format.
+   * @param basic The formatter that prints the basic format.
+   * @param precision The precision to print the time with.
+   * @return The matching printer, or {@code null} if the formatter is neither of the ISO 8601 formatters.
+   */
+  static IsoDateTimePrinter select(
+    DateTimeFormatter formatter,
+    DateTimeFormatter extended,
+    DateTimeFormatter basic,
+    Precision precision)
+  {
+    if (formatter == extended)
+    {
+      return EXTENDED.withPrecision(precision);
+    }
+
+    return formatter == basic ? BASIC.withPrecision(precision) : null;
+  }
+
+  /**
+   * Prints the instant in the given offset.
+   * @param millis The epoch millis.
+   * @param offsetMillis The offset from UTC at {@code millis}.
+   * @return The printed value, or {@code null} if it can't be printed in the fixed-width shape.
+   */
+  String print(long millis, int offsetMillis)
+  {
+    if (offsetMillis % DateTimeConstants.MILLIS_PER_MINUTE != 0)
+    {
+      return null;
+    }
+
+    final long local = millis + offsetMillis;
+    final long epochDay = floorDiv(local, DateTimeConstants.MILLIS_PER_DAY);
+    final int millisOfDay = (int) (local - epochDay * DateTimeConstants.MILLIS_PER_DAY);
+
+    // Civil date from the epoch day, counting years from March so the leap day falls at the end
+    final long shifted = epochDay + 719468L;
+    final long era = floorDiv(shifted, 146097L);
+    final int dayOfEra = (int) (shifted - era * 146097L);
+    final int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+    final int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+    final int shiftedMonth = (5 * dayOfYear + 2) / 153;
+    final int day = dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
+    final int month = shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+    final long year = era * 400L + yearOfEra + (month <= 2 ? 1 : 0);
+
+    if (year < 0 || year > 9999)
+    {
+      return null;
+    }
+
+    final char[] buf = BUFFER.get();
+    int pos = putDate(buf, 0, (int) year, month, day);
+    buf[pos++] = 'T';
+    pos = putTime(buf, pos, millisOfDay);
+    pos = putOffset(buf, pos, offsetMillis);
+
+    return new String(buf, 0, pos);
+  }
+
+  /**
+   * Prints a date and time of day without an offset, as for a {@code LocalDateTime}.
+   * @param year The year.
+   * @param month The month of the year (1 - 12).
+   * @param day The day of the month.
+   * @param millisOfDay The millis of the day.
+   * @return The printed value, or {@code null} if it can't be printed in the fixed-width shape.
+   */
+  String printLocal(int year, int month, int day, int millisOfDay)
+  {
+    if (year < 0 || year > 9999)
+    {
+      return null;
+    }
+
+    final char[] buf = BUFFER.get();
+    int pos = putDate(buf, 0, year, month, day);
+    buf[pos++] = 'T';
+    pos = putTime(buf, pos, millisOfDay);
+
+    return new String(buf, 0, pos);
+  }
+
+  /**
+   * Prints a date, as for a {@code LocalDate}.
+   * @param year The year.
+   * @param month The month of the year (1 - 12).
+   * @param day The day of the month.
+   * @return The printed value, or {@code null} if it can't be printed in the fixed-width shape.
+   */
+  String printDate(int year, int month, int day)
+  {
+    if (year < 0 || year > 9999)
+    {
+      return null;
+    }
+
+    final char[] buf = BUFFER.get();
+    return new String(buf, 0, putDate(buf, 0, year, month, day));
+  }
+
+  /**
+   * Prints a time of day, as for a {@code LocalTime}.
+   * @param millisOfDay The millis of the day.
+   * @return The printed value.
+   */
+  String printTime(int millisOfDay)
+  {
+    final char[] buf = BUFFER.get();
+    return new String(buf, 0, putTime(buf, 0, millisOfDay));
+  }
+
+  /**
+   * Writes the date: {@code yyyy-MM-dd}, or {@code yyyyMMdd} in the basic format.
+   * @param buf The buffer.
+   * @param pos The position to write at.
+   * @param year The year (0 - 9999).
+   * @param month The month of the year.
+   * @param day The day of the month.
+   * @return The position after the date.
+   */
+  private int putDate(char[] buf, int pos, int year, int month, int day)
+  {
+    pos = put2(buf, pos, year / 100);
+    pos = put2(buf, pos, year % 100);
+    if (!this.basic)
+    {
+      buf[pos++] = '-';
+    }
+    pos = put2(buf, pos, month);
+    if (!this.basic)
+    {
+      buf[pos++] = '-';
+    }
+    return put2(buf, pos, day);
+  }
+
+  /**
+   * Writes the time of day: {@code HH:mm:ss.SSS}, or {@code HHmmss.SSS} in the basic format.  The fraction is
+   * left out if the precision says so.
+   * @param buf The buffer.
+   * @param pos The position to write at.
+   * @param millisOfDay The millis of the day.
+   * @return The position after the time.
+   */
+  private int putTime(char[] buf, int pos, int millisOfDay)
+  {
+    pos = put2(buf, pos, millisOfDay / DateTimeConstants.MILLIS_PER_HOUR);
+    if (!this.basic)
+    {
+      buf[pos++] = ':';
+    }
+    pos = put2(buf, pos, millisOfDay / DateTimeConstants.MILLIS_PER_MINUTE % 60);
+    if (!this.basic)
+    {
+      buf[pos++] = ':';
+    }
+    pos = put2(buf, pos, millisOfDay / DateTimeConstants.MILLIS_PER_SECOND % 60);
+
+    final int millisOfSecond = millisOfDay % DateTimeConstants.MILLIS_PER_SECOND;
+    if (this.precision.omitsFraction(millisOfSecond))
+    {
+      return pos;
+    }
+
+    buf[pos++] = '.';
+    buf[pos++] = (char) ('0' + millisOfSecond / 100);
+    return put2(buf, pos, millisOfSecond % 100);
+  }
+
+  /**
+   * Writes the zone designator: {@code Z} for UTC, otherwise {@code ±HH:mm}, or {@code ±HHmm} in the basic format.
+   * @param buf The buffer.
+   * @param pos The position to write at.
+   * @param offsetMillis The offset, which must be a whole number of minutes.
+   * @return The position after the designator.
+   */
+  private int putOffset(char[] buf, int pos, int offsetMillis)
+  {
+    if (offsetMillis == 0)
+    {
+      buf[pos++] = 'Z';
+      return pos;
+    }
+
+    final int minutes;
+    if (offsetMillis < 0)
+    {
+      buf[pos++] = '-';
+      minutes = -offsetMillis / DateTimeConstants.MILLIS_PER_MINUTE;
+    }
+    else
+    {
+      buf[pos++] = '+';
+      minutes = offsetMillis / DateTimeConstants.MILLIS_PER_MINUTE;
+    }
+
+    pos = put2(buf, pos, minutes / 60);
+    if (!this.basic)
+    {
+      buf[pos++] = ':';
+    }
+    return put2(buf, pos, minutes % 60);
+  }
+
+  /**
+   * Writes a two digit number.
+   * @param buf The buffer.
+   * @param pos The position to write at.
+   * @param value The value (0 - 99).
+   * @return The position after the digits.
+   */
+  private static int put2(char[] buf, int pos, int value)
+  {
+    buf[pos] = DIGIT_TENS[value];
+    buf[pos + 1] = DIGIT_ONES[value];
+    return pos + 2;
+  }
+
+  /**
+   * Divides, rounding towards negative infinity.
+   * @param dividend The dividend.
+   * @param divisor The (positive) divisor.
+   * @return The quotient.
+   */
+  private static long floorDiv(long dividend, long divisor)
+  {
+    final long quotient = dividend / divisor;
+    return (dividend % divisor < 0) ? quotient - 1 : quotient;
+  }
+}
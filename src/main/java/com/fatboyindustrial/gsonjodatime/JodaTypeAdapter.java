@@ -0,0 +1,100 @@
+/*
+ * GSON Joda Time Serialisers
+ *
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjodatime;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
+/**
+ * Streaming GSON type adapter that reads and writes a Joda Time entity as a JSON string using a
+ * {@link StringConverter}.  Values are read straight from the {@link JsonReader} and written straight to the
+ * {@link JsonWriter}, so no intermediate {@link com.google.gson.JsonElement} is created.  JSON {@code null} and
+ * the empty string both read as {@code null}.
+ * @param <T> The Joda Time type being converted.
+ */
+final class JodaTypeAdapter<T> extends TypeAdapter<T>
+{
+  /** The converter to and from text. */
+  private final StringConverter<T> converter;
+
+  /**
+   * Constructor.
+   * @param converter The converter to and from text.
+   */
+  JodaTypeAdapter(StringConverter<T> converter)
+  {
+    if (converter == null) { throw new NullPointerException("converter cannot be null"); }
+
+    this.converter = converter;
+  }
+
+  /**
+   * Writes one JSON value for {@code value}.
+   * @param out The writer to write to.
+   * @param value The value to write (may be {@code null}).
+   * @throws IOException if the writer fails.
+   */
+  @Override
+  public void write(JsonWriter out, T value) throws IOException
+  {
+    if (value == null)
+    {
+      out.nullValue();
+      return;
+    }
+
+    out.value(this.converter.print(value));
+  }
+
+  /**
+   * Reads one JSON value and converts it to a Joda Time entity.
+   * @param in The reader to read from.
+   * @return The converted value, or {@code null} for JSON {@code null} or an empty string.
+   * @throws IOException if the reader fails.
+   */
+  @Override
+  public T read(JsonReader in) throws IOException
+  {
+    if (in.peek() == JsonToken.NULL)
+    {
+      in.nextNull();
+      return null;
+    }
+
+    // Do not try to deserialize empty values
+    final String text = in.nextString();
+    if (text.isEmpty())
+    {
+      return null;
+    }
+
+    return this.converter.parse(text);
+  }
+}
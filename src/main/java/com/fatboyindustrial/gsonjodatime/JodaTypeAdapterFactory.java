@@ -0,0 +1,150 @@
+/*
+ * GSON Joda Time Serialisers
+ *
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjodatime;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import org.joda.time.DateMidnight;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.Duration;
+import org.joda.time.Instant;
+import org.joda.time.Interval;
+import org.joda.time.LocalDate;
+import org.joda.time.LocalDateTime;
+import org.joda.time.LocalTime;
+import org.joda.time.Period;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A GSON {@link TypeAdapterFactory} that supplies streaming {@link TypeAdapter}s for all the supported Joda Time
+ * entities.  Unlike the {@link com.google.gson.JsonSerializer}/{@link com.google.gson.JsonDeserializer} converters,
+ * the adapters read and write directly against the JSON stream and never build an intermediate
+ * {@link com.google.gson.JsonElement} tree.
+ */
+public final class JodaTypeAdapterFactory implements TypeAdapterFactory
+{
+  /** The adapters, keyed by the exact Joda Time class they handle. */
+  private final Map<Class<?>, TypeAdapter<?>> adapters;
+
+  /**
+   * Constructs a factory using the ISO 8601 formatters.
+   */
+  public JodaTypeAdapterFactory()
+  {
+    this(FormatterRegistry.iso());
+  }
+
+  /**
+   * Constructs a factory using the given formatters.
+   * @param formatters The formatters to use.
+   */
+  public JodaTypeAdapterFactory(FormatterRegistry formatters)
+  {
+    this(formatters, false);
+  }
+
+  /**
+   * Constructor.
+   * @param formatters The formatters to use.
+   * @param numeric Whether to write the types that have a natural epoch encoding as numbers.
+   */
+  private JodaTypeAdapterFactory(FormatterRegistry formatters, boolean numeric)
+  {
+    if (formatters == null) { throw new NullPointerException("formatters cannot be null"); }
+
+    final DateTimeConverter dateTime = new DateTimeConverter(formatters);
+    final DurationConverter duration = new DurationConverter();
+    final LocalDateConverter localDate = new LocalDateConverter(formatters);
+    final LocalTimeConverter localTime = new LocalTimeConverter(formatters);
+    final IntervalConverter interval = new IntervalConverter();
+    final InstantConverter instant = new InstantConverter(formatters);
+
+    this.adapters = new HashMap<Class<?>, TypeAdapter<?>>();
+    this.adapters.put(DateMidnight.class, new JodaTypeAdapter<DateMidnight>(new DateMidnightConverter(formatters)));
+    this.adapters.put(LocalDateTime.class, new JodaTypeAdapter<LocalDateTime>(new LocalDateTimeConverter(formatters)));
+    this.adapters.put(Period.class, new JodaTypeAdapter<Period>(new PeriodConverter(formatters)));
+    this.adapters.put(DateTimeZone.class, new JodaTypeAdapter<DateTimeZone>(new DateTimeZoneConverter()));
+
+    if (numeric)
+    {
+      this.adapters.put(DateTime.class, EpochTypeAdapter.dateTime(dateTime));
+      this.adapters.put(Duration.class, EpochTypeAdapter.duration(duration));
+      this.adapters.put(LocalDate.class, EpochTypeAdapter.localDate(localDate));
+      this.adapters.put(LocalTime.class, EpochTypeAdapter.localTime(localTime));
+      this.adapters.put(Interval.class, EpochTypeAdapter.interval(interval));
+      this.adapters.put(Instant.class, EpochTypeAdapter.instant(instant));
+    }
+    else
+    {
+      this.adapters.put(DateTime.class, new JodaTypeAdapter<DateTime>(dateTime));
+      this.adapters.put(Duration.class, new JodaTypeAdapter<Duration>(duration));
+      this.adapters.put(LocalDate.class, new JodaTypeAdapter<LocalDate>(localDate));
+      this.adapters.put(LocalTime.class, new JodaTypeAdapter<LocalTime>(localTime));
+      this.adapters.put(Interval.class, new JodaTypeAdapter<Interval>(interval));
+      this.adapters.put(Instant.class, new JodaTypeAdapter<Instant>(instant));
+    }
+  }
+
+  /**
+   * Creates a factory that writes values as numbers measured from the epoch, where the type has a natural
+   * numeric encoding: {@code Instant} and {@code DateTime} as epoch millis, {@code LocalDate} as the epoch day,
+   * {@code LocalTime} as the millis of the day, {@code Duration} as millis and {@code Interval} as an array of
+   * its start and end epoch millis.  Other types are written as text.  Both the numeric and the textual forms
+   * are accepted when reading.
+   * @param formatters The formatters to print and parse the textual forms with.
+   * @return The factory.
+   */
+  public static JodaTypeAdapterFactory numeric(FormatterRegistry formatters)
+  {
+    return new JodaTypeAdapterFactory(formatters, true);
+  }
+
+  /**
+   * Returns a type adapter for {@code type}, or {@code null} if this factory doesn't support {@code type}.
+   * @param gson The GSON instance requesting the adapter.
+   * @param type The type to adapt.
+   * @return The adapter, or {@code null}.
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type)
+  {
+    final Class<? super T> rawType = type.getRawType();
+
+    // Zones are always concrete subclasses of the abstract DateTimeZone
+    if (DateTimeZone.class.isAssignableFrom(rawType))
+    {
+      return (TypeAdapter<T>) this.adapters.get(DateTimeZone.class);
+    }
+
+    return (TypeAdapter<T>) this.adapters.get(rawType);
+  }
+}
@@ -0,0 +1,222 @@
+/*
+ * GSON Joda Time Serialisers
+ *
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjodatime;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.MalformedJsonException;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.reflect.Type;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads the elements of a JSON array one at a time, as the iterator is advanced, using the type adapters
+ * registered with a {@link Gson} instance (such as the Joda Time converters registered by {@link Converters}).
+ * Unlike {@code gson.fromJson(reader, listType)}, the array is never held in memory as a whole, so the first
+ * element is available as soon as it has been read:
+ * <pre>
+ *   final JsonArrayReader&lt;Event&gt; events = new JsonArrayReader&lt;Event&gt;(gson, reader, Event.class);
+ *   try
+ *   {
+ *     while (events.hasNext())
+ *     {
+ *       process(events.next());
+ *     }
+ *   }
+ *   finally
+ *   {
+ *     events.close();
+ *   }
+ * </pre>
+ * Read failures, and input that isn't a well formed array of records, are reported by the iterator methods as
+ * {@link JsonIOException} and {@link JsonSyntaxException} respectively.
+ * @param <T> The element type.
+ */
+public final class JsonArrayReader<T> implements RecordReader<T>
+{
+  /** The reader of the whole input. */
+  private final JsonReader in;
+
+  /** The adapter of the elements. */
+  private final TypeAdapter<T> adapter;
+
+  /** Whether the start of the array has been read. */
+  private boolean started;
+
+  /** Whether the end of the array has been read. */
+  private boolean ended;
+
+  /**
+   * Constructor.
+   * @param gson The GSON instance whose type adapters read the elements.
+   * @param reader The input; it needn't be buffered.
+   * @param type The element type.
+   */
+  public JsonArrayReader(Gson gson, Reader reader, Class<T> type)
+  {
+    this(gson, reader, TypeToken.get(type));
+  }
+
+  /**
+   * Constructor for generic element types.
+   * @param gson The GSON instance whose type adapters read the elements.
+   * @param reader The input; it needn't be buffered.
+   * @param type The element type.
+   */
+  @SuppressWarnings("unchecked")
+  public JsonArrayReader(Gson gson, Reader reader, Type type)
+  {
+    this(gson, reader, (TypeToken<T>) TypeToken.get(type));
+  }
+
+  /**
+   * Constructor.
+   * @param gson The GSON instance whose type adapters read the elements.
+   * @param reader The input.
+   * @param type The element type.
+   */
+  JsonArrayReader(Gson gson, Reader reader, TypeToken<T> type)
+  {
+    if (gson == null) { throw new NullPointerException("gson cannot be null"); }
+    if (reader == null) { throw new NullPointerException("reader cannot be null"); }
+
+    this.adapter = gson.getAdapter(type);
+    this.in = new JsonReader(reader);
+  }
+
+  /**
+   * Tests whether there's another element.
+   * @return {@code true} if there's another element.
+   * @throws JsonIOException if the input can't be read.
+   * @throws JsonSyntaxException if the input isn't a well formed JSON array.
+   */
+  @Override
+  public boolean hasNext()
+  {
+    if (this.ended)
+    {
+      return false;
+    }
+
+    try
+    {
+      if (!this.started)
+      {
+        this.in.beginArray();
+        this.started = true;
+      }
+
+      if (this.in.hasNext())
+      {
+        return true;
+      }
+
+      this.in.endArray();
+      this.ended = true;
+      return false;
+    }
+    catch (EOFException e)
+    {
+      throw new JsonSyntaxException(e);
+    }
+    catch (MalformedJsonException e)
+    {
+      throw new JsonSyntaxException(e);
+    }
+    catch (IllegalStateException e)
+    {
+      throw new JsonSyntaxException(e);
+    }
+    catch (IOException e)
+    {
+      throw new JsonIOException(e);
+    }
+  }
+
+  /**
+   * Reads the next element.
+   * @return The element, which is {@code null} if the element is JSON {@code null}.
+   * @throws NoSuchElementException if there are no more elements.
+   * @throws JsonIOException if the input can't be read.
+   * @throws JsonSyntaxException if the element can't be read as the element type.
+   */
+  @Override
+  public T next()
+  {
+    if (!hasNext())
+    {
+      throw new NoSuchElementException();
+    }
+
+    try
+    {
+      return this.adapter.read(this.in);
+    }
+    catch (EOFException e)
+    {
+      throw new JsonSyntaxException(e);
+    }
+    catch (MalformedJsonException e)
+    {
+      throw new JsonSyntaxException(e);
+    }
+    catch (IllegalStateException e)
+    {
+      throw new JsonSyntaxException(e);
+    }
+    catch (IOException e)
+    {
+      throw new JsonIOException(e);
+    }
+  }
+
+  /**
+   * Not supported.
+   * @throws UnsupportedOperationException always.
+   */
+  @Override
+  public void remove()
+  {
+    throw new UnsupportedOperationException("remove");
+  }
+
+  /**
+   * Closes the input.
+   * @throws IOException if the input can't be closed.
+   */
+  @Override
+  public void close() throws IOException
+  {
+    this.in.close();
+  }
+}
@@ -0,0 +1,350 @@
+/*
+ * GSON Joda Time Serialisers
+ *
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjodatime;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Incremental decoder of a stream of JSON records (such as NDJSON) that arrives in arbitrary chunks, for example
+ * from a non-blocking channel.  Each chunk is decoded as far as it goes, and the records it completes are read
+ * with the type adapters registered with a {@link Gson} instance (such as the Joda Time converters registered by
+ * {@link Converters}); a partial record, or even a partial UTF-8 sequence, is kept until a later chunk completes
+ * it.  {@link #feed} never blocks, so one thread can decode many streams:
+ * <pre>
+ *   final JsonFeedDecoder&lt;Event&gt; decoder = new JsonFeedDecoder&lt;Event&gt;(gson, Event.class);
+ *   ...
+ *   channel.read(buffer);
+ *   buffer.flip();
+ *   decoder.feed(buffer, events);
+ * </pre>
+ * Each record must be a JSON object or array; records may be separated by any whitespace.  A decoder is for one
+ * stream, is not thread safe, and can't be used again once it has thrown an exception.
+ * @param <T> The record type.
+ */
+public final class JsonFeedDecoder<T>
+{
+  /** The initial number of characters buffered. */
+  private static final int INITIAL_CAPACITY = 1024;
+
+  /** The adapter of the records. */
+  private final TypeAdapter<T> adapter;
+
+  /** The decoder of the UTF-8 input. */
+  private final CharsetDecoder decoder;
+
+  /** The input bytes not yet decoded, which are at most a partial UTF-8 sequence between calls. */
+  private ByteBuffer bytes;
+
+  /** The decoded characters, from {@link #start} to {@link #end}. */
+  private char[] chars;
+
+  /** The index of the first character not yet read by the {@link #in JSON reader}. */
+  private int start;
+
+  /** The index after the last complete record, which is as far as the {@link #in JSON reader} may read. */
+  private int complete;
+
+  /** The index of the first character not yet scanned for record boundaries. */
+  private int scanned;
+
+  /** The index after the last decoded character. */
+  private int end;
+
+  /** The nesting depth of the scan position: zero between records. */
+  private int depth;
+
+  /** Whether the scan position is inside a string. */
+  private boolean inString;
+
+  /** Whether the scan position follows a backslash in a string. */
+  private boolean escaped;
+
+  /** The reader of the complete records, which reads from {@link #chars}. */
+  private final JsonReader in;
+
+  /**
+   * Constructor.
+   * @param gson The GSON instance whose type adapters read the records.
+   * @param type The record type.
+   */
+  public JsonFeedDecoder(Gson gson, Class<T> type)
+  {
+    this(gson, TypeToken.get(type));
+  }
+
+  /**
+   * Constructor for generic record types.
+   * @param gson The GSON instance whose type adapters read the records.
+   * @param type The record type.
+   */
+  @SuppressWarnings("unchecked")
+  public JsonFeedDecoder(Gson gson, Type type)
+  {
+    this(gson, (TypeToken<T>) TypeToken.get(type));
+  }
+
+  /**
+   * Constructor.
+   * @param gson The GSON instance whose type adapters read the records.
+   * @param type The record type.
+   */
+  private JsonFeedDecoder(Gson gson, TypeToken<T> type)
+  {
+    if (gson == null) { throw new NullPointerException("gson cannot be null"); }
+
+    this.adapter = gson.getAdapter(type);
+    this.decoder = Charset.forName("UTF-8").newDecoder()
+      .onMalformedInput(CodingErrorAction.REPLACE)
+      .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    this.bytes = ByteBuffer.allocate(INITIAL_CAPACITY);
+    this.chars = new char[INITIAL_CAPACITY];
+    this.in = new JsonReader(new CompleteRecordReader());
+
+    // Lenient reading allows the input to hold more than one top level value
+    this.in.setLenient(true);
+  }
+
+  /**
+   * Decodes a chunk of UTF-8 input, and reads the records that it completes.
+   * @param chunk The input, from its position to its limit, all of which is consumed.
+   * @param records The collection to add the completed records to.
+   * @return The number of records completed.
+   * @throws JsonSyntaxException if the input isn't a stream of JSON objects or arrays, or a record can't be read
+   * as the record type.
+   */
+  public int feed(ByteBuffer chunk, Collection<? super T> records)
+  {
+    if (chunk == null) { throw new NullPointerException("chunk cannot be null"); }
+    if (records == null) { throw new NullPointerException("records cannot be null"); }
+
+    append(chunk);
+    decode(false);
+
+    return scan(records);
+  }
+
+  /**
+   * Signals the end of the input.
+   * @throws JsonSyntaxException if the input ends part way through a record.
+   */
+  public void finish()
+  {
+    decode(true);
+    if (hasPartialRecord())
+    {
+      throw new JsonSyntaxException("The input ends part way through a record");
+    }
+  }
+
+  /**
+   * Tests whether part of a record has been fed, but not yet completed.
+   * @return {@code true} if there's a partial record.
+   */
+  public boolean hasPartialRecord()
+  {
+    return this.depth > 0 || this.bytes.position() > 0;
+  }
+
+  /**
+   * Appends a chunk to the bytes not yet decoded.
+   * @param chunk The chunk.
+   */
+  private void append(ByteBuffer chunk)
+  {
+    if (this.bytes.remaining() < chunk.remaining())
+    {
+      final int capacity = Math.max(this.bytes.capacity() * 2, this.bytes.position() + chunk.remaining());
+      final ByteBuffer larger = ByteBuffer.allocate(capacity);
+      this.bytes.flip();
+      larger.put(this.bytes);
+      this.bytes = larger;
+    }
+
+    this.bytes.put(chunk);
+  }
+
+  /**
+   * Decodes as many of the bytes as possible into characters.
+   * @param endOfInput Whether there are no more bytes to come.
+   */
+  private void decode(boolean endOfInput)
+  {
+    // Move the unread characters to the front, and make room for every byte to decode to a character
+    if (this.start > 0)
+    {
+      System.arraycopy(this.chars, this.start, this.chars, 0, this.end - this.start);
+      this.complete -= this.start;
+      this.scanned -= this.start;
+      this.end -= this.start;
+      this.start = 0;
+    }
+    if (this.chars.length - this.end < this.bytes.position() + 1)
+    {
+      this.chars = Arrays.copyOf(this.chars, Math.max(this.chars.length * 2, this.end + this.bytes.position() + 1));
+    }
+
+    final CharBuffer out = CharBuffer.wrap(this.chars, this.end, this.chars.length - this.end);
+    this.bytes.flip();
+    this.decoder.decode(this.bytes, out, endOfInput);
+    if (endOfInput)
+    {
+      this.decoder.flush(out);
+    }
+    this.bytes.compact();
+    this.end = out.position();
+  }
+
+  /**
+   * Scans the newly decoded characters for the ends of records, and reads each record completed.
+   * @param records The collection to add the completed records to.
+   * @return The number of records completed.
+   */
+  private int scan(Collection<? super T> records)
+  {
+    int count = 0;
+
+    for (; this.scanned < this.end; this.scanned++)
+    {
+      final char c = this.chars[this.scanned];
+      if (this.inString)
+      {
+        if (this.escaped)
+        {
+          this.escaped = false;
+        }
+        else if (c == '\\')
+        {
+          this.escaped = true;
+        }
+        else if (c == '"')
+        {
+          this.inString = false;
+        }
+      }
+      else if (c == '"')
+      {
+        this.inString = true;
+      }
+      else if (c == '{' || c == '[')
+      {
+        this.depth++;
+      }
+      else if (c == '}' || c == ']')
+      {
+        if (this.depth == 0)
+        {
+          throw new JsonSyntaxException("Unexpected '" + c + "' between records");
+        }
+        if (--this.depth == 0)
+        {
+          this.complete = this.scanned + 1;
+          records.add(read());
+          count++;
+        }
+      }
+      else if (this.depth == 0 && !isWhitespace(c))
+      {
+        throw new JsonSyntaxException("Unexpected '" + c + "' between records; each record must be an object or array");
+      }
+    }
+
+    return count;
+  }
+
+  /**
+   * Reads the record that has just been completed.
+   * @return The record.
+   */
+  private T read()
+  {
+    try
+    {
+      return this.adapter.read(this.in);
+    }
+    catch (IllegalStateException e)
+    {
+      throw new JsonSyntaxException(e);
+    }
+    catch (IOException e)
+    {
+      // The records are read from memory, so this can only be a malformed record
+      throw new JsonSyntaxException(e);
+    }
+  }
+
+  /**
+   * Tests for JSON whitespace.
+   * @param c The character.
+   * @return {@code true} if {@code c} is whitespace.
+   */
+  private static boolean isWhitespace(char c)
+  {
+    return c == ' ' || c == '\n' || c == '\r' || c == '\t';
+  }
+
+  /**
+   * Reads the characters of the complete records, and reports the end of the input at the end of the last one,
+   * so that the JSON reader never waits for input part way through a record.
+   */
+  private final class CompleteRecordReader extends Reader
+  {
+    @Override
+    public int read(char[] cbuf, int off, int len)
+    {
+      final JsonFeedDecoder<T> feed = JsonFeedDecoder.this;
+      final int available = feed.complete - feed.start;
+      if (available <= 0)
+      {
+        return -1;
+      }
+
+      final int count = Math.min(available, len);
+      System.arraycopy(feed.chars, feed.start, cbuf, off, count);
+      feed.start += count;
+      return count;
+    }
+
+    @Override
+    public void close()
+    {
+    }
+  }
+}
@@ -0,0 +1,337 @@
+/*
+ * GSON Joda Time Serialisers
+ *
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjodatime;
+
+import com.google.gson.JsonSyntaxException;
+
+/**
+ * Finds a field of a JSON object in its raw text, without parsing the rest of the object.  Only the members of the
+ * outermost object are considered; nested values are skipped over, respecting strings and their escapes.
+ */
+final class JsonFieldScanner
+{
+  /**
+   * Not instantiable.
+   */
+  private JsonFieldScanner()
+  {
+  }
+
+  /**
+   * Finds the value of a member of the outermost object.
+   * @param json The text of the object.
+   * @param field The name of the member.
+   * @return The index of the first character of the member's value, or {@code -1} if there's no such member.
+   * @throws JsonSyntaxException if the text isn't a JSON object, as far as it has been scanned.
+   */
+  static int valueIndex(String json, String field)
+  {
+    final int length = json.length();
+    int i = skipWhitespace(json, 0);
+    if (i == length || json.charAt(i) != '{')
+    {
+      throw syntax(i, "a JSON object");
+    }
+
+    i = skipWhitespace(json, i + 1);
+    if (i < length && json.charAt(i) == '}')
+    {
+      return -1;
+    }
+
+    while (true)
+    {
+      if (i == length || json.charAt(i) != '"')
+      {
+        throw syntax(i, "a member name");
+      }
+      final int nameEnd = stringEnd(json, i);
+      final boolean matches = nameEquals(json, i, nameEnd, field);
+
+      i = skipWhitespace(json, nameEnd);
+      if (i == length || json.charAt(i) != ':')
+      {
+        throw syntax(i, "':'");
+      }
+      i = skipWhitespace(json, i + 1);
+      if (i == length)
+      {
+        throw syntax(i, "a value");
+      }
+      if (matches)
+      {
+        return i;
+      }
+
+      i = skipWhitespace(json, valueEnd(json, i));
+      if (i < length && json.charAt(i) == ',')
+      {
+        i = skipWhitespace(json, i + 1);
+      }
+      else if (i < length && json.charAt(i) == '}')
+      {
+        return -1;
+      }
+      else
+      {
+        throw syntax(i, "',' or '}'");
+      }
+    }
+  }
+
+  /**
+   * Finds the text of a member of the outermost object: the contents of a string value, or the text of any other
+   * primitive value.
+   * @param json The text of the object.
+   * @param field The name of the member.
+   * @return The text, or {@code null} if there's no such member or its value is {@code null}.
+   * @throws JsonSyntaxException if the text isn't a JSON object, as far as it has been scanned, or the value
+   * isn't a primitive.
+   */
+  static String text(String json, String field)
+  {
+    final int index = valueIndex(json, field);
+    if (index < 0)
+    {
+      return null;
+    }
+
+    final char c = json.charAt(index);
+    if (c == '"')
+    {
+      return stringValue(json, index);
+    }
+    if (c == '{' || c == '[')
+    {
+      throw new JsonSyntaxException("The value of \"" + field + "\" isn't a primitive");
+    }
+
+    final String token = json.substring(index, valueEnd(json, index));
+    return token.equals("null") ? null : token;
+  }
+
+  /**
+   * Returns the contents of a string value, with its escapes resolved.
+   * @param json The text.
+   * @param index The index of the opening quote.
+   * @return The contents of the string.
+   * @throws JsonSyntaxException if the string isn't terminated, or has a malformed escape.
+   */
+  static String stringValue(String json, int index)
+  {
+    final int end = stringEnd(json, index);
+    final String contents = json.substring(index + 1, end - 1);
+
+    return contents.indexOf('\\') < 0 ? contents : unescape(json, index + 1, end - 1);
+  }
+
+  /**
+   * Returns the index after the end of a value.
+   * @param json The text.
+   * @param index The index of the first character of the value.
+   * @return The index after the last character of the value.
+   * @throws JsonSyntaxException if the value isn't terminated.
+   */
+  static int valueEnd(String json, int index)
+  {
+    final char first = json.charAt(index);
+    if (first == '"')
+    {
+      return stringEnd(json, index);
+    }
+
+    final int length = json.length();
+    if (first == '{' || first == '[')
+    {
+      int depth = 0;
+      for (int i = index; i < length; i++)
+      {
+        final char c = json.charAt(i);
+        if (c == '"')
+        {
+          i = stringEnd(json, i) - 1;
+        }
+        else if (c == '{' || c == '[')
+        {
+          depth++;
+        }
+        else if ((c == '}' || c == ']') && --depth == 0)
+        {
+          return i + 1;
+        }
+      }
+      throw syntax(length, "the end of the value");
+    }
+
+    int i = index;
+    while (i < length && ",}] \t\r\n".indexOf(json.charAt(i)) < 0)
+    {
+      i++;
+    }
+    return i;
+  }
+
+  /**
+   * Returns the index after the closing quote of a string.
+   * @param json The text.
+   * @param index The index of the opening quote.
+   * @return The index after the closing quote.
+   * @throws JsonSyntaxException if the string isn't terminated.
+   */
+  private static int stringEnd(String json, int index)
+  {
+    final int length = json.length();
+    for (int i = index + 1; i < length; i++)
+    {
+      final char c = json.charAt(i);
+      if (c == '\\')
+      {
+        i++;
+      }
+      else if (c == '"')
+      {
+        return i + 1;
+      }
+    }
+
+    throw syntax(length, "the end of the string");
+  }
+
+  /**
+   * Tests whether a member name is the given name.
+   * @param json The text.
+   * @param start The index of the opening quote of the member name.
+   * @param end The index after the closing quote of the member name.
+   * @param name The name to compare with.
+   * @return {@code true} if the member name is {@code name}.
+   */
+  private static boolean nameEquals(String json, int start, int end, String name)
+  {
+    for (int i = start + 1; i < end - 1; i++)
+    {
+      if (json.charAt(i) == '\\')
+      {
+        return unescape(json, start + 1, end - 1).equals(name);
+      }
+    }
+
+    final int length = end - start - 2;
+    return length == name.length() && json.regionMatches(start + 1, name, 0, length);
+  }
+
+  /**
+   * Resolves the escapes of the contents of a string.
+   * @param json The text.
+   * @param start The index of the first character of the contents.
+   * @param end The index after the last character of the contents.
+   * @return The contents, with the escapes resolved.
+   * @throws JsonSyntaxException if an escape is malformed.
+   */
+  private static String unescape(String json, int start, int end)
+  {
+    final StringBuilder text = new StringBuilder(end - start);
+    for (int i = start; i < end; i++)
+    {
+      final char c = json.charAt(i);
+      if (c != '\\')
+      {
+        text.append(c);
+        continue;
+      }
+
+      final char escaped = ++i < end ? json.charAt(i) : '\0';
+      switch (escaped)
+      {
+        case '"':
+        case '\\':
+        case '/':
+          text.append(escaped);
+          break;
+        case 'b':
+          text.append('\b');
+          break;
+        case 'f':
+          text.append('\f');
+          break;
+        case 'n':
+          text.append('\n');
+          break;
+        case 'r':
+          text.append('\r');
+          break;
+        case 't':
+          text.append('\t');
+          break;
+        case 'u':
+          if (i + 4 >= end)
+          {
+            throw syntax(i, "four hex digits");
+          }
+          try
+          {
+            text.append((char) Integer.parseInt(json.substring(i + 1, i + 5), 16));
+          }
+          catch (NumberFormatException e)
+          {
+            throw syntax(i, "four hex digits");
+          }
+          i += 4;
+          break;
+        default:
+          throw syntax(i, "an escape");
+      }
+    }
+
+    return text.toString();
+  }
+
+  /**
+   * Skips whitespace.
+   * @param json The text.
+   * @param index The index to start from.
+   * @return The index of the first non-whitespace character, or the length of the text.
+   */
+  private static int skipWhitespace(String json, int index)
+  {
+    int i = index;
+    while (i < json.length() && " \t\r\n".indexOf(json.charAt(i)) >= 0)
+    {
+      i++;
+    }
+    return i;
+  }
+
+  /**
+   * Creates the exception for malformed JSON.
+   * @param index The index of the malformation.
+   * @param expected What was expected.
+   * @return The exception.
+   */
+  private static JsonSyntaxException syntax(int index, String expected)
+  {
+    return new JsonSyntaxException("Expected " + expected + " at index " + index + " of the JSON object");
+  }
+}
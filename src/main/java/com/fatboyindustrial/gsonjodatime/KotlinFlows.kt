@@ -0,0 +1,98 @@
+/*
+ * GSON Joda Time Serialisers
+ *
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjodatime
+
+import com.google.gson.Gson
+import com.google.gson.reflect.TypeToken
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.channels.Channel
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.buffer
+import kotlinx.coroutines.flow.flow
+import kotlinx.coroutines.flow.flowOn
+import java.io.InputStream
+import java.io.Reader
+import java.lang.reflect.Type
+import kotlin.coroutines.CoroutineContext
+
+/**
+ * Returns a cold flow of the records read from the receiver, with each record read by the type adapters
+ * registered with [gson] (such as the Joda Time converters).  The blocking reads run in [context], and each
+ * record is read only once the collector has taken the one before it, so the input is never held in memory as a
+ * whole.  The receiver is closed when the flow completes, fails or is cancelled, so the flow can only be
+ * collected once.
+ *
+ * This extension needs the optional `kotlinx-coroutines-core` dependency.
+ * @param gson The GSON instance whose type adapters read the records.
+ * @param format The layout of the input.
+ * @param context The context to read in, such as a dispatcher for blocking I/O.
+ * @see NdjsonReader
+ * @see JsonArrayReader
+ */
+inline fun <reified T> Reader.jsonRecordFlow(
+    gson: Gson,
+    format: RecordFormat = RecordFormat.NDJSON,
+    context: CoroutineContext = Dispatchers.IO): Flow<T> =
+    jsonRecordFlow(gson, object : TypeToken<T>() {}.type, format, context)
+
+/**
+ * Returns a cold flow of the records read from the receiver, which is read as UTF-8.
+ * @param gson The GSON instance whose type adapters read the records.
+ * @param format The layout of the input.
+ * @param context The context to read in, such as a dispatcher for blocking I/O.
+ * @see Reader.jsonRecordFlow
+ */
+inline fun <reified T> InputStream.jsonRecordFlow(
+    gson: Gson,
+    format: RecordFormat = RecordFormat.NDJSON,
+    context: CoroutineContext = Dispatchers.IO): Flow<T> =
+    reader(Charsets.UTF_8).jsonRecordFlow(gson, format, context)
+
+/**
+ * Returns a cold flow of the records of the given type read from the receiver.
+ * @param gson The GSON instance whose type adapters read the records.
+ * @param type The record type.
+ * @param format The layout of the input.
+ * @param context The context to read in, such as a dispatcher for blocking I/O.
+ * @see Reader.jsonRecordFlow
+ */
+fun <T> Reader.jsonRecordFlow(
+    gson: Gson,
+    type: Type,
+    format: RecordFormat = RecordFormat.NDJSON,
+    context: CoroutineContext = Dispatchers.IO): Flow<T> {
+    @Suppress("UNCHECKED_CAST")
+    val token = TypeToken.get(type) as TypeToken<T>
+    val reader = this
+
+    return flow {
+        format.open(gson, reader, token).use { records ->
+            while (records.hasNext()) {
+                emit(records.next())
+            }
+        }
+    }.buffer(Channel.RENDEZVOUS).flowOn(context)
+}
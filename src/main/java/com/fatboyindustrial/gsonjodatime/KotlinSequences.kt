@@ -0,0 +1,71 @@
+/*
+ * GSON Joda Time Serialisers
+ *
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjodatime
+
+import com.google.gson.Gson
+import com.google.gson.reflect.TypeToken
+import java.io.InputStream
+import java.io.Reader
+import java.lang.reflect.Type
+
+/**
+ * Returns a sequence of the records read from the receiver, with each record read by the type adapters registered
+ * with [gson] (such as the Joda Time converters) as the sequence is iterated.  Records are read one at a time,
+ * so the input is never held in memory as a whole.  The sequence can only be iterated once, and doesn't close
+ * the receiver:
+ * ```
+ * reader.use { it.jsonRecords<Event>(gson).forEach(::process) }
+ * ```
+ * @param gson The GSON instance whose type adapters read the records.
+ * @param format The layout of the input.
+ * @see NdjsonReader
+ * @see JsonArrayReader
+ */
+inline fun <reified T> Reader.jsonRecords(gson: Gson, format: RecordFormat = RecordFormat.NDJSON): Sequence<T> =
+    jsonRecords(gson, object : TypeToken<T>() {}.type, format)
+
+/**
+ * Returns a sequence of the records read from the receiver, which is read as UTF-8.
+ * @param gson The GSON instance whose type adapters read the records.
+ * @param format The layout of the input.
+ * @see Reader.jsonRecords
+ */
+inline fun <reified T> InputStream.jsonRecords(gson: Gson, format: RecordFormat = RecordFormat.NDJSON): Sequence<T> =
+    reader(Charsets.UTF_8).jsonRecords(gson, format)
+
+/**
+ * Returns a sequence of the records of the given type read from the receiver.
+ * @param gson The GSON instance whose type adapters read the records.
+ * @param type The record type.
+ * @param format The layout of the input.
+ * @see Reader.jsonRecords
+ */
+fun <T> Reader.jsonRecords(gson: Gson, type: Type, format: RecordFormat = RecordFormat.NDJSON): Sequence<T> {
+    @Suppress("UNCHECKED_CAST")
+    val token = TypeToken.get(type) as TypeToken<T>
+
+    return Sequence { format.open(gson, this, token) }.constrainOnce()
+}
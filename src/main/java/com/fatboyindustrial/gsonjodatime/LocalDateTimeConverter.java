@@ -33,7 +33,7 @@ import com.google.gson.JsonPrimitive;
 import com.google.gson.JsonSerializationContext;
 import com.google.gson.JsonSerializer;
 import org.joda.time.LocalDateTime;
-import org.joda.time.format.DateTimeFormat;
+import org.joda.time.chrono.ISOChronology;
 import org.joda.time.format.DateTimeFormatter;
 
 import java.lang.reflect.Type;
@@ -41,10 +41,48 @@ import java.lang.reflect.Type;
 /**
  * GSON serialiser/deserialiser for converting Joda {@link LocalDateTime} objects.
  */
-public class LocalDateTimeConverter implements JsonSerializer<LocalDateTime>, JsonDeserializer<LocalDateTime>
+public class LocalDateTimeConverter implements JsonSerializer<LocalDateTime>, JsonDeserializer<LocalDateTime>, StringConverter<LocalDateTime>
 {
-  /** Format specifier */
-  private static final String PATTERN = "yyyy-MM-dd'T'HH:mm:ss.SSS";
+  /** The formatter to print and parse with. */
+  private final DateTimeFormatter formatter;
+  /** The fixed-width printer to try before the {@code formatter}, or {@code null} if there isn't one. */
+  private final IsoDateTimePrinter isoPrinter;
+  /** The printer to use instead of the {@code formatter} when the precision omits the fraction. */
+  private final DateTimeFormatter fractionlessPrinter;
+  /** The precision to print with. */
+  private final Precision precision;
+  /** Whether {@link IsoDateTimeParser} may be tried before the {@code formatter}. */
+  private final boolean isoParser;
+  /** Whether {@link IsoDateTimeParser} may accept the basic format, which only the basic formatters parse. */
+  private final boolean basicParser;
+
+  /**
+   * Constructs a converter using the ISO 8601 formatters.
+   */
+  public LocalDateTimeConverter()
+  {
+    this(FormatterRegistry.iso());
+  }
+
+  /**
+   * Constructs a converter using the given formatters.
+   * @param formatters The formatters to use.
+   */
+  public LocalDateTimeConverter(FormatterRegistry formatters)
+  {
+    if (formatters == null) { throw new NullPointerException("formatters cannot be null"); }
+
+    this.formatter = formatters.localDateTimeFormatter();
+    this.isoPrinter = IsoDateTimePrinter.select(
+      this.formatter,
+      FormatterRegistry.ISO_LOCAL_DATE_TIME_FORMATTER,
+      FormatterRegistry.BASIC_LOCAL_DATE_TIME_FORMATTER,
+      formatters.localDateTimePrecision());
+    this.fractionlessPrinter = FormatterRegistry.withoutFraction(this.formatter);
+    this.precision = formatters.localDateTimePrecision();
+    this.isoParser = this.isoPrinter != null;
+    this.basicParser = this.formatter == FormatterRegistry.BASIC_LOCAL_DATE_TIME_FORMATTER;
+  }
 
   /**
    * Gson invokes this call-back method during serialization when it encounters a field of the
@@ -62,8 +100,7 @@ public class LocalDateTimeConverter implements JsonSerializer<LocalDateTime>, Js
   @Override
   public JsonElement serialize(LocalDateTime src, Type typeOfSrc, JsonSerializationContext context)
   {
-    final DateTimeFormatter fmt = DateTimeFormat.forPattern(PATTERN);
-    return new JsonPrimitive(fmt.print(src));
+    return new JsonPrimitive(print(src));
   }
 
   /**
@@ -85,12 +122,59 @@ public class LocalDateTimeConverter implements JsonSerializer<LocalDateTime>, Js
       throws JsonParseException
   {
     // Do not try to deserialize null or empty values
-    if (json.getAsString() == null || json.getAsString().isEmpty())
+    final String text = json.isJsonNull() ? null : json.getAsString();
+    if (text == null || text.isEmpty())
     {
       return null;
     }
 
-    final DateTimeFormatter fmt = DateTimeFormat.forPattern(PATTERN);
-    return fmt.parseLocalDateTime(json.getAsString());
+    return parse(text);
+  }
+
+  /**
+   * Prints the given value as text.
+   * @param src The value to print (never {@code null}).
+   * @return The textual representation of {@code src}.
+   */
+  @Override
+  public String print(LocalDateTime src)
+  {
+    if (this.isoPrinter != null && src.getChronology() instanceof ISOChronology)
+    {
+      final String printed = this.isoPrinter.printLocal(
+        src.getYear(), src.getMonthOfYear(), src.getDayOfMonth(), src.getMillisOfDay());
+      if (printed != null)
+      {
+        return printed;
+      }
+    }
+
+    if (this.precision.omitsFraction(src.getMillisOfSecond()) && this.fractionlessPrinter != null)
+    {
+      return this.fractionlessPrinter.print(src);
+    }
+
+    return this.formatter.print(src);
+  }
+
+  /**
+   * Parses the given text.
+   * @param text The text to parse (never {@code null} or empty).
+   * @return The parsed value.
+   * @throws IllegalArgumentException if the text cannot be parsed.
+   */
+  @Override
+  public LocalDateTime parse(String text)
+  {
+    if (this.isoParser)
+    {
+      final LocalDateTime parsed = IsoDateTimeParser.parseLocalDateTime(text, this.basicParser);
+      if (parsed != null)
+      {
+        return parsed;
+      }
+    }
+
+    return this.formatter.parseLocalDateTime(text);
   }
 }
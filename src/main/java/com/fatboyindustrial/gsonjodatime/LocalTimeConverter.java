@@ -34,22 +34,56 @@ import com.google.gson.JsonSerializationContext;
 import com.google.gson.JsonSerializer;
 import org.joda.time.DateTime;
 import org.joda.time.LocalTime;
+import org.joda.time.chrono.ISOChronology;
 import org.joda.time.format.DateTimeFormatter;
-import org.joda.time.format.DateTimeFormatterBuilder;
-import org.joda.time.format.ISODateTimeFormat;
 
 import java.lang.reflect.Type;
 
 /**
  * GSON serialiser/deserialiser for converting Joda {@link DateTime} objects.
  */
-public class LocalTimeConverter implements JsonSerializer<LocalTime>, JsonDeserializer<LocalTime>
+public class LocalTimeConverter implements JsonSerializer<LocalTime>, JsonDeserializer<LocalTime>, StringConverter<LocalTime>
 {
-  /** Real ISO8601 Format specifier */
-  private static final DateTimeFormatter FORMATTER = new DateTimeFormatterBuilder()
-          .append(ISODateTimeFormat.time().getPrinter(),
-                  ISODateTimeFormat.localTimeParser().getParser())
-          .toFormatter();
+  /** The formatter to print and parse with. */
+  private final DateTimeFormatter formatter;
+  /** The fixed-width printer to try before the {@code formatter}, or {@code null} if there isn't one. */
+  private final IsoDateTimePrinter isoPrinter;
+  /** The printer to use instead of the {@code formatter} when the precision omits the fraction. */
+  private final DateTimeFormatter fractionlessPrinter;
+  /** The precision to print with. */
+  private final Precision precision;
+  /** Whether {@link IsoDateTimeParser} may be tried before the {@code formatter}. */
+  private final boolean isoParser;
+  /** Whether {@link IsoDateTimeParser} may accept the basic format, which only the basic formatters parse. */
+  private final boolean basicParser;
+
+  /**
+   * Constructs a converter using the ISO 8601 formatters.
+   */
+  public LocalTimeConverter()
+  {
+    this(FormatterRegistry.iso());
+  }
+
+  /**
+   * Constructs a converter using the given formatters.
+   * @param formatters The formatters to use.
+   */
+  public LocalTimeConverter(FormatterRegistry formatters)
+  {
+    if (formatters == null) { throw new NullPointerException("formatters cannot be null"); }
+
+    this.formatter = formatters.localTimeFormatter();
+    this.isoPrinter = IsoDateTimePrinter.select(
+      this.formatter,
+      FormatterRegistry.ISO_LOCAL_TIME_FORMATTER,
+      FormatterRegistry.BASIC_LOCAL_TIME_FORMATTER,
+      formatters.localTimePrecision());
+    this.fractionlessPrinter = FormatterRegistry.withoutFraction(this.formatter);
+    this.precision = formatters.localTimePrecision();
+    this.isoParser = this.isoPrinter != null;
+    this.basicParser = this.formatter == FormatterRegistry.BASIC_LOCAL_TIME_FORMATTER;
+  }
 
   /**
    * Gson invokes this call-back method during serialization when it encounters a field of the
@@ -67,7 +101,7 @@ public class LocalTimeConverter implements JsonSerializer<LocalTime>, JsonDeseri
   @Override
   public JsonElement serialize(LocalTime src, Type typeOfSrc, JsonSerializationContext context)
   {
-    return new JsonPrimitive(src.toString(FORMATTER));
+    return new JsonPrimitive(print(src));
   }
 
   /**
@@ -89,11 +123,58 @@ public class LocalTimeConverter implements JsonSerializer<LocalTime>, JsonDeseri
       throws JsonParseException
   {
     // Do not try to deserialize null or empty values
-    if (json.getAsString() == null || json.getAsString().isEmpty())
+    final String text = json.isJsonNull() ? null : json.getAsString();
+    if (text == null || text.isEmpty())
     {
       return null;
     }
 
-    return LocalTime.parse(json.getAsString(), FORMATTER);
+    return parse(text);
+  }
+
+  /**
+   * Prints the given value as text.
+   * @param src The value to print (never {@code null}).
+   * @return The textual representation of {@code src}.
+   */
+  @Override
+  public String print(LocalTime src)
+  {
+    if (this.isoPrinter != null && src.getChronology() instanceof ISOChronology)
+    {
+      final String printed = this.isoPrinter.printTime(src.getMillisOfDay());
+      if (printed != null)
+      {
+        return printed;
+      }
+    }
+
+    if (this.precision.omitsFraction(src.getMillisOfSecond()) && this.fractionlessPrinter != null)
+    {
+      return this.fractionlessPrinter.print(src);
+    }
+
+    return this.formatter.print(src);
+  }
+
+  /**
+   * Parses the given text.
+   * @param text The text to parse (never {@code null} or empty).
+   * @return The parsed value.
+   * @throws IllegalArgumentException if the text cannot be parsed.
+   */
+  @Override
+  public LocalTime parse(String text)
+  {
+    if (this.isoParser)
+    {
+      final LocalTime parsed = IsoDateTimeParser.parseLocalTime(text, this.basicParser);
+      if (parsed != null)
+      {
+        return parsed;
+      }
+    }
+
+    return this.formatter.parseLocalTime(text);
   }
 }
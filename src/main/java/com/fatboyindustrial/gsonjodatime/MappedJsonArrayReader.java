@@ -0,0 +1,373 @@
+/*
+ * GSON Joda Time Serialisers
+ *
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjodatime;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.reflect.TypeToken;
+
+import java.io.CharArrayReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Type;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Reads the elements of a file holding a single JSON array, such as a multi-gigabyte export of timestamped
+ * records, by memory-mapping the file and decoding shards of it in parallel on an {@link ExecutorService} with the
+ * type adapters registered with a {@link Gson} instance (such as the Joda Time converters registered by
+ * {@link Converters}, which are thread safe).
+ * <p>
+ * The thread that iterates scans the mapped UTF-8 bytes for the commas that separate the elements of the array,
+ * skipping strings (and the escapes within them) and nested values, and cuts the array into shards of whole
+ * elements of about {@code shardSize} bytes.  Each shard is then decoded, independently, by a worker.  No more
+ * than {@code maxInFlight} shards are decoding, or waiting to be returned, at a time, so the heap holds only the
+ * decoded characters of those shards, however large the file.  The elements are returned in either the order of
+ * the file or the order in which their shards finish decoding.
+ * <pre>
+ *   final MappedJsonArrayReader&lt;Event&gt; events = new MappedJsonArrayReader&lt;Event&gt;(
+ *     gson, file, Event.class, executor, RecordOrder.INPUT, 1 &lt;&lt; 20, 2 * threads);
+ * </pre>
+ * A malformed file is reported by the iterator methods as a {@link com.google.gson.JsonSyntaxException}.
+ * @param <T> The element type.
+ */
+public final class MappedJsonArrayReader<T> extends ParallelBatchReader<T>
+{
+  /** The number of bytes mapped at a time while scanning. */
+  private static final int WINDOW_SIZE = 1 << 26;
+
+  /** The character set of the file. */
+  private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+  /** The GSON instance that reads the elements. */
+  private final Gson gson;
+
+  /** The element type. */
+  private final TypeToken<T> type;
+
+  /** The file. */
+  private final RandomAccessFile file;
+
+  /** The channel of the file. */
+  private final FileChannel channel;
+
+  /** The size of the file. */
+  private final long size;
+
+  /** The number of bytes in each shard. */
+  private final int shardSize;
+
+  /** The number of bytes mapped at a time while scanning. */
+  private final int windowSize;
+
+  /** The window being scanned. */
+  private MappedByteBuffer window;
+
+  /** The position in the file of the start of the {@link #window}. */
+  private long windowStart;
+
+  /** The position in the file of the next byte to scan. */
+  private long position;
+
+  /** The position in the file of the start of the next shard, or {@code -1} before the array has started. */
+  private long shardStart;
+
+  /** The nesting depth of the scan position: one within the array, but outside its elements. */
+  private int depth;
+
+  /** Whether the scan position is inside a string. */
+  private boolean inString;
+
+  /** Whether the scan position follows a backslash in a string. */
+  private boolean escaped;
+
+  /** Whether the end of the array has been scanned. */
+  private boolean ended;
+
+  /**
+   * Constructor.
+   * @param gson The GSON instance whose type adapters read the elements.
+   * @param file The file.
+   * @param type The element type.
+   * @param executor The executor to decode the shards on.
+   * @param order The order to return the elements in.
+   * @param shardSize The approximate number of bytes in each shard.
+   * @param maxInFlight The number of shards that may be decoding, or waiting to be returned, at a time.
+   * @throws IOException if the file can't be opened.
+   */
+  public MappedJsonArrayReader(
+    Gson gson,
+    File file,
+    Class<T> type,
+    ExecutorService executor,
+    RecordOrder order,
+    int shardSize,
+    int maxInFlight) throws IOException
+  {
+    this(gson, file, TypeToken.get(type), executor, order, shardSize, maxInFlight, WINDOW_SIZE);
+  }
+
+  /**
+   * Constructor for generic element types.
+   * @param gson The GSON instance whose type adapters read the elements.
+   * @param file The file.
+   * @param type The element type.
+   * @param executor The executor to decode the shards on.
+   * @param order The order to return the elements in.
+   * @param shardSize The approximate number of bytes in each shard.
+   * @param maxInFlight The number of shards that may be decoding, or waiting to be returned, at a time.
+   * @throws IOException if the file can't be opened.
+   */
+  @SuppressWarnings("unchecked")
+  public MappedJsonArrayReader(
+    Gson gson,
+    File file,
+    Type type,
+    ExecutorService executor,
+    RecordOrder order,
+    int shardSize,
+    int maxInFlight) throws IOException
+  {
+    this(gson, file, (TypeToken<T>) TypeToken.get(type), executor, order, shardSize, maxInFlight, WINDOW_SIZE);
+  }
+
+  /**
+   * Constructor.
+   * @param gson The GSON instance whose type adapters read the elements.
+   * @param file The file.
+   * @param type The element type.
+   * @param executor The executor to decode the shards on.
+   * @param order The order to return the elements in.
+   * @param shardSize The approximate number of bytes in each shard.
+   * @param maxInFlight The number of shards that may be decoding, or waiting to be returned, at a time.
+   * @param windowSize The number of bytes to map at a time while scanning.
+   * @throws IOException if the file can't be opened.
+   */
+  MappedJsonArrayReader(
+    Gson gson,
+    File file,
+    TypeToken<T> type,
+    ExecutorService executor,
+    RecordOrder order,
+    int shardSize,
+    int maxInFlight,
+    int windowSize) throws IOException
+  {
+    super(executor, order, maxInFlight);
+
+    if (gson == null) { throw new NullPointerException("gson cannot be null"); }
+    if (file == null) { throw new NullPointerException("file cannot be null"); }
+    if (shardSize <= 0) { throw new IllegalArgumentException("shardSize must be positive: " + shardSize); }
+
+    this.gson = gson;
+    this.type = type;
+    this.shardSize = shardSize;
+    this.windowSize = windowSize;
+    this.file = new RandomAccessFile(file, "r");
+    this.channel = this.file.getChannel();
+    this.size = this.channel.size();
+    this.shardStart = -1;
+  }
+
+  /**
+   * Scans the next shard of whole elements.
+   * @return The decoding of the shard, or {@code null} at the end of the array.
+   * @throws IOException if the file can't be read.
+   */
+  @Override
+  protected Callable<List<T>> readBatch() throws IOException
+  {
+    while (!this.ended)
+    {
+      if (this.position == this.size)
+      {
+        throw new JsonSyntaxException("The file ends part way through the array");
+      }
+
+      final byte b = byteAt(this.position);
+      if (this.inString)
+      {
+        if (this.escaped)
+        {
+          this.escaped = false;
+        }
+        else if (b == '\\')
+        {
+          this.escaped = true;
+        }
+        else if (b == '"')
+        {
+          this.inString = false;
+        }
+      }
+      else if (this.depth == 0)
+      {
+        // Only whitespace (and a byte order mark) may come before the array
+        if (b == '[')
+        {
+          this.depth = 1;
+          this.shardStart = this.position + 1;
+        }
+        else if (!isWhitespace(b) && !isByteOrderMark(this.position))
+        {
+          throw new JsonSyntaxException("Expected a JSON array at byte " + this.position);
+        }
+      }
+      else if (b == '"')
+      {
+        this.inString = true;
+      }
+      else if (b == '{' || b == '[')
+      {
+        this.depth++;
+      }
+      else if (b == '}' || b == ']')
+      {
+        if (--this.depth == 0)
+        {
+          this.ended = true;
+          final Callable<List<T>> shard = shard(this.shardStart, this.position);
+          this.position++;
+          checkTrailing();
+          return shard;
+        }
+      }
+      else if (b == ',' && this.depth == 1 && this.position - this.shardStart >= this.shardSize)
+      {
+        final Callable<List<T>> shard = shard(this.shardStart, this.position);
+        this.shardStart = ++this.position;
+        return shard;
+      }
+
+      this.position++;
+    }
+
+    return null;
+  }
+
+  /**
+   * Closes the file.
+   * @throws IOException if the file can't be closed.
+   */
+  @Override
+  protected void closeInput() throws IOException
+  {
+    this.ended = true;
+    this.window = null;
+    this.file.close();
+  }
+
+  /**
+   * Returns a byte of the file, mapping the window that holds it if need be.
+   * @param position The position of the byte.
+   * @return The byte.
+   * @throws IOException if the file can't be mapped.
+   */
+  private byte byteAt(long position) throws IOException
+  {
+    if (this.window == null || position >= this.windowStart + this.window.limit())
+    {
+      this.windowStart = position;
+      this.window = this.channel.map(
+        FileChannel.MapMode.READ_ONLY, position, Math.min(this.windowSize, this.size - position));
+    }
+
+    return this.window.get((int) (position - this.windowStart));
+  }
+
+  /**
+   * Checks that there's only whitespace after the array.
+   * @throws IOException if the file can't be read.
+   * @throws JsonSyntaxException if there's anything else after the array.
+   */
+  private void checkTrailing() throws IOException
+  {
+    for (; this.position < this.size; this.position++)
+    {
+      if (!isWhitespace(byteAt(this.position)))
+      {
+        throw new JsonSyntaxException("Unexpected content after the array at byte " + this.position);
+      }
+    }
+  }
+
+  /**
+   * Tests whether a UTF-8 byte order mark starts at, or spans, a position at the start of the file.
+   * @param position The position.
+   * @return {@code true} if the byte at {@code position} is part of a byte order mark.
+   * @throws IOException if the file can't be read.
+   */
+  private boolean isByteOrderMark(long position) throws IOException
+  {
+    return position < 3 && this.size >= 3 &&
+           byteAt(0) == (byte) 0xEF && byteAt(1) == (byte) 0xBB && byteAt(2) == (byte) 0xBF;
+  }
+
+  /**
+   * Tests for JSON whitespace.
+   * @param b The byte.
+   * @return {@code true} if {@code b} is whitespace.
+   */
+  private static boolean isWhitespace(byte b)
+  {
+    return b == ' ' || b == '\n' || b == '\r' || b == '\t';
+  }
+
+  /**
+   * Creates the decoding of a shard.
+   * @param start The position in the file of the start of the shard.
+   * @param end The position in the file after the end of the shard.
+   * @return The decoding, which maps the shard's own part of the file.
+   */
+  private Callable<List<T>> shard(final long start, final long end)
+  {
+    return new Callable<List<T>>()
+    {
+      @Override
+      public List<T> call() throws IOException
+      {
+        final MappedJsonArrayReader<T> owner = MappedJsonArrayReader.this;
+        final CharBuffer decoded =
+          UTF_8.decode(owner.channel.map(FileChannel.MapMode.READ_ONLY, start, end - start));
+
+        // Bracket the elements, so that they can be read as an array in their own right
+        final char[] array = new char[decoded.remaining() + 2];
+        array[0] = '[';
+        decoded.get(array, 1, array.length - 2);
+        array[array.length - 1] = ']';
+
+        return readAll(new JsonArrayReader<T>(owner.gson, new CharArrayReader(array), owner.type));
+      }
+    };
+  }
+}
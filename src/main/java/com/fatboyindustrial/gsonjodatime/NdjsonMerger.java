@@ -0,0 +1,222 @@
+/*
+ * GSON Joda Time Serialisers
+ *
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjodatime;
+
+import com.google.gson.JsonSyntaxException;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Merges NDJSON inputs that are each sorted by a timestamp field into a single output sorted by that field, as
+ * when combining the per host logs of a service.  Only the timestamp field of each record is found and parsed,
+ * with the fast path of the {@code Instant} converter; the rest of the record isn't parsed, and each line is
+ * passed through to the output unchanged.  The inputs are merged through a heap holding the current line of each,
+ * so memory use depends on the number of inputs but not their size.
+ * <p>
+ * The timestamp may be any text that the {@code Instant} converter parses, such as an ISO 8601 date and time with
+ * an offset, or a number of milliseconds since the epoch (as written by
+ * {@link Converters#registerAllNumeric(com.google.gson.GsonBuilder)}).  Records with equal timestamps are written
+ * in the order of their inputs.  Blank lines are dropped.
+ */
+public final class NdjsonMerger
+{
+  /** The name of the timestamp field. */
+  private final String field;
+
+  /** The converter that parses the timestamps. */
+  private final InstantConverter converter;
+
+  /**
+   * Constructs a merger of ISO 8601 timestamps.
+   * @param field The name of the timestamp field of the outermost object of each record.
+   */
+  public NdjsonMerger(String field)
+  {
+    this(field, FormatterRegistry.iso());
+  }
+
+  /**
+   * Constructor.
+   * @param field The name of the timestamp field of the outermost object of each record.
+   * @param formatters The formatters to parse the timestamps with.
+   */
+  public NdjsonMerger(String field, FormatterRegistry formatters)
+  {
+    if (field == null) { throw new NullPointerException("field cannot be null"); }
+
+    this.field = field;
+    this.converter = new InstantConverter(formatters);
+  }
+
+  /**
+   * Merges the inputs.  The inputs are read to their ends, but neither they nor the output are closed.
+   * @param inputs The inputs, each sorted by the timestamp field.
+   * @param output The output.
+   * @return The number of records written.
+   * @throws IOException if an input can't be read or the output can't be written.
+   * @throws JsonSyntaxException if a record isn't a JSON object with a timestamp field.
+   */
+  public long merge(List<? extends Reader> inputs, Writer output) throws IOException
+  {
+    if (inputs == null) { throw new NullPointerException("inputs cannot be null"); }
+    if (output == null) { throw new NullPointerException("output cannot be null"); }
+
+    final PriorityQueue<Input> heap = new PriorityQueue<Input>(Math.max(1, inputs.size()), new Comparator<Input>()
+    {
+      @Override
+      public int compare(Input a, Input b)
+      {
+        if (a.timestamp != b.timestamp)
+        {
+          return a.timestamp < b.timestamp ? -1 : 1;
+        }
+        return a.index < b.index ? -1 : (a.index == b.index ? 0 : 1);
+      }
+    });
+
+    for (int i = 0; i < inputs.size(); i++)
+    {
+      final Input input = new Input(inputs.get(i), i);
+      if (input.advance())
+      {
+        heap.add(input);
+      }
+    }
+
+    final Writer out = new BufferedWriter(output);
+    long written = 0;
+    while (!heap.isEmpty())
+    {
+      final Input input = heap.poll();
+      out.write(input.line);
+      out.write('\n');
+      written++;
+
+      if (input.advance())
+      {
+        heap.add(input);
+      }
+    }
+    out.flush();
+
+    return written;
+  }
+
+  /**
+   * Parses the timestamp of a record.
+   * @param line The record.
+   * @return The timestamp, in milliseconds since the epoch.
+   * @throws JsonSyntaxException if the record isn't a JSON object with a timestamp field.
+   */
+  long timestamp(String line)
+  {
+    final int index = JsonFieldScanner.valueIndex(line, this.field);
+    if (index < 0)
+    {
+      throw new JsonSyntaxException("The record has no \"" + this.field + "\" field: " + line);
+    }
+
+    if (line.charAt(index) == '"')
+    {
+      try
+      {
+        return this.converter.parse(JsonFieldScanner.stringValue(line, index)).getMillis();
+      }
+      catch (IllegalArgumentException e)
+      {
+        throw new JsonSyntaxException(e);
+      }
+    }
+
+    try
+    {
+      return Long.parseLong(line.substring(index, JsonFieldScanner.valueEnd(line, index)));
+    }
+    catch (NumberFormatException e)
+    {
+      throw new JsonSyntaxException("The \"" + this.field + "\" field isn't a timestamp: " + line, e);
+    }
+  }
+
+  /**
+   * An input, and its current record.
+   */
+  private final class Input
+  {
+    /** The input. */
+    private final BufferedReader reader;
+
+    /** The position of the input in the list of inputs. */
+    private final int index;
+
+    /** The current record. */
+    private String line;
+
+    /** The timestamp of the current record. */
+    private long timestamp;
+
+    /**
+     * Constructor.
+     * @param reader The input.
+     * @param index The position of the input in the list of inputs.
+     */
+    public Input(Reader reader, int index)
+    {
+      if (reader == null) { throw new NullPointerException("reader cannot be null"); }
+
+      this.reader = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+      this.index = index;
+    }
+
+    /**
+     * Moves to the next record.
+     * @return {@code true} if there's another record, or {@code false} at the end of the input.
+     * @throws IOException if the input can't be read.
+     */
+    public boolean advance() throws IOException
+    {
+      do
+      {
+        this.line = this.reader.readLine();
+        if (this.line == null)
+        {
+          return false;
+        }
+      }
+      while (this.line.trim().isEmpty());
+
+      this.timestamp = timestamp(this.line);
+      return true;
+    }
+  }
+}
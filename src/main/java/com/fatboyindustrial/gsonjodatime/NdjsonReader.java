@@ -0,0 +1,201 @@
+/*
+ * GSON Joda Time Serialisers
+ *
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjodatime;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.MalformedJsonException;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.reflect.Type;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads records from newline-delimited JSON (NDJSON), one record per line, using the type adapters registered
+ * with a {@link Gson} instance (such as the Joda Time converters registered by {@link Converters}).  A single
+ * {@link JsonReader}, and so a single character buffer, is used for the whole input, and records are read one at
+ * a time as the iterator is advanced, so memory use doesn't grow with the size of the input:
+ * <pre>
+ *   final Gson gson = Converters.registerAll(new GsonBuilder()).create();
+ *   final NdjsonReader&lt;Event&gt; events = new NdjsonReader&lt;Event&gt;(gson, reader, Event.class);
+ *   try
+ *   {
+ *     while (events.hasNext())
+ *     {
+ *       process(events.next());
+ *     }
+ *   }
+ *   finally
+ *   {
+ *     events.close();
+ *   }
+ * </pre>
+ * Records may be separated by any whitespace, not just a newline.  Read failures, and truncated or malformed
+ * records, are reported by the iterator methods as {@link JsonIOException} and {@link JsonSyntaxException}
+ * respectively.
+ * @param <T> The record type.
+ */
+public final class NdjsonReader<T> implements RecordReader<T>
+{
+  /** The reader of the whole input. */
+  private final JsonReader in;
+
+  /** The adapter of the records. */
+  private final TypeAdapter<T> adapter;
+
+  /**
+   * Constructor.
+   * @param gson The GSON instance whose type adapters read the records.
+   * @param reader The input; it needn't be buffered.
+   * @param type The record type.
+   */
+  public NdjsonReader(Gson gson, Reader reader, Class<T> type)
+  {
+    this(gson, reader, TypeToken.get(type));
+  }
+
+  /**
+   * Constructor for generic record types.
+   * @param gson The GSON instance whose type adapters read the records.
+   * @param reader The input; it needn't be buffered.
+   * @param type The record type.
+   */
+  @SuppressWarnings("unchecked")
+  public NdjsonReader(Gson gson, Reader reader, Type type)
+  {
+    this(gson, reader, (TypeToken<T>) TypeToken.get(type));
+  }
+
+  /**
+   * Constructor.
+   * @param gson The GSON instance whose type adapters read the records.
+   * @param reader The input.
+   * @param type The record type.
+   */
+  NdjsonReader(Gson gson, Reader reader, TypeToken<T> type)
+  {
+    if (gson == null) { throw new NullPointerException("gson cannot be null"); }
+    if (reader == null) { throw new NullPointerException("reader cannot be null"); }
+
+    this.adapter = gson.getAdapter(type);
+    this.in = new JsonReader(reader);
+
+    // Lenient reading allows the input to hold more than one top level value
+    this.in.setLenient(true);
+  }
+
+  /**
+   * Tests whether there's another record.
+   * @return {@code true} if there's another record.
+   * @throws JsonIOException if the input can't be read.
+   * @throws JsonSyntaxException if the input isn't well formed JSON.
+   */
+  @Override
+  public boolean hasNext()
+  {
+    try
+    {
+      return this.in.peek() != JsonToken.END_DOCUMENT;
+    }
+    catch (EOFException e)
+    {
+      // An input without any values ends before its document does
+      return false;
+    }
+    catch (MalformedJsonException e)
+    {
+      throw new JsonSyntaxException(e);
+    }
+    catch (IOException e)
+    {
+      throw new JsonIOException(e);
+    }
+  }
+
+  /**
+   * Reads the next record.
+   * @return The record, which is {@code null} if the record is JSON {@code null}.
+   * @throws NoSuchElementException if there are no more records.
+   * @throws JsonIOException if the input can't be read.
+   * @throws JsonSyntaxException if the record can't be read as the record type.
+   */
+  @Override
+  public T next()
+  {
+    if (!hasNext())
+    {
+      throw new NoSuchElementException();
+    }
+
+    try
+    {
+      return this.adapter.read(this.in);
+    }
+    catch (EOFException e)
+    {
+      throw new JsonSyntaxException(e);
+    }
+    catch (MalformedJsonException e)
+    {
+      throw new JsonSyntaxException(e);
+    }
+    catch (IllegalStateException e)
+    {
+      throw new JsonSyntaxException(e);
+    }
+    catch (IOException e)
+    {
+      throw new JsonIOException(e);
+    }
+  }
+
+  /**
+   * Not supported.
+   * @throws UnsupportedOperationException always.
+   */
+  @Override
+  public void remove()
+  {
+    throw new UnsupportedOperationException("remove");
+  }
+
+  /**
+   * Closes the input.
+   * @throws IOException if the input can't be closed.
+   */
+  @Override
+  public void close() throws IOException
+  {
+    this.in.close();
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * GSON Joda Time Serialisers
+ *
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjodatime;
+
+import com.google.gson.Gson;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.reflect.Type;
+
+/**
+ * Writes records as newline-delimited JSON (NDJSON), one record per line, using the type adapters registered
+ * with a {@link Gson} instance (such as the Joda Time converters registered by {@link Converters}).  This is a
+ * {@link RecordBatchWriter} writing {@link RecordFormat#NDJSON} in chunks of
+ * {@link RecordBatchWriter#DEFAULT_CHUNK_SIZE} characters, so the records are written straight to the output
+ * without building intermediate strings, compactly, and with the GSON instance's other settings.
+ * @param <T> The record type.
+ */
+public final class NdjsonWriter<T> implements Closeable, Flushable
+{
+  /** The writer of the records. */
+  private final RecordBatchWriter<T> writer;
+
+  /**
+   * Constructor.
+   * @param gson The GSON instance whose type adapters write the records.
+   * @param writer The output; it needn't be buffered.
+   * @param type The record type.
+   */
+  public NdjsonWriter(Gson gson, Writer writer, Class<T> type)
+  {
+    this.writer =
+      new RecordBatchWriter<T>(gson, writer, type, RecordFormat.NDJSON, RecordBatchWriter.DEFAULT_CHUNK_SIZE);
+  }
+
+  /**
+   * Constructor for generic record types.
+   * @param gson The GSON instance whose type adapters write the records.
+   * @param writer The output; it needn't be buffered.
+   * @param type The record type.
+   */
+  public NdjsonWriter(Gson gson, Writer writer, Type type)
+  {
+    this.writer =
+      new RecordBatchWriter<T>(gson, writer, type, RecordFormat.NDJSON, RecordBatchWriter.DEFAULT_CHUNK_SIZE);
+  }
+
+  /**
+   * Writes a record and the newline that ends it.
+   * @param record The record to write (may be {@code null}).
+   * @throws IOException if the output can't be written.
+   */
+  public void write(T record) throws IOException
+  {
+    this.writer.write(record);
+  }
+
+  /**
+   * Flushes the records written so far to the output.
+   * @throws IOException if the output can't be written.
+   */
+  @Override
+  public void flush() throws IOException
+  {
+    this.writer.flush();
+  }
+
+  /**
+   * Flushes the records written so far, and closes the output.
+   * @throws IOException if the output can't be written or closed.
+   */
+  @Override
+  public void close() throws IOException
+  {
+    this.writer.close();
+  }
+}
@@ -0,0 +1,266 @@
+/*
+ * GSON Joda Time Serialisers
+ *
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjodatime;
+
+import com.google.gson.JsonIOException;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * A reader of records that are decoded in batches, in parallel, on an {@link ExecutorService}.  The thread that
+ * iterates reads the batches from the input, by way of {@link #readBatch()}, and keeps up to {@code maxInFlight}
+ * of them decoding ahead of the records it returns.
+ * @param <T> The record type.
+ */
+abstract class ParallelBatchReader<T> implements RecordReader<T>
+{
+  /** The executor to decode the batches on. */
+  private final ExecutorService executor;
+
+  /** The order to return the records in. */
+  private final RecordOrder order;
+
+  /** The number of batches that may be decoding, or waiting to be returned, at a time. */
+  private final int maxInFlight;
+
+  /** The batches in the order they were submitted; for {@link RecordOrder#COMPLETION}, in case they're abandoned. */
+  private final Queue<Future<List<T>>> submitted;
+
+  /** The batches in the order they finish; used for {@link RecordOrder#COMPLETION}. */
+  private final CompletionService<List<T>> completed;
+
+  /** Whether the last batch has been read from the input. */
+  private boolean endOfInput;
+
+  /** The records of the batch being returned. */
+  private List<T> records;
+
+  /** The index of the next record of the batch being returned. */
+  private int index;
+
+  /**
+   * Constructor.
+   * @param executor The executor to decode the batches on.
+   * @param order The order to return the records in.
+   * @param maxInFlight The number of batches that may be decoding, or waiting to be returned, at a time.
+   */
+  protected ParallelBatchReader(ExecutorService executor, RecordOrder order, int maxInFlight)
+  {
+    if (executor == null) { throw new NullPointerException("executor cannot be null"); }
+    if (order == null) { throw new NullPointerException("order cannot be null"); }
+    if (maxInFlight <= 0) { throw new IllegalArgumentException("maxInFlight must be positive: " + maxInFlight); }
+
+    this.executor = executor;
+    this.order = order;
+    this.maxInFlight = maxInFlight;
+    this.submitted = new ArrayDeque<Future<List<T>>>(maxInFlight);
+    this.completed = new ExecutorCompletionService<List<T>>(executor);
+    this.records = Collections.emptyList();
+  }
+
+  /**
+   * Reads the next batch from the input.
+   * @return The decoding of the batch, or {@code null} at the end of the input.
+   * @throws IOException if the input can't be read.
+   */
+  protected abstract Callable<List<T>> readBatch() throws IOException;
+
+  /**
+   * Closes the input.
+   * @throws IOException if the input can't be closed.
+   */
+  protected abstract void closeInput() throws IOException;
+
+  /**
+   * Reads every record of a batch.
+   * @param reader The reader of the batch.
+   * @param <T> The record type.
+   * @return The records.
+   */
+  static <T> List<T> readAll(RecordReader<T> reader)
+  {
+    final List<T> records = new ArrayList<T>();
+    while (reader.hasNext())
+    {
+      records.add(reader.next());
+    }
+
+    return records;
+  }
+
+  /**
+   * Tests whether there's another record, waiting for a batch to be decoded if need be.
+   * @return {@code true} if there's another record.
+   * @throws JsonIOException if the input can't be read, or the thread is interrupted.
+   * @throws com.google.gson.JsonSyntaxException if a record isn't well formed JSON.
+   */
+  @Override
+  public boolean hasNext()
+  {
+    while (this.index == this.records.size())
+    {
+      try
+      {
+        submitBatches();
+        if (this.submitted.isEmpty())
+        {
+          return false;
+        }
+
+        this.records = takeBatch();
+        this.index = 0;
+      }
+      catch (IOException e)
+      {
+        throw new JsonIOException(e);
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * Returns the next record.
+   * @return The record, which is {@code null} if the record is JSON {@code null}.
+   * @throws NoSuchElementException if there are no more records.
+   * @throws JsonIOException if the input can't be read, or the thread is interrupted.
+   * @throws com.google.gson.JsonSyntaxException if a record can't be read as the record type.
+   */
+  @Override
+  public T next()
+  {
+    if (!hasNext())
+    {
+      throw new NoSuchElementException();
+    }
+
+    return this.records.get(this.index++);
+  }
+
+  /**
+   * Not supported.
+   * @throws UnsupportedOperationException always.
+   */
+  @Override
+  public void remove()
+  {
+    throw new UnsupportedOperationException("remove");
+  }
+
+  /**
+   * Abandons the batches being decoded, and closes the input.
+   * @throws IOException if the input can't be closed.
+   */
+  @Override
+  public void close() throws IOException
+  {
+    for (final Future<List<T>> batch : this.submitted)
+    {
+      batch.cancel(true);
+    }
+    this.submitted.clear();
+    this.endOfInput = true;
+    closeInput();
+  }
+
+  /**
+   * Reads and submits batches until the maximum are in flight, or the input runs out.
+   * @throws IOException if the input can't be read.
+   */
+  private void submitBatches() throws IOException
+  {
+    while (this.submitted.size() < this.maxInFlight && !this.endOfInput)
+    {
+      final Callable<List<T>> batch = readBatch();
+      if (batch == null)
+      {
+        this.endOfInput = true;
+      }
+      else
+      {
+        this.submitted.add(
+          this.order == RecordOrder.INPUT ? this.executor.submit(batch) : this.completed.submit(batch));
+      }
+    }
+  }
+
+  /**
+   * Waits for the next batch to be decoded.  A batch that fails is reported once, and iteration carries on with
+   * the batch after it.
+   * @return The records of the batch.
+   * @throws IOException if the thread is interrupted.
+   */
+  private List<T> takeBatch() throws IOException
+  {
+    try
+    {
+      final Future<List<T>> batch = this.order == RecordOrder.INPUT ? this.submitted.peek() : this.completed.take();
+      try
+      {
+        return batch.get();
+      }
+      finally
+      {
+        // A failed batch is dropped too, so that it neither holds a slot nor is waited for again
+        if (batch.isDone())
+        {
+          this.submitted.remove(batch);
+        }
+      }
+    }
+    catch (InterruptedException e)
+    {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for a batch to be decoded");
+    }
+    catch (ExecutionException e)
+    {
+      final Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException)
+      {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error)
+      {
+        throw (Error) cause;
+      }
+      throw new JsonIOException(cause);
+    }
+  }
+}
@@ -0,0 +1,246 @@
+/*
+ * GSON Joda Time Serialisers
+ *
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjodatime;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
+import com.google.gson.reflect.TypeToken;
+
+import java.io.CharArrayReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Reads records from newline-delimited JSON (NDJSON), decoding batches of lines in parallel on an
+ * {@link ExecutorService} with the type adapters registered with a {@link Gson} instance (such as the Joda Time
+ * converters registered by {@link Converters}, which are thread safe).  The thread that iterates splits the input
+ * into batches of whole lines and hands them to the executor, keeping up to {@code maxInFlight} batches decoding
+ * ahead of the records it returns, so memory use is bounded however large the input.  The records are returned in
+ * either the order of the input or the order in which their batches finish decoding.
+ * <pre>
+ *   final ParallelNdjsonReader&lt;Event&gt; events = new ParallelNdjsonReader&lt;Event&gt;(
+ *     gson, reader, Event.class, executor, RecordOrder.INPUT, 64 * 1024, 2 * threads);
+ *   try
+ *   {
+ *     while (events.hasNext())
+ *     {
+ *       process(events.next());
+ *     }
+ *   }
+ *   finally
+ *   {
+ *     events.close();
+ *   }
+ * </pre>
+ * Unlike {@link NdjsonReader}, each record must be on a single line.  Read failures, and malformed records, are
+ * reported by the iterator methods as {@link JsonIOException} and {@link com.google.gson.JsonSyntaxException}
+ * respectively.
+ * @param <T> The record type.
+ */
+public final class ParallelNdjsonReader<T> extends ParallelBatchReader<T>
+{
+  /** The GSON instance that reads the records. */
+  private final Gson gson;
+
+  /** The record type. */
+  private final TypeToken<T> type;
+
+  /** The input. */
+  private final Reader reader;
+
+  /** The characters read but not yet submitted, from the start of the array up to {@link #length}. */
+  private char[] chars;
+
+  /** The number of characters read but not yet submitted. */
+  private int length;
+
+  /** Whether the end of the input has been read. */
+  private boolean endOfInput;
+
+  /**
+   * Constructor.
+   * @param gson The GSON instance whose type adapters read the records.
+   * @param reader The input; it needn't be buffered.
+   * @param type The record type.
+   * @param executor The executor to decode the batches on.
+   * @param order The order to return the records in.
+   * @param batchSize The approximate number of characters in each batch of lines.
+   * @param maxInFlight The number of batches that may be decoding, or waiting to be returned, at a time.
+   */
+  public ParallelNdjsonReader(
+    Gson gson,
+    Reader reader,
+    Class<T> type,
+    ExecutorService executor,
+    RecordOrder order,
+    int batchSize,
+    int maxInFlight)
+  {
+    this(gson, reader, TypeToken.get(type), executor, order, batchSize, maxInFlight);
+  }
+
+  /**
+   * Constructor for generic record types.
+   * @param gson The GSON instance whose type adapters read the records.
+   * @param reader The input; it needn't be buffered.
+   * @param type The record type.
+   * @param executor The executor to decode the batches on.
+   * @param order The order to return the records in.
+   * @param batchSize The approximate number of characters in each batch of lines.
+   * @param maxInFlight The number of batches that may be decoding, or waiting to be returned, at a time.
+   */
+  @SuppressWarnings("unchecked")
+  public ParallelNdjsonReader(
+    Gson gson,
+    Reader reader,
+    Type type,
+    ExecutorService executor,
+    RecordOrder order,
+    int batchSize,
+    int maxInFlight)
+  {
+    this(gson, reader, (TypeToken<T>) TypeToken.get(type), executor, order, batchSize, maxInFlight);
+  }
+
+  /**
+   * Constructor.
+   * @param gson The GSON instance whose type adapters read the records.
+   * @param reader The input.
+   * @param type The record type.
+   * @param executor The executor to decode the batches on.
+   * @param order The order to return the records in.
+   * @param batchSize The approximate number of characters in each batch of lines.
+   * @param maxInFlight The number of batches that may be decoding, or waiting to be returned, at a time.
+   */
+  private ParallelNdjsonReader(
+    Gson gson,
+    Reader reader,
+    TypeToken<T> type,
+    ExecutorService executor,
+    RecordOrder order,
+    int batchSize,
+    int maxInFlight)
+  {
+    super(executor, order, maxInFlight);
+
+    if (gson == null) { throw new NullPointerException("gson cannot be null"); }
+    if (reader == null) { throw new NullPointerException("reader cannot be null"); }
+    if (batchSize <= 0) { throw new IllegalArgumentException("batchSize must be positive: " + batchSize); }
+
+    this.gson = gson;
+    this.type = type;
+    this.reader = reader;
+    this.chars = new char[batchSize];
+  }
+
+  /**
+   * Reads a batch of whole lines: all the lines that end within the next {@code batchSize} characters, or the
+   * next line if it is longer.
+   * @return The decoding of the batch, or {@code null} at the end of the input.
+   * @throws IOException if the input can't be read.
+   */
+  @Override
+  protected Callable<List<T>> readBatch() throws IOException
+  {
+    if (this.endOfInput)
+    {
+      return null;
+    }
+
+    int cut;
+    while (true)
+    {
+      if (this.length == this.chars.length)
+      {
+        final int lastNewline = lastNewline();
+        if (lastNewline >= 0)
+        {
+          cut = lastNewline + 1;
+          break;
+        }
+
+        // The line is longer than a batch
+        this.chars = Arrays.copyOf(this.chars, this.chars.length * 2);
+      }
+
+      final int count = this.reader.read(this.chars, this.length, this.chars.length - this.length);
+      if (count < 0)
+      {
+        this.endOfInput = true;
+        cut = this.length;
+        break;
+      }
+      this.length += count;
+    }
+
+    final char[] lines = Arrays.copyOf(this.chars, cut);
+    System.arraycopy(this.chars, cut, this.chars, 0, this.length - cut);
+    this.length -= cut;
+
+    return new Callable<List<T>>()
+    {
+      @Override
+      public List<T> call()
+      {
+        final ParallelNdjsonReader<T> owner = ParallelNdjsonReader.this;
+        return readAll(new NdjsonReader<T>(owner.gson, new CharArrayReader(lines), owner.type));
+      }
+    };
+  }
+
+  /**
+   * Closes the input.
+   * @throws IOException if the input can't be closed.
+   */
+  @Override
+  protected void closeInput() throws IOException
+  {
+    this.endOfInput = true;
+    this.reader.close();
+  }
+
+  /**
+   * Finds the last newline read.
+   * @return The index of the newline, or {@code -1} if there isn't one.
+   */
+  private int lastNewline()
+  {
+    for (int i = this.length - 1; i >= 0; i--)
+    {
+      if (this.chars[i] == '\n')
+      {
+        return i;
+      }
+    }
+
+    return -1;
+  }
+}
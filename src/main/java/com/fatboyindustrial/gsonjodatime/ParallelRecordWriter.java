@@ -0,0 +1,261 @@
+/*
+ * GSON Joda Time Serialisers
+ *
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjodatime;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.CharArrayWriter;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Writes a list of records, as a JSON array or as NDJSON, by formatting chunks of the list in parallel on an
+ * {@link ExecutorService}, using the type adapters registered with a {@link Gson} instance (such as the Joda Time
+ * converters registered by {@link Converters}, which are thread safe).  The formatted chunks are written to the
+ * output in the order of the list, and each record is written with the GSON instance's own settings, so the
+ * output is identical to writing the records one after another with {@code gson.toJson(record, type)}; for a
+ * JSON array, it is identical to {@code gson.toJson(records)} with a compact GSON instance.
+ * <p>
+ * Memory use is bounded: at most {@code maxInFlight} chunks are formatted, or waiting to be written, at a time.
+ * Formatting the next chunk is only started once the oldest has been written.
+ * <pre>
+ *   final ParallelRecordWriter&lt;Event&gt; writer = new ParallelRecordWriter&lt;Event&gt;(
+ *     gson, Event.class, RecordFormat.JSON_ARRAY, executor, 1000, 2 * threads);
+ *   writer.write(events, out);
+ * </pre>
+ * A writer holds no state between calls, so it can be shared, and used for more than one output at a time.
+ * @param <T> The record type.
+ */
+public final class ParallelRecordWriter<T>
+{
+  /** The GSON instance that writes the records. */
+  private final Gson gson;
+
+  /** The record type. */
+  private final Type type;
+
+  /** The layout of the output. */
+  private final RecordFormat format;
+
+  /** The executor to format the chunks on. */
+  private final ExecutorService executor;
+
+  /** The number of records in each chunk. */
+  private final int chunkSize;
+
+  /** The number of chunks that may be formatted, or waiting to be written, at a time. */
+  private final int maxInFlight;
+
+  /**
+   * Constructor.
+   * @param gson The GSON instance whose type adapters write the records.
+   * @param type The record type.
+   * @param format The layout of the output.
+   * @param executor The executor to format the chunks on.
+   * @param chunkSize The number of records in each chunk.
+   * @param maxInFlight The number of chunks that may be formatted, or waiting to be written, at a time.
+   */
+  public ParallelRecordWriter(
+    Gson gson,
+    Class<T> type,
+    RecordFormat format,
+    ExecutorService executor,
+    int chunkSize,
+    int maxInFlight)
+  {
+    this(gson, (Type) type, format, executor, chunkSize, maxInFlight);
+  }
+
+  /**
+   * Constructor for generic record types.
+   * @param gson The GSON instance whose type adapters write the records.
+   * @param type The record type.
+   * @param format The layout of the output.
+   * @param executor The executor to format the chunks on.
+   * @param chunkSize The number of records in each chunk.
+   * @param maxInFlight The number of chunks that may be formatted, or waiting to be written, at a time.
+   */
+  public ParallelRecordWriter(
+    Gson gson,
+    Type type,
+    RecordFormat format,
+    ExecutorService executor,
+    int chunkSize,
+    int maxInFlight)
+  {
+    if (gson == null) { throw new NullPointerException("gson cannot be null"); }
+    if (type == null) { throw new NullPointerException("type cannot be null"); }
+    if (format == null) { throw new NullPointerException("format cannot be null"); }
+    if (executor == null) { throw new NullPointerException("executor cannot be null"); }
+    if (chunkSize <= 0) { throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize); }
+    if (maxInFlight <= 0) { throw new IllegalArgumentException("maxInFlight must be positive: " + maxInFlight); }
+
+    this.gson = gson;
+    this.type = type;
+    this.format = format;
+    this.executor = executor;
+    this.chunkSize = chunkSize;
+    this.maxInFlight = maxInFlight;
+  }
+
+  /**
+   * Writes records.  The output is neither flushed nor closed.
+   * @param records The records to write (any of which may be {@code null}); the list mustn't be changed until
+   * this method returns.
+   * @param out The output.
+   * @throws IOException if the output can't be written, or the thread is interrupted.
+   * @throws com.google.gson.JsonParseException if a record can't be written.
+   */
+  public void write(List<? extends T> records, Writer out) throws IOException
+  {
+    if (records == null) { throw new NullPointerException("records cannot be null"); }
+    if (out == null) { throw new NullPointerException("out cannot be null"); }
+
+    final Queue<Future<CharArrayWriter>> inFlight = new ArrayDeque<Future<CharArrayWriter>>(this.maxInFlight);
+    final int size = records.size();
+    int next = 0;
+
+    try
+    {
+      if (this.format == RecordFormat.JSON_ARRAY)
+      {
+        out.write('[');
+      }
+
+      while (next < size || !inFlight.isEmpty())
+      {
+        while (next < size && inFlight.size() < this.maxInFlight)
+        {
+          final int end = Math.min(size, next + this.chunkSize);
+          inFlight.add(this.executor.submit(new Chunk(records.subList(next, end), next == 0)));
+          next = end;
+        }
+
+        inFlight.remove().get().writeTo(out);
+      }
+
+      if (this.format == RecordFormat.JSON_ARRAY)
+      {
+        out.write(']');
+      }
+    }
+    catch (InterruptedException e)
+    {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for a chunk to be formatted");
+    }
+    catch (ExecutionException e)
+    {
+      final Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException)
+      {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error)
+      {
+        throw (Error) cause;
+      }
+      throw new JsonIOException(cause);
+    }
+    finally
+    {
+      for (final Future<CharArrayWriter> chunk : inFlight)
+      {
+        chunk.cancel(true);
+      }
+    }
+  }
+
+  /**
+   * The formatting of a chunk of the records.
+   */
+  private final class Chunk implements Callable<CharArrayWriter>
+  {
+    /** The records in the chunk. */
+    private final List<? extends T> records;
+
+    /** Whether this is the first chunk. */
+    private final boolean first;
+
+    /**
+     * Constructor.
+     * @param records The records in the chunk.
+     * @param first Whether this is the first chunk.
+     */
+    public Chunk(List<? extends T> records, boolean first)
+    {
+      this.records = records;
+      this.first = first;
+    }
+
+    /**
+     * Formats the records.
+     * @return The formatted records.
+     * @throws IOException if a record can't be written.
+     */
+    @Override
+    public CharArrayWriter call() throws IOException
+    {
+      final ParallelRecordWriter<T> writer = ParallelRecordWriter.this;
+      final CharArrayWriter buffer = new CharArrayWriter(this.records.size() * 64);
+      final JsonWriter out = new JsonWriter(buffer);
+      final boolean array = writer.format == RecordFormat.JSON_ARRAY;
+
+      boolean separate = array && !this.first;
+      for (final T record : this.records)
+      {
+        if (separate)
+        {
+          buffer.write(',');
+        }
+
+        RecordBatchWriter.writeRecord(writer.gson, writer.type, record, out);
+
+        if (array)
+        {
+          separate = true;
+        }
+        else
+        {
+          buffer.write('\n');
+        }
+      }
+
+      return buffer;
+    }
+  }
+}
@@ -0,0 +1,183 @@
+/*
+ * GSON Joda Time Serialisers
+ *
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjodatime;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded, lock-free cache of parsed values keyed by the raw string, for feeds that repeat the same values
+ * (timestamps, dates, zone IDs) many times over.  Joda Time values are immutable, so a cached value can be
+ * shared between any number of threads. <p>
+ *
+ * The cache is a direct-mapped table: each string hashes to exactly one slot, and caching a string evicts
+ * whatever string previously held its slot.  Reads and writes are plain volatile accesses with no locks or
+ * compare-and-set loops, so the cache scales across many threads; the hit, miss and eviction counters are
+ * striped for the same reason.  Create one cache per type and register it through {@link Converters}:
+ * <pre>
+ *   final ParseCache&lt;DateTime&gt; cache = new ParseCache&lt;DateTime&gt;(4096);
+ *   final Gson gson = Converters.registerDateTime(Converters.registerAll(new GsonBuilder()), cache).create();
+ * </pre>
+ * A cached converter registered after {@link Converters#registerAll} takes precedence for its type.
+ * @param <T> The type of the cached values.
+ */
+public final class ParseCache<T>
+{
+  /** The slots. */
+  private final AtomicReferenceArray<Entry<T>> table;
+
+  /** Mask to select a slot from a hash. */
+  private final int mask;
+
+  /** Counts lookups that found their string. */
+  private final StripedCounter hits = new StripedCounter();
+
+  /** Counts lookups that didn't find their string. */
+  private final StripedCounter misses = new StripedCounter();
+
+  /** Counts cached values displaced by another string. */
+  private final StripedCounter evictions = new StripedCounter();
+
+  /**
+   * Constructor.
+   * @param maximumSize The maximum number of values to hold.  This is rounded down to a power of two.
+   */
+  public ParseCache(int maximumSize)
+  {
+    if (maximumSize < 1) { throw new IllegalArgumentException("maximumSize must be positive"); }
+
+    final int size = Integer.highestOneBit(maximumSize);
+    this.table = new AtomicReferenceArray<Entry<T>>(size);
+    this.mask = size - 1;
+  }
+
+  /**
+   * Gets the maximum number of values held.
+   * @return The maximum number of values.
+   */
+  public int maximumSize()
+  {
+    return this.table.length();
+  }
+
+  /**
+   * Gets the number of lookups that found a cached value.
+   * @return The hit count.
+   */
+  public long hitCount()
+  {
+    return this.hits.sum();
+  }
+
+  /**
+   * Gets the number of lookups that didn't find a cached value.
+   * @return The miss count.
+   */
+  public long missCount()
+  {
+    return this.misses.sum();
+  }
+
+  /**
+   * Gets the number of cached values that were displaced by caching a different string.
+   * @return The eviction count.
+   */
+  public long evictionCount()
+  {
+    return this.evictions.sum();
+  }
+
+  /**
+   * Looks up the value parsed from the given string.
+   * @param text The string.
+   * @return The cached value, or {@code null} if there isn't one.
+   */
+  T get(String text)
+  {
+    final Entry<T> entry = this.table.get(slot(text));
+    if (entry != null && entry.text.equals(text))
+    {
+      this.hits.increment();
+      return entry.value;
+    }
+
+    this.misses.increment();
+    return null;
+  }
+
+  /**
+   * Caches the value parsed from the given string.
+   * @param text The string.
+   * @param value The parsed value.
+   */
+  void put(String text, T value)
+  {
+    final int slot = slot(text);
+    final Entry<T> previous = this.table.get(slot);
+    if (previous != null && !previous.text.equals(text))
+    {
+      this.evictions.increment();
+    }
+
+    // Racing writers each store a complete entry, so whichever lands last is as good as any other
+    this.table.lazySet(slot, new Entry<T>(text, value));
+  }
+
+  /**
+   * Selects the slot for a string.
+   * @param text The string.
+   * @return The slot index.
+   */
+  private int slot(String text)
+  {
+    // Spread the high bits down, as strings that differ only in their last characters have close hashes
+    final int hash = text.hashCode();
+    return (hash ^ (hash >>> 16)) & this.mask;
+  }
+
+  /**
+   * An immutable cache entry.
+   * @param <T> The type of the cached value.
+   */
+  private static final class Entry<T>
+  {
+    /** The string the value was parsed from. */
+    private final String text;
+
+    /** The parsed value. */
+    private final T value;
+
+    /**
+     * Constructor.
+     * @param text The string the value was parsed from.
+     * @param value The parsed value.
+     */
+    private Entry(String text, T value)
+    {
+      this.text = text;
+      this.value = value;
+    }
+  }
+}
@@ -0,0 +1,411 @@
+/*
+ * GSON Joda Time Serialisers
+ *
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjodatime;
+
+import com.google.gson.JsonSyntaxException;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeConstants;
+import org.joda.time.DateTimeZone;
+import org.joda.time.Instant;
+import org.joda.time.LocalDate;
+import org.joda.time.ReadableInstant;
+import org.joda.time.chrono.ISOChronology;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Writes newline-delimited JSON (NDJSON) records to a file per hour or day, chosen by a timestamp field of each
+ * record, as when archiving events.  Only the timestamp field of each record is found and parsed, with the
+ * converter of its type; the rest of the record isn't parsed, and each line is written to its file unchanged.
+ * <pre>
+ *   final PartitionedNdjsonWriter archive = new PartitionedNdjsonWriter(
+ *     directory, "timestamp", DateTime.class, TimeBucket.HOUR, DateTimeZone.forID("Australia/Brisbane"));
+ *   try
+ *   {
+ *     archive.writeAll(reader);
+ *   }
+ *   finally
+ *   {
+ *     archive.close();
+ *   }
+ * </pre>
+ * The timestamp may be a {@link DateTime}, an {@link Instant} or a {@link LocalDate}, as text that the converter
+ * of the type parses, or as a number (of milliseconds since the epoch, or of days since the epoch for a
+ * {@code LocalDate}, as written by {@link Converters#registerAllNumeric(com.google.gson.GsonBuilder)}).  The
+ * hours and days of a {@code DateTime} or {@code Instant} are those of the local time in the given zone, whatever
+ * offset the timestamp was written with.
+ * <p>
+ * The files are named for their buckets, such as {@code 2026-10-18T09.ndjson}, and are appended to if they
+ * already exist.  The most recently used files are kept open, up to {@code maxOpenFiles} of them, with the
+ * records for each gathered into batches of {@code batchSize} characters before they're written; the least
+ * recently used file is closed when another must be opened.  An instance isn't thread safe.
+ */
+public final class PartitionedNdjsonWriter implements Closeable, Flushable
+{
+  /** The default number of files kept open. */
+  public static final int DEFAULT_MAX_OPEN_FILES = 32;
+
+  /** The default number of characters gathered for each file before they're written. */
+  public static final int DEFAULT_BATCH_SIZE = RecordBatchWriter.DEFAULT_CHUNK_SIZE;
+
+  /** The file name extension. */
+  private static final String EXTENSION = ".ndjson";
+
+  /** The directory that holds the files. */
+  private final File directory;
+
+  /** The name of the timestamp field. */
+  private final String field;
+
+  /** The span of time covered by each file. */
+  private final TimeBucket bucket;
+
+  /** The zone whose local time the timestamps are bucketed by. */
+  private final DateTimeZone zone;
+
+  /** The converter of {@code DateTime} and {@code Instant} timestamps, or {@code null} for {@code LocalDate}. */
+  private final StringConverter<? extends ReadableInstant> instants;
+
+  /** The converter of {@code LocalDate} timestamps, or {@code null} for {@code DateTime} and {@code Instant}. */
+  private final LocalDateConverter dates;
+
+  /** The number of characters gathered for each file before they're written. */
+  private final int batchSize;
+
+  /** The open files, by the start of their bucket, from the least to the most recently used. */
+  private final LinkedHashMap<Long, Writer> open;
+
+  /** The file last written to, or {@code null} if there isn't one. */
+  private Writer last;
+
+  /** The start of the bucket of the file last written to. */
+  private long lastStart;
+
+  /** The file closed by the most recent addition to {@link #open}, or {@code null} if there isn't one. */
+  private Writer evicted;
+
+  /** Whether the writer has been closed. */
+  private boolean closed;
+
+  /**
+   * Constructs a writer of ISO 8601 timestamps, with the default limits.
+   * @param directory The directory to write the files to, which must exist.
+   * @param field The name of the timestamp field of the outermost object of each record.
+   * @param fieldType The type of the timestamp field: {@code DateTime}, {@code Instant} or {@code LocalDate}.
+   * @param bucket The span of time covered by each file.
+   * @param zone The zone whose local time the timestamps are bucketed by.
+   */
+  public PartitionedNdjsonWriter(
+    File directory,
+    String field,
+    Class<?> fieldType,
+    TimeBucket bucket,
+    DateTimeZone zone)
+  {
+    this(directory, field, fieldType, bucket, zone, FormatterRegistry.iso(), DEFAULT_MAX_OPEN_FILES,
+         DEFAULT_BATCH_SIZE);
+  }
+
+  /**
+   * Constructor.
+   * @param directory The directory to write the files to, which must exist.
+   * @param field The name of the timestamp field of the outermost object of each record.
+   * @param fieldType The type of the timestamp field: {@code DateTime}, {@code Instant} or {@code LocalDate}.
+   * @param bucket The span of time covered by each file.
+   * @param zone The zone whose local time the timestamps are bucketed by.
+   * @param formatters The formatters to parse the timestamps with.
+   * @param maxOpenFiles The number of files kept open.
+   * @param batchSize The number of characters gathered for each file before they're written.
+   */
+  public PartitionedNdjsonWriter(
+    File directory,
+    String field,
+    Class<?> fieldType,
+    TimeBucket bucket,
+    DateTimeZone zone,
+    FormatterRegistry formatters,
+    final int maxOpenFiles,
+    int batchSize)
+  {
+    if (directory == null) { throw new NullPointerException("directory cannot be null"); }
+    if (field == null) { throw new NullPointerException("field cannot be null"); }
+    if (fieldType == null) { throw new NullPointerException("fieldType cannot be null"); }
+    if (bucket == null) { throw new NullPointerException("bucket cannot be null"); }
+    if (zone == null) { throw new NullPointerException("zone cannot be null"); }
+    if (formatters == null) { throw new NullPointerException("formatters cannot be null"); }
+    if (maxOpenFiles <= 0) { throw new IllegalArgumentException("maxOpenFiles must be positive: " + maxOpenFiles); }
+    if (batchSize <= 0) { throw new IllegalArgumentException("batchSize must be positive: " + batchSize); }
+
+    if (fieldType == DateTime.class)
+    {
+      this.instants = new DateTimeConverter(formatters);
+      this.dates = null;
+    }
+    else if (fieldType == Instant.class)
+    {
+      this.instants = new InstantConverter(formatters);
+      this.dates = null;
+    }
+    else if (fieldType == LocalDate.class)
+    {
+      if (bucket != TimeBucket.DAY)
+      {
+        throw new IllegalArgumentException("LocalDate timestamps can only be bucketed by day: " + bucket);
+      }
+      this.instants = null;
+      this.dates = new LocalDateConverter(formatters);
+    }
+    else
+    {
+      throw new IllegalArgumentException("fieldType must be DateTime, Instant or LocalDate: " + fieldType);
+    }
+
+    this.directory = directory;
+    this.field = field;
+    this.bucket = bucket;
+    this.zone = zone;
+    this.batchSize = batchSize;
+    this.open = new LinkedHashMap<Long, Writer>(16, 0.75f, true)
+    {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Long, Writer> eldest)
+      {
+        if (size() > maxOpenFiles)
+        {
+          // Closed by the caller of put(), which can report a failure to close it
+          PartitionedNdjsonWriter.this.evicted = eldest.getValue();
+          return true;
+        }
+        return false;
+      }
+    };
+  }
+
+  /**
+   * Writes a record to the file of its bucket.
+   * @param line The record, without a line terminator.
+   * @throws IOException if the file can't be opened or written.
+   * @throws JsonSyntaxException if the record isn't a JSON object with a timestamp field.
+   */
+  public void write(String line) throws IOException
+  {
+    if (line == null) { throw new NullPointerException("line cannot be null"); }
+    if (this.closed) { throw new IllegalStateException("closed"); }
+
+    final Writer out = writer(start(line));
+    out.write(line);
+    out.write('\n');
+  }
+
+  /**
+   * Writes each record of an NDJSON input to the file of its bucket.  The input is read to its end, but isn't
+   * closed.  Blank lines are dropped.
+   * @param input The input.
+   * @return The number of records written.
+   * @throws IOException if the input can't be read, or a file can't be opened or written.
+   * @throws JsonSyntaxException if a record isn't a JSON object with a timestamp field.
+   */
+  public long writeAll(Reader input) throws IOException
+  {
+    if (input == null) { throw new NullPointerException("input cannot be null"); }
+
+    final BufferedReader reader = input instanceof BufferedReader ? (BufferedReader) input : new BufferedReader(input);
+    long written = 0;
+    String line;
+    while ((line = reader.readLine()) != null)
+    {
+      if (line.trim().length() > 0)
+      {
+        write(line);
+        written++;
+      }
+    }
+
+    return written;
+  }
+
+  /**
+   * Writes the records gathered for each open file.
+   * @throws IOException if a file can't be written.
+   */
+  @Override
+  public void flush() throws IOException
+  {
+    for (final Writer out : this.open.values())
+    {
+      out.flush();
+    }
+  }
+
+  /**
+   * Writes the records gathered for each open file, and closes the files.
+   * @throws IOException if a file can't be written or closed.
+   */
+  @Override
+  public void close() throws IOException
+  {
+    if (this.closed)
+    {
+      return;
+    }
+    this.closed = true;
+    this.last = null;
+
+    IOException failure = null;
+    final Iterator<Writer> files = this.open.values().iterator();
+    while (files.hasNext())
+    {
+      final Writer out = files.next();
+      files.remove();
+      try
+      {
+        out.close();
+      }
+      catch (IOException e)
+      {
+        if (failure == null)
+        {
+          failure = e;
+        }
+      }
+    }
+
+    if (failure != null)
+    {
+      throw failure;
+    }
+  }
+
+  /**
+   * Finds the bucket of a record.
+   * @param line The record.
+   * @return The start of the bucket, in milliseconds since the local epoch.
+   * @throws JsonSyntaxException if the record isn't a JSON object with a timestamp field.
+   */
+  long start(String line)
+  {
+    final int index = JsonFieldScanner.valueIndex(line, this.field);
+    if (index < 0)
+    {
+      throw new JsonSyntaxException("The record has no \"" + this.field + "\" field: " + line);
+    }
+
+    final long local;
+    if (line.charAt(index) == '"')
+    {
+      final String text = JsonFieldScanner.stringValue(line, index);
+      try
+      {
+        if (this.dates != null)
+        {
+          final LocalDate date = this.dates.parse(text);
+          local = ISOChronology.getInstanceUTC().getDateTimeMillis(
+            date.getYear(), date.getMonthOfYear(), date.getDayOfMonth(), 0);
+        }
+        else
+        {
+          local = toLocal(this.instants.parse(text).getMillis());
+        }
+      }
+      catch (IllegalArgumentException e)
+      {
+        throw new JsonSyntaxException(e);
+      }
+    }
+    else
+    {
+      final long number;
+      try
+      {
+        number = Long.parseLong(line.substring(index, JsonFieldScanner.valueEnd(line, index)));
+      }
+      catch (NumberFormatException e)
+      {
+        throw new JsonSyntaxException("The \"" + this.field + "\" field isn't a timestamp: " + line, e);
+      }
+      local = this.dates != null ? number * DateTimeConstants.MILLIS_PER_DAY : toLocal(number);
+    }
+
+    return this.bucket.floor(local);
+  }
+
+  /**
+   * Converts an instant to the local time of the zone.
+   * @param millis The instant, in milliseconds since the epoch.
+   * @return The local time, in milliseconds since the local epoch.
+   */
+  private long toLocal(long millis)
+  {
+    return millis + this.zone.getOffset(millis);
+  }
+
+  /**
+   * Finds the file of a bucket, opening it if it isn't open.
+   * @param start The start of the bucket, in milliseconds since the local epoch.
+   * @return The file.
+   * @throws IOException if the file can't be opened, or the least recently used file can't be closed.
+   */
+  private Writer writer(long start) throws IOException
+  {
+    // Records usually arrive in order, so most go to the file of the record before
+    if (this.last != null && this.lastStart == start)
+    {
+      return this.last;
+    }
+
+    final Long key = Long.valueOf(start);
+    Writer out = this.open.get(key);
+    if (out == null)
+    {
+      final File file = new File(this.directory, this.bucket.name(start) + EXTENSION);
+      final FileOutputStream stream = new FileOutputStream(file, true);
+      out = new ChunkedWriter(Channels.newWriter(stream.getChannel(), "UTF-8"), this.batchSize);
+      this.open.put(key, out);
+
+      final Writer closing = this.evicted;
+      if (closing != null)
+      {
+        this.evicted = null;
+        closing.close();
+      }
+    }
+
+    this.last = out;
+    this.lastStart = start;
+    return out;
+  }
+}
@@ -34,7 +34,6 @@ import com.google.gson.JsonSerializationContext;
 import com.google.gson.JsonSerializer;
 
 import org.joda.time.Period;
-import org.joda.time.format.ISOPeriodFormat;
 import org.joda.time.format.PeriodFormatter;
 
 import java.lang.reflect.Type;
@@ -42,8 +41,30 @@ import java.lang.reflect.Type;
 /**
  * GSON serialiser/deserialiser for converting Joda {@link Period} objects.
  */
-public class PeriodConverter  implements JsonSerializer<Period>, JsonDeserializer<Period>
+public class PeriodConverter implements JsonSerializer<Period>, JsonDeserializer<Period>, StringConverter<Period>
 {
+  /** The formatter to print and parse with. */
+  private final PeriodFormatter formatter;
+
+  /**
+   * Constructs a converter using the ISO 8601 formatters.
+   */
+  public PeriodConverter()
+  {
+    this(FormatterRegistry.iso());
+  }
+
+  /**
+   * Constructs a converter using the given formatters.
+   * @param formatters The formatters to use.
+   */
+  public PeriodConverter(FormatterRegistry formatters)
+  {
+    if (formatters == null) { throw new NullPointerException("formatters cannot be null"); }
+
+    this.formatter = formatters.periodFormatter();
+  }
+
   /**
    * Gson invokes this call-back method during serialization when it encounters a field of the
    * specified type. <p>
@@ -60,8 +81,7 @@ public class PeriodConverter  implements JsonSerializer<Period>, JsonDeserialize
   @Override
   public JsonElement serialize(Period src, Type typeOfSrc, JsonSerializationContext context)
   {
-    final PeriodFormatter fmt = ISOPeriodFormat.standard();
-    return new JsonPrimitive(fmt.print(src));
+    return new JsonPrimitive(print(src));
   }
 
   /**
@@ -83,11 +103,35 @@ public class PeriodConverter  implements JsonSerializer<Period>, JsonDeserialize
       throws JsonParseException
   {
     // Do not try to deserialize null or empty values
-    if (json.getAsString() == null || json.getAsString().isEmpty())
+    final String text = json.isJsonNull() ? null : json.getAsString();
+    if (text == null || text.isEmpty())
     {
       return null;
     }
-    final PeriodFormatter fmt = ISOPeriodFormat.standard();
-    return fmt.parsePeriod(json.getAsString());
+
+    return parse(text);
+  }
+
+  /**
+   * Prints the given value as text.
+   * @param src The value to print (never {@code null}).
+   * @return The textual representation of {@code src}.
+   */
+  @Override
+  public String print(Period src)
+  {
+    return this.formatter.print(src);
+  }
+
+  /**
+   * Parses the given text.
+   * @param text The text to parse (never {@code null} or empty).
+   * @return The parsed value.
+   * @throws IllegalArgumentException if the text cannot be parsed.
+   */
+  @Override
+  public Period parse(String text)
+  {
+    return this.formatter.parsePeriod(text);
   }
 }
@@ -0,0 +1,52 @@
+/*
+ * GSON Joda Time Serialisers
+ *
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjodatime;
+
+/**
+ * The precision that timestamps are printed with.  Parsing always accepts any precision, from whole seconds up to
+ * nanoseconds (which are truncated to milliseconds).
+ */
+public enum Precision
+{
+  /** Whole seconds; the fraction is never printed and any milliseconds are truncated. */
+  SECOND,
+
+  /** Milliseconds; the fraction is always printed with three digits. */
+  MILLISECOND,
+
+  /** Milliseconds, except that a fraction of zero isn't printed. */
+  OMIT_ZERO_FRACTION;
+
+  /**
+   * Tests whether a value with the given millis of the second is printed without a fraction.
+   * @param millisOfSecond The millis of the second of the value being printed.
+   * @return {@code true} if the fraction is omitted.
+   */
+  boolean omitsFraction(int millisOfSecond)
+  {
+    return this == SECOND || (this == OMIT_ZERO_FRACTION && millisOfSecond == 0);
+  }
+}
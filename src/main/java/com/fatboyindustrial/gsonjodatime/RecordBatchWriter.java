@@ -0,0 +1,273 @@
+/*
+ * GSON Joda Time Serialisers
+ *
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjodatime;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.util.Iterator;
+
+/**
+ * Writes a batch of records, as a JSON array or as NDJSON, using the type adapters registered with a {@link Gson}
+ * instance (such as the Joda Time converters registered by {@link Converters}).  Unlike
+ * {@code gson.toJson(records)}, the output is never built up in memory: a single {@link JsonWriter} writes every
+ * record into a single buffer, which is handed on to the output, and flushed, each time it fills with
+ * {@code chunkSize} characters.  The Joda Time converters print into their own reused scratch buffers.
+ * <pre>
+ *   final RecordBatchWriter&lt;Event&gt; writer =
+ *     new RecordBatchWriter&lt;Event&gt;(gson, out, Event.class, RecordFormat.JSON_ARRAY, 64 * 1024);
+ *   writer.writeAll(events);
+ *   writer.close();
+ * </pre>
+ * Records are written compactly, whatever the GSON instance's pretty printing setting; its other settings, such
+ * as null serialisation and HTML escaping, apply as they would to {@code gson.toJson(records)}.  A JSON array isn't
+ * complete until the writer has been {@link #finish() finished} or closed.
+ * @param <T> The record type.
+ */
+public final class RecordBatchWriter<T> implements Closeable, Flushable
+{
+  /** The default number of characters handed to the output at a time. */
+  public static final int DEFAULT_CHUNK_SIZE = 8192;
+
+  /** The buffered output. */
+  private final ChunkedWriter writer;
+
+  /** The writer of the JSON values. */
+  private final JsonWriter out;
+
+  /** The GSON instance that writes the records. */
+  private final Gson gson;
+
+  /** The record type. */
+  private final Type type;
+
+  /** The layout of the output. */
+  private final RecordFormat format;
+
+  /** Whether the start of the output has been written. */
+  private boolean started;
+
+  /** Whether the end of the output has been written. */
+  private boolean finished;
+
+  /**
+   * Constructor.
+   * @param gson The GSON instance whose type adapters write the records.
+   * @param writer The output; it needn't be buffered.
+   * @param type The record type.
+   * @param format The layout of the output.
+   * @param chunkSize The number of characters to hand to the output at a time.
+   */
+  public RecordBatchWriter(Gson gson, Writer writer, Class<T> type, RecordFormat format, int chunkSize)
+  {
+    this(gson, writer, TypeToken.get(type), format, chunkSize);
+  }
+
+  /**
+   * Constructor for generic record types.
+   * @param gson The GSON instance whose type adapters write the records.
+   * @param writer The output; it needn't be buffered.
+   * @param type The record type.
+   * @param format The layout of the output.
+   * @param chunkSize The number of characters to hand to the output at a time.
+   */
+  @SuppressWarnings("unchecked")
+  public RecordBatchWriter(Gson gson, Writer writer, Type type, RecordFormat format, int chunkSize)
+  {
+    this(gson, writer, (TypeToken<T>) TypeToken.get(type), format, chunkSize);
+  }
+
+  /**
+   * Constructor.
+   * @param gson The GSON instance whose type adapters write the records.
+   * @param writer The output.
+   * @param type The record type.
+   * @param format The layout of the output.
+   * @param chunkSize The number of characters to hand to the output at a time.
+   */
+  private RecordBatchWriter(Gson gson, Writer writer, TypeToken<T> type, RecordFormat format, int chunkSize)
+  {
+    if (gson == null) { throw new NullPointerException("gson cannot be null"); }
+    if (writer == null) { throw new NullPointerException("writer cannot be null"); }
+    if (format == null) { throw new NullPointerException("format cannot be null"); }
+
+    this.gson = gson;
+    this.type = type.getType();
+    this.format = format;
+    this.writer = new ChunkedWriter(writer, chunkSize);
+    this.out = new JsonWriter(this.writer);
+
+    // Lenient writing allows NDJSON output to hold more than one top level value
+    this.out.setLenient(true);
+  }
+
+  /**
+   * Writes a record.
+   * @param record The record to write (may be {@code null}).
+   * @throws IOException if the output can't be written.
+   * @throws IllegalStateException if the writer has been finished.
+   */
+  public void write(T record) throws IOException
+  {
+    start();
+    writeRecord(this.gson, this.type, record, this.out);
+    if (this.format == RecordFormat.NDJSON)
+    {
+      this.writer.write('\n');
+    }
+  }
+
+  /**
+   * Writes records.
+   * @param records The records to write (any of which may be {@code null}).
+   * @throws IOException if the output can't be written.
+   * @throws IllegalStateException if the writer has been finished.
+   */
+  public void writeAll(Iterable<? extends T> records) throws IOException
+  {
+    if (records == null) { throw new NullPointerException("records cannot be null"); }
+
+    writeAll(records.iterator());
+  }
+
+  /**
+   * Writes records.
+   * @param records The records to write (any of which may be {@code null}).
+   * @throws IOException if the output can't be written.
+   * @throws IllegalStateException if the writer has been finished.
+   */
+  public void writeAll(Iterator<? extends T> records) throws IOException
+  {
+    if (records == null) { throw new NullPointerException("records cannot be null"); }
+
+    start();
+    while (records.hasNext())
+    {
+      write(records.next());
+    }
+  }
+
+  /**
+   * Writes the end of the output, which completes a JSON array, and flushes it.  No more records can be written.
+   * @throws IOException if the output can't be written.
+   */
+  public void finish() throws IOException
+  {
+    if (!this.finished)
+    {
+      start();
+      if (this.format == RecordFormat.JSON_ARRAY)
+      {
+        this.out.endArray();
+      }
+      this.finished = true;
+    }
+
+    this.out.flush();
+  }
+
+  /**
+   * Flushes the records written so far to the output, even if they don't fill a chunk.
+   * @throws IOException if the output can't be written.
+   */
+  @Override
+  public void flush() throws IOException
+  {
+    this.out.flush();
+  }
+
+  /**
+   * Finishes the output, and closes it.
+   * @throws IOException if the output can't be written or closed.
+   */
+  @Override
+  public void close() throws IOException
+  {
+    try
+    {
+      finish();
+    }
+    finally
+    {
+      this.writer.close();
+    }
+  }
+
+  /**
+   * Writes a record with the GSON instance's own settings (such as null serialisation and HTML escaping), which
+   * it applies to the writer while it writes, as it would when writing the record on its own.
+   * @param gson The GSON instance that writes the record.
+   * @param type The record type.
+   * @param record The record to write (may be {@code null}).
+   * @param out The writer to write to.
+   * @throws IOException if the output can't be written.
+   */
+  static void writeRecord(Gson gson, Type type, Object record, JsonWriter out) throws IOException
+  {
+    try
+    {
+      gson.toJson(record, type, out);
+    }
+    catch (JsonIOException e)
+    {
+      if (e.getCause() instanceof IOException)
+      {
+        throw (IOException) e.getCause();
+      }
+
+      throw e;
+    }
+  }
+
+  /**
+   * Writes the start of the output, if it hasn't been written yet.
+   * @throws IOException if the output can't be written.
+   * @throws IllegalStateException if the writer has been finished.
+   */
+  private void start() throws IOException
+  {
+    if (this.finished)
+    {
+      throw new IllegalStateException("The writer has been finished");
+    }
+
+    if (!this.started)
+    {
+      if (this.format == RecordFormat.JSON_ARRAY)
+      {
+        this.out.beginArray();
+      }
+      this.started = true;
+    }
+  }
+}
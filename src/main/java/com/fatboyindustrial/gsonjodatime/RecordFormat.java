@@ -0,0 +1,67 @@
+/*
+ * GSON Joda Time Serialisers
+ *
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjodatime;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+
+import java.io.Reader;
+
+/**
+ * The layout of a stream of JSON records.
+ */
+public enum RecordFormat
+{
+  /** Newline-delimited JSON: one record per line (or, more generally, separated by whitespace). */
+  NDJSON
+  {
+    @Override
+    <T> RecordReader<T> open(Gson gson, Reader reader, TypeToken<T> type)
+    {
+      return new NdjsonReader<T>(gson, reader, type);
+    }
+  },
+
+  /** A single JSON array whose elements are the records. */
+  JSON_ARRAY
+  {
+    @Override
+    <T> RecordReader<T> open(Gson gson, Reader reader, TypeToken<T> type)
+    {
+      return new JsonArrayReader<T>(gson, reader, type);
+    }
+  };
+
+  /**
+   * Opens a reader of records in this format.
+   * @param gson The GSON instance whose type adapters read the records.
+   * @param reader The input.
+   * @param type The record type.
+   * @param <T> The record type.
+   * @return The reader, which hasn't read anything yet.
+   */
+  abstract <T> RecordReader<T> open(Gson gson, Reader reader, TypeToken<T> type);
+}
@@ -0,0 +1,363 @@
+/*
+ * GSON Joda Time Serialisers
+ *
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjodatime;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.reflect.Type;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A Reactive Streams {@link Publisher} of the records read from an NDJSON or JSON array input, using the type
+ * adapters registered with a {@link Gson} instance (such as the Joda Time converters registered by
+ * {@link Converters}).  Records are read lazily, one at a time, only when the subscriber has requested them, so
+ * the first record is published as soon as it has been read, and at most the requested records are held in
+ * memory (along with the fixed size character buffer of the underlying {@link com.google.gson.stream.JsonReader}).
+ * <p>
+ * The input is read on the given {@link Executor}, or on the thread that calls {@link Subscription#request} if
+ * there isn't one.  The input is closed when the last record has been published, when reading fails, or when the
+ * subscription is cancelled, which may happen part way through the input.  The end of the input is only looked
+ * for when another record has been requested, as looking may block until more input arrives, so the subscriber
+ * is told that there are no more records in answer to a request.  As the input can only be read once, the
+ * publisher accepts a single subscriber.
+ * <p>
+ * {@code org.reactivestreams} is an optional dependency.  On Java 9 and later, {@code FlowAdapters} converts the
+ * publisher into a {@code java.util.concurrent.Flow.Publisher}:
+ * <pre>
+ *   final Flow.Publisher&lt;Event&gt; events = FlowAdapters.toFlowPublisher(
+ *     new RecordPublisher&lt;Event&gt;(gson, reader, Event.class, RecordFormat.JSON_ARRAY, executor));
+ * </pre>
+ * @param <T> The record type.
+ */
+public final class RecordPublisher<T> implements Publisher<T>
+{
+  /** The executor that reads on the thread that requests the records. */
+  private static final Executor CALLER = new Executor()
+  {
+    @Override
+    public void execute(Runnable command)
+    {
+      command.run();
+    }
+  };
+
+  /** The reader of the records. */
+  private final RecordReader<T> records;
+
+  /** The executor to read the records on. */
+  private final Executor executor;
+
+  /** Whether there has been a subscriber. */
+  private final AtomicBoolean subscribed;
+
+  /**
+   * Constructs a publisher that reads on the thread that requests the records.
+   * @param gson The GSON instance whose type adapters read the records.
+   * @param reader The input; it needn't be buffered.
+   * @param type The record type.
+   * @param format The layout of the input.
+   */
+  public RecordPublisher(Gson gson, Reader reader, Class<T> type, RecordFormat format)
+  {
+    this(gson, reader, TypeToken.get(type), format, CALLER);
+  }
+
+  /**
+   * Constructor.
+   * @param gson The GSON instance whose type adapters read the records.
+   * @param reader The input; it needn't be buffered.
+   * @param type The record type.
+   * @param format The layout of the input.
+   * @param executor The executor to read the records on.
+   */
+  public RecordPublisher(Gson gson, Reader reader, Class<T> type, RecordFormat format, Executor executor)
+  {
+    this(gson, reader, TypeToken.get(type), format, executor);
+  }
+
+  /**
+   * Constructs a publisher of a generic record type that reads on the thread that requests the records.
+   * @param gson The GSON instance whose type adapters read the records.
+   * @param reader The input; it needn't be buffered.
+   * @param type The record type.
+   * @param format The layout of the input.
+   */
+  @SuppressWarnings("unchecked")
+  public RecordPublisher(Gson gson, Reader reader, Type type, RecordFormat format)
+  {
+    this(gson, reader, (TypeToken<T>) TypeToken.get(type), format, CALLER);
+  }
+
+  /**
+   * Constructor for generic record types.
+   * @param gson The GSON instance whose type adapters read the records.
+   * @param reader The input; it needn't be buffered.
+   * @param type The record type.
+   * @param format The layout of the input.
+   * @param executor The executor to read the records on.
+   */
+  @SuppressWarnings("unchecked")
+  public RecordPublisher(Gson gson, Reader reader, Type type, RecordFormat format, Executor executor)
+  {
+    this(gson, reader, (TypeToken<T>) TypeToken.get(type), format, executor);
+  }
+
+  /**
+   * Constructor.
+   * @param gson The GSON instance whose type adapters read the records.
+   * @param reader The input.
+   * @param type The record type.
+   * @param format The layout of the input.
+   * @param executor The executor to read the records on.
+   */
+  private RecordPublisher(Gson gson, Reader reader, TypeToken<T> type, RecordFormat format, Executor executor)
+  {
+    if (format == null) { throw new NullPointerException("format cannot be null"); }
+    if (executor == null) { throw new NullPointerException("executor cannot be null"); }
+
+    this.records = format.open(gson, reader, type);
+    this.executor = executor;
+    this.subscribed = new AtomicBoolean();
+  }
+
+  /**
+   * Subscribes to the records.
+   * @param subscriber The subscriber.
+   */
+  @Override
+  public void subscribe(Subscriber<? super T> subscriber)
+  {
+    if (subscriber == null) { throw new NullPointerException("subscriber cannot be null"); }
+
+    if (this.subscribed.compareAndSet(false, true))
+    {
+      subscriber.onSubscribe(new RecordSubscription(subscriber));
+    }
+    else
+    {
+      subscriber.onSubscribe(new Subscription()
+      {
+        @Override
+        public void request(long n)
+        {
+        }
+
+        @Override
+        public void cancel()
+        {
+        }
+      });
+      subscriber.onError(new IllegalStateException("The records have already been subscribed to"));
+    }
+  }
+
+  /**
+   * The subscription of the subscriber, which reads and publishes records while there's outstanding demand.
+   * Reading is serialised: whichever call finds no reading in progress schedules a drain, and the drain keeps
+   * going until it has caught up with every request and cancellation made while it ran.
+   */
+  private final class RecordSubscription implements Subscription, Runnable
+  {
+    /** The subscriber. */
+    private final Subscriber<? super T> subscriber;
+
+    /** The number of records requested but not yet published; {@link Long#MAX_VALUE} means unbounded. */
+    private final AtomicLong requested;
+
+    /** The number of signals not yet handled by a drain; non-zero while a drain is scheduled or running. */
+    private final AtomicInteger pending;
+
+    /** Whether the subscription has been cancelled. */
+    private volatile boolean cancelled;
+
+    /** The invalid request to report, or {@code null} if every request has been valid. */
+    private volatile IllegalArgumentException invalidRequest;
+
+    /** Whether the subscriber has been sent a terminal signal, or the subscription was cancelled. */
+    private boolean terminated;
+
+    /**
+     * Constructor.
+     * @param subscriber The subscriber.
+     */
+    public RecordSubscription(Subscriber<? super T> subscriber)
+    {
+      this.subscriber = subscriber;
+      this.requested = new AtomicLong();
+      this.pending = new AtomicInteger();
+    }
+
+    /**
+     * Requests more records.
+     * @param n The number of records.
+     */
+    @Override
+    public void request(long n)
+    {
+      if (n <= 0)
+      {
+        this.invalidRequest = new IllegalArgumentException("The number of records requested must be positive: " + n);
+      }
+      else
+      {
+        long current;
+        long next;
+        do
+        {
+          current = this.requested.get();
+          next = current + n < 0 ? Long.MAX_VALUE : current + n;
+        }
+        while (!this.requested.compareAndSet(current, next));
+      }
+
+      schedule();
+    }
+
+    /**
+     * Cancels the subscription, and closes the input once any record being read has been read.
+     */
+    @Override
+    public void cancel()
+    {
+      this.cancelled = true;
+      schedule();
+    }
+
+    /**
+     * Schedules a drain, unless one is already scheduled or running.
+     */
+    private void schedule()
+    {
+      if (this.pending.getAndIncrement() == 0)
+      {
+        RecordPublisher.this.executor.execute(this);
+      }
+    }
+
+    /**
+     * Publishes records until the demand has been met, the records have run out, or the subscription has been
+     * cancelled.
+     */
+    @Override
+    public void run()
+    {
+      int missed = 1;
+      do
+      {
+        if (!this.terminated)
+        {
+          drain();
+        }
+        missed = this.pending.addAndGet(-missed);
+      }
+      while (missed != 0);
+    }
+
+    /**
+     * Publishes records until the demand has been met, the records have run out, or the subscription has been
+     * cancelled.
+     */
+    private void drain()
+    {
+      final RecordReader<T> records = RecordPublisher.this.records;
+      try
+      {
+        long published = 0;
+        while (!this.cancelled && this.invalidRequest == null && published != this.requested.get())
+        {
+          if (!records.hasNext())
+          {
+            complete();
+            return;
+          }
+          this.subscriber.onNext(records.next());
+          published++;
+        }
+        if (published != 0 && this.requested.get() != Long.MAX_VALUE)
+        {
+          this.requested.addAndGet(-published);
+        }
+
+        if (this.cancelled)
+        {
+          terminate();
+        }
+        else if (this.invalidRequest != null)
+        {
+          fail(this.invalidRequest);
+        }
+      }
+      catch (RuntimeException e)
+      {
+        fail(e);
+      }
+    }
+
+    /**
+     * Tells the subscriber that there are no more records.
+     */
+    private void complete()
+    {
+      terminate();
+      this.subscriber.onComplete();
+    }
+
+    /**
+     * Tells the subscriber that reading the records failed.
+     * @param e The failure.
+     */
+    private void fail(RuntimeException e)
+    {
+      terminate();
+      this.subscriber.onError(e);
+    }
+
+    /**
+     * Stops publishing, and closes the input.
+     */
+    private void terminate()
+    {
+      this.terminated = true;
+      try
+      {
+        RecordPublisher.this.records.close();
+      }
+      catch (IOException e)
+      {
+        // Every record that will be published has been read, so there's nothing to report the failure to
+      }
+    }
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * GSON Joda Time Serialisers
+ *
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjodatime;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A counter that spreads increments over several cache-line padded cells, so that many threads can count
+ * without contending on a single memory location.  Reading the count sums the cells.
+ */
+final class StripedCounter
+{
+  /** The number of longs in a cache line, so that each cell sits on its own line. */
+  private static final int PADDING = 8;
+
+  /** The cells; only every {@link #PADDING}th element is used. */
+  private final AtomicLongArray cells;
+
+  /** Mask to select a stripe. */
+  private final int mask;
+
+  /**
+   * Constructor.
+   */
+  StripedCounter()
+  {
+    int stripes = 2;
+    while (stripes < 64 && stripes < Runtime.getRuntime().availableProcessors() * 2)
+    {
+      stripes <<= 1;
+    }
+
+    this.cells = new AtomicLongArray(stripes * PADDING);
+    this.mask = stripes - 1;
+  }
+
+  /**
+   * Adds one to the count.
+   */
+  void increment()
+  {
+    final int stripe = (int) Thread.currentThread().getId() & this.mask;
+    this.cells.getAndIncrement(stripe * PADDING);
+  }
+
+  /**
+   * Gets the count.  This isn't an atomic snapshot when increments happen concurrently.
+   * @return The count.
+   */
+  long sum()
+  {
+    long sum = 0L;
+    for (int i = 0; i < this.cells.length(); i += PADDING)
+    {
+      sum += this.cells.get(i);
+    }
+
+    return sum;
+  }
+}
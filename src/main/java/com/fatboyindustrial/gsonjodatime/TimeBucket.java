@@ -0,0 +1,80 @@
+/*
+ * GSON Joda Time Serialisers
+ *
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjodatime;
+
+import org.joda.time.DateTimeConstants;
+import org.joda.time.format.DateTimeFormat;
+import org.joda.time.format.DateTimeFormatter;
+
+/**
+ * The span of time covered by each output file of a {@link PartitionedNdjsonWriter}.
+ */
+public enum TimeBucket
+{
+  /** An hour of local time, in files named like {@code 2026-10-18T09.ndjson}. */
+  HOUR(DateTimeConstants.MILLIS_PER_HOUR, "yyyy-MM-dd'T'HH"),
+
+  /** A day of local time, in files named like {@code 2026-10-18.ndjson}. */
+  DAY(DateTimeConstants.MILLIS_PER_DAY, "yyyy-MM-dd");
+
+  /** The length of the bucket, in milliseconds. */
+  private final long millis;
+
+  /** The formatter of the names of the buckets. */
+  private final DateTimeFormatter formatter;
+
+  /**
+   * Constructor.
+   * @param millis The length of the bucket, in milliseconds.
+   * @param pattern The pattern of the names of the buckets.
+   */
+  TimeBucket(long millis, String pattern)
+  {
+    this.millis = millis;
+    this.formatter = DateTimeFormat.forPattern(pattern).withZoneUTC();
+  }
+
+  /**
+   * Finds the start of the bucket holding a local time.
+   * @param localMillis The local time, in milliseconds since the local epoch.
+   * @return The start of the bucket, in milliseconds since the local epoch.
+   */
+  long floor(long localMillis)
+  {
+    final long remainder = localMillis % this.millis;
+    return remainder < 0 ? localMillis - remainder - this.millis : localMillis - remainder;
+  }
+
+  /**
+   * Names a bucket.
+   * @param start The start of the bucket, in milliseconds since the local epoch.
+   * @return The name of the bucket.
+   */
+  String name(long start)
+  {
+    return this.formatter.print(start);
+  }
+}
@@ -0,0 +1,270 @@
+/*
+ * GSON Joda Time Serialisers
+ *
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjodatime;
+
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streaming GSON type adapter that writes a list of {@link DateTime}s with a table of the zones they're in, so
+ * that each value refers to its zone by index instead of repeating the zone ID:
+ * <pre>
+ *   {"zones":["Australia/Sydney","Europe/London"],"values":[["2024-01-01T10:15:00.000+11:00",0],null,...]}
+ * </pre>
+ * The zone table must come before the values, as it's written.  Each zone in the table is resolved once per
+ * list, and each value read is moved into its zone.  A plain array of textual values is accepted too, in which
+ * case the values keep their parsed offsets.
+ */
+final class ZoneDictionaryTypeAdapter extends TypeAdapter<List<DateTime>>
+{
+  /** The name of the zone table. */
+  private static final String ZONES = "zones";
+
+  /** The name of the values. */
+  private static final String VALUES = "values";
+
+  /** The converter of the values to and from text. */
+  private final StringConverter<DateTime> converter;
+
+  /** The converter of the zone IDs in the table. */
+  private final StringConverter<DateTimeZone> zoneConverter;
+
+  /**
+   * Constructor.
+   * @param converter The converter of the values to and from text.
+   * @param zoneConverter The converter of the zone IDs in the table.
+   */
+  ZoneDictionaryTypeAdapter(StringConverter<DateTime> converter, StringConverter<DateTimeZone> zoneConverter)
+  {
+    if (converter == null) { throw new NullPointerException("converter cannot be null"); }
+    if (zoneConverter == null) { throw new NullPointerException("zoneConverter cannot be null"); }
+
+    this.converter = converter;
+    this.zoneConverter = zoneConverter;
+  }
+
+  /**
+   * Writes the zone table and then the values.
+   * @param out The writer to write to.
+   * @param value The values to write (may be {@code null}, and may contain {@code null}s).
+   * @throws IOException if the writer fails.
+   */
+  @Override
+  public void write(JsonWriter out, List<DateTime> value) throws IOException
+  {
+    if (value == null)
+    {
+      out.nullValue();
+      return;
+    }
+
+    final Map<DateTimeZone, Integer> indexes = new LinkedHashMap<DateTimeZone, Integer>();
+    for (final DateTime dt : value)
+    {
+      if (dt != null && !indexes.containsKey(dt.getZone()))
+      {
+        indexes.put(dt.getZone(), indexes.size());
+      }
+    }
+
+    out.beginObject();
+
+    out.name(ZONES);
+    out.beginArray();
+    for (final DateTimeZone zone : indexes.keySet())
+    {
+      out.value(this.zoneConverter.print(zone));
+    }
+    out.endArray();
+
+    out.name(VALUES);
+    out.beginArray();
+    for (final DateTime dt : value)
+    {
+      if (dt == null)
+      {
+        out.nullValue();
+        continue;
+      }
+
+      out.beginArray();
+      out.value(this.converter.print(dt));
+      out.value(indexes.get(dt.getZone()).intValue());
+      out.endArray();
+    }
+    out.endArray();
+
+    out.endObject();
+  }
+
+  /**
+   * Reads the values, either with their zone table or as a plain array.
+   * @param in The reader to read from.
+   * @return The values, or {@code null} for JSON {@code null}.
+   * @throws IOException if the reader fails.
+   */
+  @Override
+  public List<DateTime> read(JsonReader in) throws IOException
+  {
+    final JsonToken token = in.peek();
+    if (token == JsonToken.NULL)
+    {
+      in.nextNull();
+      return null;
+    }
+
+    if (token == JsonToken.BEGIN_ARRAY)
+    {
+      return readPlain(in);
+    }
+
+    DateTimeZone[] zones = null;
+    List<DateTime> values = new ArrayList<DateTime>();
+
+    in.beginObject();
+    while (in.hasNext())
+    {
+      final String name = in.nextName();
+      if (ZONES.equals(name))
+      {
+        zones = readZones(in);
+      }
+      else if (VALUES.equals(name))
+      {
+        if (zones == null)
+        {
+          throw new JsonSyntaxException("The zone table must precede the values at " + in.getPath());
+        }
+        values = readValues(in, zones);
+      }
+      else
+      {
+        in.skipValue();
+      }
+    }
+    in.endObject();
+
+    return values;
+  }
+
+  /**
+   * Reads and resolves the zone table.
+   * @param in The reader to read from, positioned at the table.
+   * @return The zones, in table order.
+   * @throws IOException if the reader fails.
+   */
+  private DateTimeZone[] readZones(JsonReader in) throws IOException
+  {
+    final List<DateTimeZone> zones = new ArrayList<DateTimeZone>();
+
+    in.beginArray();
+    while (in.hasNext())
+    {
+      zones.add(this.zoneConverter.parse(in.nextString()));
+    }
+    in.endArray();
+
+    return zones.toArray(new DateTimeZone[zones.size()]);
+  }
+
+  /**
+   * Reads the values that refer to the zone table.
+   * @param in The reader to read from, positioned at the values.
+   * @param zones The zone table.
+   * @return The values.
+   * @throws IOException if the reader fails.
+   */
+  private List<DateTime> readValues(JsonReader in, DateTimeZone[] zones) throws IOException
+  {
+    final List<DateTime> values = new ArrayList<DateTime>();
+
+    in.beginArray();
+    while (in.hasNext())
+    {
+      if (in.peek() == JsonToken.NULL)
+      {
+        in.nextNull();
+        values.add(null);
+        continue;
+      }
+
+      in.beginArray();
+      final String text = in.nextString();
+      final int index = in.nextInt();
+      in.endArray();
+
+      if (index < 0 || index >= zones.length)
+      {
+        throw new JsonSyntaxException("Zone index " + index + " is outside the zone table at " + in.getPath());
+      }
+
+      values.add(this.converter.parse(text).withZone(zones[index]));
+    }
+    in.endArray();
+
+    return values;
+  }
+
+  /**
+   * Reads a plain array of textual values.
+   * @param in The reader to read from, positioned at the array.
+   * @return The values.
+   * @throws IOException if the reader fails.
+   */
+  private List<DateTime> readPlain(JsonReader in) throws IOException
+  {
+    final List<DateTime> values = new ArrayList<DateTime>();
+
+    in.beginArray();
+    while (in.hasNext())
+    {
+      if (in.peek() == JsonToken.NULL)
+      {
+        in.nextNull();
+        values.add(null);
+        continue;
+      }
+
+      // Do not try to deserialize empty values
+      final String text = in.nextString();
+      values.add(text.isEmpty() ? null : this.converter.parse(text));
+    }
+    in.endArray();
+
+    return values;
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * GSON Joda Time Serialisers
+ *
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjodatime;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import org.joda.time.DateTime;
+
+import java.util.List;
+
+/**
+ * A GSON {@link TypeAdapterFactory} that writes lists and arrays of {@link DateTime}s with a table of the zones
+ * they're in, so that each value keeps its full region zone (such as {@code Australia/Sydney}) without repeating
+ * the zone ID:
+ * <pre>
+ *   {"zones":["Australia/Sydney","Europe/London"],"values":[["2024-01-01T10:15:00.000+11:00",0],...]}
+ * </pre>
+ * A plain array of textual values is accepted when reading too.  {@code DateTime} values outside of a list or
+ * array are left to the other converters, and so keep only their offset.
+ */
+public final class ZoneDictionaryTypeAdapterFactory implements TypeAdapterFactory
+{
+  /** The adapter of lists. */
+  private final TypeAdapter<List<DateTime>> adapter;
+
+  /**
+   * Constructs a factory using the ISO 8601 formatters.
+   */
+  public ZoneDictionaryTypeAdapterFactory()
+  {
+    this(FormatterRegistry.iso());
+  }
+
+  /**
+   * Constructs a factory using the given formatters.
+   * @param formatters The formatters to print and parse the values with.
+   */
+  public ZoneDictionaryTypeAdapterFactory(FormatterRegistry formatters)
+  {
+    if (formatters == null) { throw new NullPointerException("formatters cannot be null"); }
+
+    this.adapter = new ZoneDictionaryTypeAdapter(new DateTimeConverter(formatters), new DateTimeZoneConverter());
+  }
+
+  /**
+   * Returns a type adapter for {@code type}, or {@code null} if this factory doesn't support {@code type}.
+   * @param gson The GSON instance requesting the adapter.
+   * @param type The type to adapt.
+   * @return The adapter, or {@code null}.
+   */
+  @Override
+  public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type)
+  {
+    if (CollectionTypes.elementClass(type) != DateTime.class)
+    {
+      return null;
+    }
+
+    return CollectionTypes.adapt(type, DateTime.class, this.adapter);
+  }
+}
@@ -25,6 +25,7 @@
 
 /**
  *  Contains {@link com.google.gson.JsonSerializer} and {@link com.google.gson.JsonDeserializer} 
- *  implementations for dealing with Joda Time entities.
+ *  implementations for dealing with Joda Time entities, and a streaming
+ *  {@link com.google.gson.TypeAdapterFactory} built on them.
  */
 package com.fatboyindustrial.gsonjodatime;
\ No newline at end of file
@@ -0,0 +1,255 @@
+/*
+ * GSON Joda Time Serialisers
+ *
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjodatime;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import org.joda.time.DateMidnight;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.Duration;
+import org.joda.time.Instant;
+import org.joda.time.Interval;
+import org.joda.time.LocalDate;
+import org.joda.time.LocalDateTime;
+import org.joda.time.LocalTime;
+import org.joda.time.Period;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.CharArrayWriter;
+import java.io.IOException;
+import java.io.StringReader;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Type;
+
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Tests that serialising and deserialising a value of each Joda Time type, through a {@link Gson} instance
+ * configured by {@link Converters#registerAll(GsonBuilder)}, allocates no more than its budget of bytes per
+ * operation, as measured by {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)}.  The budgets
+ * cover the work of the converter and its type adapter; the JSON streams are reused across operations, so their
+ * buffers aren't counted.  A change that allocates more, such as building a formatter for every value, fails here
+ * and should either be fixed or come with a considered increase of the budget.  The tests are skipped on JVMs
+ * that can't measure the bytes allocated by a thread.
+ */
+public class AllocationBudgetTest
+{
+  /** The number of operations run before measuring, so that the measured code is compiled. */
+  private static final int WARM_UP = 20000;
+
+  /** The number of operations measured. */
+  private static final int MEASURED = 20000;
+
+  /** The GSON instance with the Joda Time converters registered. */
+  private final Gson gson = Converters.registerAll(new GsonBuilder()).create();
+
+  /** The bean that measures the bytes allocated by the thread. */
+  private com.sun.management.ThreadMXBean threads;
+
+  /**
+   * Finds the bean that measures the bytes allocated by the thread, skipping the test if there isn't one.
+   */
+  @Before
+  public void setUp()
+  {
+    final ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+    assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+
+    this.threads = (com.sun.management.ThreadMXBean) bean;
+    assumeTrue(this.threads.isThreadAllocatedMemorySupported());
+    if (!this.threads.isThreadAllocatedMemoryEnabled())
+    {
+      this.threads.setThreadAllocatedMemoryEnabled(true);
+    }
+  }
+
+  /**
+   * Tests the allocation budgets of the {@link DateMidnight} converter.
+   */
+  @Test
+  public void testDateMidnight() throws IOException
+  {
+    //noinspection deprecation
+    assertBudgets(Converters.DATE_MIDNIGHT_TYPE,
+                  new DateMidnight(2024, 2, 29, DateTimeZone.forID("Australia/Brisbane")),
+                  512, 1024);
+  }
+
+  /**
+   * Tests the allocation budgets of the {@link DateTime} converter.
+   */
+  @Test
+  public void testDateTime() throws IOException
+  {
+    assertBudgets(Converters.DATE_TIME_TYPE,
+                  new DateTime(2024, 2, 29, 13, 45, 30, 123, DateTimeZone.forID("Europe/London")),
+                  160, 400);
+  }
+
+  /**
+   * Tests the allocation budgets of the {@link DateTimeZone} converter.
+   */
+  @Test
+  public void testDateTimeZone() throws IOException
+  {
+    assertBudgets(Converters.DATE_TIME_ZONE_TYPE, DateTimeZone.forID("America/New_York"), 64, 256);
+  }
+
+  /**
+   * Tests the allocation budgets of the {@link Duration} converter.
+   */
+  @Test
+  public void testDuration() throws IOException
+  {
+    assertBudgets(Converters.DURATION_TYPE, new Duration(93784005L), 320, 512);
+  }
+
+  /**
+   * Tests the allocation budgets of the {@link Instant} converter.
+   */
+  @Test
+  public void testInstant() throws IOException
+  {
+    assertBudgets(Converters.INSTANT_TYPE, new Instant(1709214330123L), 160, 400);
+  }
+
+  /**
+   * Tests the allocation budgets of the {@link Interval} converter.
+   */
+  @Test
+  public void testInterval() throws IOException
+  {
+    assertBudgets(Converters.INTERVAL_TYPE, new Interval(1709214330123L, 1711892730456L, DateTimeZone.UTC), 1280, 3584);
+  }
+
+  /**
+   * Tests the allocation budgets of the {@link LocalDate} converter.
+   */
+  @Test
+  public void testLocalDate() throws IOException
+  {
+    assertBudgets(Converters.LOCAL_DATE_TYPE, new LocalDate(2024, 2, 29), 128, 256);
+  }
+
+  /**
+   * Tests the allocation budgets of the {@link LocalDateTime} converter.
+   */
+  @Test
+  public void testLocalDateTime() throws IOException
+  {
+    assertBudgets(Converters.LOCAL_DATE_TIME_TYPE, new LocalDateTime(2024, 2, 29, 13, 45, 30, 123), 160, 400);
+  }
+
+  /**
+   * Tests the allocation budgets of the {@link LocalTime} converter.
+   */
+  @Test
+  public void testLocalTime() throws IOException
+  {
+    assertBudgets(Converters.LOCAL_TIME_TYPE, new LocalTime(13, 45, 30, 123), 160, 256);
+  }
+
+  /**
+   * Tests the allocation budgets of the {@link Period} converter.
+   */
+  @Test
+  public void testPeriod() throws IOException
+  {
+    assertBudgets(Converters.PERIOD_TYPE, new Period(1, 2, 3, 4, 5, 6, 7, 8), 256, 768);
+  }
+
+  /**
+   * Asserts that serialising and deserialising a value allocate no more than their budgets.
+   * @param type The type of the value.
+   * @param value The value.
+   * @param serialiseBudget The number of bytes that serialising the value may allocate.
+   * @param deserialiseBudget The number of bytes that deserialising the value may allocate.
+   */
+  @SuppressWarnings("unchecked")
+  private void assertBudgets(Type type, Object value, long serialiseBudget, long deserialiseBudget)
+    throws IOException
+  {
+    final TypeAdapter<Object> adapter = (TypeAdapter<Object>) this.gson.getAdapter(TypeToken.get(type));
+
+    // A lenient writer may write any number of values; the output is emptied after each
+    final CharArrayWriter output = new CharArrayWriter();
+    final JsonWriter writer = new JsonWriter(output);
+    writer.setLenient(true);
+    for (int i = 0; i < WARM_UP; i++)
+    {
+      adapter.write(writer, value);
+      output.reset();
+    }
+    long start = allocated();
+    for (int i = 0; i < MEASURED; i++)
+    {
+      adapter.write(writer, value);
+      output.reset();
+    }
+    final long serialised = (allocated() - start) / MEASURED;
+
+    // A lenient reader reads the copies of the value from a single input
+    final String json = this.gson.toJson(value, type);
+    final StringBuilder copies = new StringBuilder();
+    for (int i = 0; i < WARM_UP + MEASURED; i++)
+    {
+      copies.append(json).append('\n');
+    }
+    final JsonReader reader = new JsonReader(new StringReader(copies.toString()));
+    reader.setLenient(true);
+    for (int i = 0; i < WARM_UP; i++)
+    {
+      adapter.read(reader);
+    }
+    start = allocated();
+    for (int i = 0; i < MEASURED; i++)
+    {
+      adapter.read(reader);
+    }
+    final long deserialised = (allocated() - start) / MEASURED;
+
+    assertThat("bytes allocated by serialising " + type, serialised, lessThanOrEqualTo(serialiseBudget));
+    assertThat("bytes allocated by deserialising " + type, deserialised, lessThanOrEqualTo(deserialiseBudget));
+  }
+
+  /**
+   * Measures the bytes allocated by the thread.
+   * @return The number of bytes allocated by the thread so far.
+   */
+  private long allocated()
+  {
+    return this.threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+  }
+}
@@ -36,6 +36,7 @@ import org.junit.Test;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
 
 /**
  *  Tests for {@link DateTimeConverter}.
@@ -141,4 +142,21 @@ public class DateTimeConverterTest
 
     assertThat(reconstituted, is(expected));
   }
+
+  /**
+   * Tests that a missing formatter registry is reported by name.
+   */
+  @Test
+  public void testNullFormatters()
+  {
+    try
+    {
+      new DateTimeConverter((FormatterRegistry) null);
+      fail("expected a NullPointerException");
+    }
+    catch (NullPointerException e)
+    {
+      assertThat(e.getMessage(), is("formatters cannot be null"));
+    }
+  }
 }
@@ -30,6 +30,9 @@ import com.google.gson.GsonBuilder;
 import org.joda.time.DateTimeZone;
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.Collections;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.core.IsNull.nullValue;
 import static org.junit.Assert.assertThat;
@@ -72,4 +75,52 @@ public class DateTimeZoneConverterTest
 
     assertThat(gson.fromJson((String) null, DateTimeZone.class), is(nullValue()));
   }
+
+  /**
+   * Tests that offset IDs deserialise to the same zones as {@link DateTimeZone#forID(String)}.
+   */
+  @Test
+  public void testDeserialiseOffsets()
+  {
+    final Gson gson = Converters.registerDateTimeZone(new GsonBuilder()).create();
+
+    for (final String id : new String[] { "+10:00", "-09:30", "+05:45", "+00:00", "-00:00", "+10", "+1000", "+10:00:30" })
+    {
+      assertThat(id, gson.fromJson("\"" + id + "\"", DateTimeZone.class), is(DateTimeZone.forID(id)));
+    }
+  }
+
+  /**
+   * Tests that region IDs, including aliases, deserialise to the same zones as {@link DateTimeZone#forID(String)}.
+   */
+  @Test
+  public void testDeserialiseRegions()
+  {
+    final DateTimeZoneConverter converter = new DateTimeZoneConverter(Arrays.asList("Australia/Sydney", "UTC"));
+
+    for (final String id : new String[] { "Australia/Sydney", "UTC", "US/Eastern", " Europe/London ", "Etc/GMT+10" })
+    {
+      // The second lookup is served from the table
+      assertThat(id, converter.parse(id), is(DateTimeZone.forID(id.trim())));
+      assertThat(id, converter.parse(id), is(DateTimeZone.forID(id.trim())));
+    }
+  }
+
+  /**
+   * Tests that pre-resolving an unknown zone fails at registration.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testRegisterUnknownZone()
+  {
+    Converters.registerDateTimeZone(new GsonBuilder(), Collections.singleton("Australia/Atlantis"));
+  }
+
+  /**
+   * Tests that an unknown zone is still reported when deserialising.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testDeserialiseUnknownZone()
+  {
+    new DateTimeZoneConverter().parse("+24:00");
+  }
 }
@@ -0,0 +1,238 @@
+/*
+ * GSON Joda Time Serialisers
+ *
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjodatime;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.reflect.TypeToken;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.Instant;
+import org.joda.time.LocalDate;
+import org.junit.Test;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests for {@link DeltaTypeAdapterFactory}.
+ */
+public class DeltaTypeAdapterFactoryTest
+{
+  /** The type of a list of instants. */
+  private static final Type INSTANTS = new TypeToken<List<Instant>>(){}.getType();
+
+  /** The type of a list of date times. */
+  private static final Type DATE_TIMES = new TypeToken<List<DateTime>>(){}.getType();
+
+  /** The type of a list of dates. */
+  private static final Type LOCAL_DATES = new TypeToken<List<LocalDate>>(){}.getType();
+
+  /** The GSON instance under test. */
+  private final Gson gson = Converters.registerDeltaEncoding(Converters.registerAll(new GsonBuilder())).create();
+
+  /**
+   * Tests that a fixed stride series is written as its stride and length.
+   */
+  @Test
+  public void testFixedStride()
+  {
+    final List<Instant> instants = new ArrayList<Instant>();
+    for (int i = 0; i < 1440; i++)
+    {
+      instants.add(new Instant(1704067200000L + i * 60000L));
+    }
+
+    final String json = this.gson.toJson(instants, INSTANTS);
+
+    assertThat(json, is("{\"base\":\"2024-01-01T00:00:00.000Z\",\"stride\":60000,\"count\":1440}"));
+    assertThat(this.gson.<List<Instant>>fromJson(json, INSTANTS), is(instants));
+  }
+
+  /**
+   * Tests that an irregular series is written as deltas.
+   */
+  @Test
+  public void testDeltas()
+  {
+    final List<LocalDate> dates = Arrays.asList(
+      new LocalDate(2024, 1, 1), new LocalDate(2024, 1, 2), new LocalDate(2024, 1, 5), new LocalDate(2023, 12, 31));
+
+    final String json = this.gson.toJson(dates, LOCAL_DATES);
+
+    assertThat(json, is("{\"base\":\"2024-01-01\",\"deltas\":[1,3,-5]}"));
+    assertThat(this.gson.<List<LocalDate>>fromJson(json, LOCAL_DATES), is(dates));
+  }
+
+  /**
+   * Tests that random series round-trip, as lists and as arrays.
+   */
+  @Test
+  public void testRandomRoundtrip()
+  {
+    final Random random = new Random(20240101L);
+    for (int n = 0; n < 100; n++)
+    {
+      final Instant[] instants = new Instant[random.nextInt(50) + 1];
+      long millis = random.nextLong() >> 24;
+      for (int i = 0; i < instants.length; i++)
+      {
+        instants[i] = new Instant(millis);
+        millis += random.nextInt(100000);
+      }
+
+      assertThat(this.gson.fromJson(this.gson.toJson(instants), Instant[].class), is(instants));
+      final String json = this.gson.toJson(Arrays.asList(instants), INSTANTS);
+      assertThat(this.gson.<List<Instant>>fromJson(json, INSTANTS), is(Arrays.asList(instants)));
+    }
+  }
+
+  /**
+   * Tests that a date time series keeps the region zone of its base.
+   */
+  @Test
+  public void testDateTimeZone()
+  {
+    final DateTimeZone sydney = DateTimeZone.forID("Australia/Sydney");
+    final List<DateTime> dates = Arrays.asList(
+      new DateTime(2024, 4, 6, 12, 0, sydney), new DateTime(2024, 4, 7, 12, 0, sydney));
+
+    final String json = this.gson.toJson(dates, DATE_TIMES);
+    final List<DateTime> read = this.gson.fromJson(json, DATE_TIMES);
+
+    assertThat(json, is(
+      "{\"base\":\"2024-04-06T12:00:00.000+11:00\",\"zone\":\"Australia/Sydney\",\"stride\":90000000,\"count\":2}"));
+    assertThat(read, is(dates));
+    assertThat(read.get(1).getZone(), is(sydney));
+  }
+
+  /**
+   * Tests that lists that can't be delta encoded are written as plain arrays.
+   */
+  @Test
+  public void testPlain()
+  {
+    final List<DateTime> mixed = Arrays.asList(
+      new DateTime(2024, 1, 1, 0, 0, DateTimeZone.UTC),
+      new DateTime(2024, 1, 1, 0, 0, DateTimeZone.forOffsetHours(1)));
+    final List<Instant> withNull = Arrays.asList(new Instant(0L), null);
+
+    assertThat(
+      this.gson.toJson(mixed, DATE_TIMES),
+      is("[\"2024-01-01T00:00:00.000Z\",\"2024-01-01T00:00:00.000+01:00\"]"));
+    assertThat(this.gson.toJson(withNull, INSTANTS), is("[\"1970-01-01T00:00:00.000Z\",null]"));
+    assertThat(this.gson.toJson(new ArrayList<Instant>(), INSTANTS), is("[]"));
+    assertThat(this.gson.<List<Instant>>fromJson("[\"1970-01-01T00:00:00.000Z\",null]", INSTANTS), is(withNull));
+    assertThat(this.gson.<List<DateTime>>fromJson(this.gson.toJson(mixed, DATE_TIMES), DATE_TIMES), is(mixed));
+    assertThat(this.gson.fromJson("null", INSTANTS), is(nullValue()));
+  }
+
+  /**
+   * Tests that series round-trip exactly with registries whose precision drops or omits the fraction, since the
+   * base is printed to the millisecond.
+   */
+  @Test
+  public void testPrecisionRoundtrip()
+  {
+    final DateTimeZone brisbane = DateTimeZone.forID("Australia/Brisbane");
+    for (final Precision precision : new Precision[] { Precision.SECOND, Precision.OMIT_ZERO_FRACTION })
+    {
+      final FormatterRegistry formatters = FormatterRegistry.iso().withPrecision(precision);
+      final Gson gson = Converters.registerDeltaEncoding(
+        Converters.registerAll(new GsonBuilder(), formatters), formatters).create();
+
+      final List<Instant> instants = Arrays.asList(
+        new Instant(1704067220500L), new Instant(1704067221200L), new Instant(1704067223500L));
+      final String json = gson.toJson(instants, INSTANTS);
+      assertThat(json, is("{\"base\":\"2024-01-01T00:00:20.500Z\",\"deltas\":[700,2300]}"));
+      assertThat(gson.<List<Instant>>fromJson(json, INSTANTS), is(instants));
+
+      final List<DateTime> dateTimes = Arrays.asList(
+        new DateTime(2024, 1, 1, 10, 0, 20, 0, brisbane), new DateTime(2024, 1, 1, 10, 0, 21, 200, brisbane));
+      assertThat(gson.<List<DateTime>>fromJson(gson.toJson(dateTimes, DATE_TIMES), DATE_TIMES), is(dateTimes));
+    }
+  }
+
+  /**
+   * Tests that a series whose base doesn't survive the printer is written as a plain array, so that the other
+   * values aren't moved.
+   */
+  @Test
+  public void testLossyBase()
+  {
+    final FormatterRegistry formatters = FormatterRegistry.iso().withInstantPattern("yyyy-MM-dd'T'HH:mm:ss'Z'");
+    final Gson gson = Converters.registerDeltaEncoding(
+      Converters.registerAll(new GsonBuilder(), formatters), formatters).create();
+
+    final List<Instant> instants = Arrays.asList(new Instant(1704067220500L), new Instant(1704067221200L));
+
+    assertThat(gson.toJson(instants, INSTANTS), is("[\"2024-01-01T00:00:20Z\",\"2024-01-01T00:00:21Z\"]"));
+  }
+
+  /**
+   * Tests that a fixed stride series longer than the limit on the count is written as deltas, so it's read back.
+   */
+  @Test
+  public void testLongFixedStride()
+  {
+    final List<LocalDate> dates = new ArrayList<LocalDate>();
+    for (int i = 0; i <= DeltaTypeAdapter.MAX_COUNT; i++)
+    {
+      dates.add(new LocalDate(1970, 1, 1).plusDays(i));
+    }
+
+    final String json = this.gson.toJson(dates, LOCAL_DATES);
+
+    assertThat(json.startsWith("{\"base\":\"1970-01-01\",\"deltas\":[1,1,"), is(true));
+    assertThat(this.gson.<List<LocalDate>>fromJson(json, LOCAL_DATES), is(dates));
+  }
+
+  /**
+   * Tests that a fixed stride series with too many values is rejected, rather than allocated.
+   */
+  @Test(expected = JsonSyntaxException.class)
+  public void testCountTooLarge()
+  {
+    this.gson.fromJson("{\"base\":\"2024-01-01T00:00:00.000Z\",\"stride\":1,\"count\":2147483647}", INSTANTS);
+  }
+
+  /**
+   * Tests that a series without a base is rejected.
+   */
+  @Test(expected = JsonSyntaxException.class)
+  public void testMissingBase()
+  {
+    this.gson.fromJson("{\"stride\":1,\"count\":2}", INSTANTS);
+  }
+}
@@ -0,0 +1,167 @@
+/*
+ * GSON Joda Time Serialisers
+ *
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjodatime;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonSyntaxException;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.Duration;
+import org.joda.time.Instant;
+import org.joda.time.Interval;
+import org.joda.time.LocalDate;
+import org.joda.time.LocalTime;
+import org.joda.time.Period;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for {@link EpochTypeAdapter}.
+ */
+public class EpochTypeAdapterTest
+{
+  /** A moment with every field set. */
+  private static final DateTime MOMENT = new DateTime(2019, 7, 7, 10, 15, 30, 123, DateTimeZone.UTC);
+
+  /**
+   * Tests the numeric encoding of each type.
+   */
+  @Test
+  public void testSerialise()
+  {
+    final Gson gson = Converters.registerAllNumeric(new GsonBuilder()).create();
+
+    assertThat(gson.toJson(MOMENT.toInstant()), is("1562494530123"));
+    assertThat(gson.toJson(MOMENT), is("1562494530123"));
+    assertThat(gson.toJson(new LocalDate(2019, 7, 7)), is("18084"));
+    assertThat(gson.toJson(new LocalDate(1969, 12, 31)), is("-1"));
+    assertThat(gson.toJson(new LocalTime(10, 15, 30, 123)), is("36930123"));
+    assertThat(gson.toJson(Duration.standardMinutes(30L)), is("1800000"));
+    assertThat(gson.toJson(new Interval(0L, 1000L)), is("[0,1000]"));
+    assertThat(gson.toJson(Period.days(2)), is("\"P2D\""));
+  }
+
+  /**
+   * Tests that every type round-trips through the numeric encoding.
+   */
+  @Test
+  public void testRoundtrip()
+  {
+    final Gson gson = Converters.registerAllNumeric(new GsonBuilder()).create();
+    final Interval interval = new Interval(MOMENT.minusDays(14).getMillis(), MOMENT.getMillis());
+
+    assertThat(gson.fromJson(gson.toJson(MOMENT.toInstant()), Instant.class), is(MOMENT.toInstant()));
+    assertThat(gson.fromJson(gson.toJson(MOMENT), DateTime.class), is(MOMENT));
+    assertThat(gson.fromJson(gson.toJson(new LocalDate(1, 2, 3)), LocalDate.class), is(new LocalDate(1, 2, 3)));
+    assertThat(gson.fromJson(gson.toJson(new LocalTime(23, 59)), LocalTime.class), is(new LocalTime(23, 59)));
+    assertThat(gson.fromJson(gson.toJson(new Duration(-5L)), Duration.class), is(new Duration(-5L)));
+    assertThat(gson.fromJson(gson.toJson(interval), Interval.class), is(interval));
+  }
+
+  /**
+   * Tests that the ISO 8601 form written by a textual producer is accepted, and vice versa.
+   */
+  @Test
+  public void testAcceptsBothForms()
+  {
+    final Gson numeric = Converters.registerAllNumeric(new GsonBuilder()).create();
+    final Gson iso = Converters.registerAll(new GsonBuilder()).create();
+    final Interval interval = new Interval(MOMENT.minusDays(14).getMillis(), MOMENT.getMillis());
+
+    assertThat(numeric.fromJson(iso.toJson(MOMENT.toInstant()), Instant.class), is(MOMENT.toInstant()));
+    assertThat(numeric.fromJson(iso.toJson(new LocalDate(2019, 7, 7)), LocalDate.class), is(new LocalDate(2019, 7, 7)));
+    assertThat(numeric.fromJson(iso.toJson(interval), Interval.class), is(interval));
+    assertThat(numeric.fromJson(iso.toJson(Duration.millis(1500L)), Duration.class), is(Duration.millis(1500L)));
+    assertThat(numeric.fromJson("null", Instant.class), is(nullValue()));
+    assertThat(numeric.fromJson("\"\"", LocalTime.class), is(nullValue()));
+  }
+
+  /**
+   * Tests that the ends of the day read back, and that millis of the day outside it are rejected.
+   */
+  @Test
+  public void testLocalTimeRange()
+  {
+    final Gson gson = Converters.registerAllNumeric(new GsonBuilder()).create();
+
+    assertThat(gson.fromJson("0", LocalTime.class), is(LocalTime.MIDNIGHT));
+    assertThat(gson.fromJson("86399999", LocalTime.class), is(new LocalTime(23, 59, 59, 999)));
+    assertRejected(gson, "{\"time\":86400000}", "millis of day 86400000 is out of range at $.time");
+    assertRejected(gson, "{\"time\":-1}", "millis of day -1 is out of range at $.time");
+  }
+
+  /**
+   * Tests that the ends of the ISO chronology read back, and that epoch days beyond them are rejected rather than
+   * overflowing.
+   */
+  @Test
+  public void testLocalDateRange()
+  {
+    final Gson gson = Converters.registerAllNumeric(new GsonBuilder()).create();
+    final long min = EpochTypeAdapter.MIN_EPOCH_DAY;
+    final long max = EpochTypeAdapter.MAX_EPOCH_DAY;
+
+    assertThat(gson.fromJson(Long.toString(min), LocalDate.class), is(new LocalDate(-292275054, 1, 1)));
+    assertThat(gson.fromJson(Long.toString(max), LocalDate.class), is(new LocalDate(292278993, 12, 31)));
+    assertRejected(gson, "{\"date\":" + (min - 1) + "}", "epoch day " + (min - 1) + " is out of range at $.date");
+    assertRejected(gson, "{\"date\":" + (max + 1) + "}", "epoch day " + (max + 1) + " is out of range at $.date");
+    assertRejected(gson, "{\"date\":" + Long.MAX_VALUE + "}",
+                   "epoch day " + Long.MAX_VALUE + " is out of range at $.date");
+  }
+
+  /**
+   * Asserts that reading a {@link Fields} record fails with the given message.
+   * @param gson The GSON instance to read with.
+   * @param json The JSON to read.
+   * @param message The expected message.
+   */
+  private static void assertRejected(Gson gson, String json, String message)
+  {
+    try
+    {
+      gson.fromJson(json, Fields.class);
+      fail(json);
+    }
+    catch (JsonSyntaxException e)
+    {
+      assertThat(e.getMessage(), is(message));
+    }
+  }
+
+  /**
+   * A record with numerically encoded fields.
+   */
+  private static class Fields
+  {
+    private LocalDate date;
+    private LocalTime time;
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * GSON Joda Time Serialisers
+ *
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjodatime;
+
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.Interval;
+import org.joda.time.LocalDate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A record with Joda Time fields, shared by the tests of the record readers and writers.  GSON leaves the fields
+ * that are {@code null} out by default, so a test only needs to set, and mention in its JSON, the ones it uses.
+ */
+final class Event
+{
+  /** The time of the first event created by {@link #events(int)}. */
+  static final DateTime START = new DateTime(2024, 1, 1, 10, 15, 30, 250, DateTimeZone.forOffsetHours(10));
+
+  Integer sequence;
+  String name;
+  DateTime at;
+  Interval window;
+  List<LocalDate> days;
+
+  /**
+   * Constructs an event with no fields set.
+   */
+  Event()
+  {
+  }
+
+  /**
+   * Constructs an event with a name and times.
+   * @param name The name.
+   * @param at The time of the event.
+   * @param window The interval of the event.
+   */
+  Event(String name, DateTime at, Interval window)
+  {
+    this.name = name;
+    this.at = at;
+    this.window = window;
+  }
+
+  /**
+   * Creates events, one a minute from {@link #START}, with every field set but the name of every third event.
+   * The other names hold brackets, commas, quotes, backslashes, characters that GSON escapes for HTML, and
+   * multi-byte characters.
+   * @param count The number of events.
+   * @return The events.
+   */
+  static List<Event> events(int count)
+  {
+    final List<Event> events = new ArrayList<Event>();
+    for (int i = 0; i < count; i++)
+    {
+      final Event event = new Event(null, START.plusMinutes(i), new Interval(START, START.plusHours(i)));
+      event.sequence = i;
+      event.name = i % 3 == 2 ? null : "],[{\"\\<event " + i + " & \u00e9\u2192>";
+      event.days = Arrays.asList(new LocalDate(2024, 2, 29), new LocalDate(2024, 3, i % 28 + 1));
+      events.add(event);
+    }
+
+    return events;
+  }
+}
@@ -0,0 +1,145 @@
+/*
+ * GSON Joda Time Serialisers
+ *
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjodatime;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.Instant;
+import org.joda.time.LocalDate;
+import org.joda.time.LocalDateTime;
+import org.joda.time.LocalTime;
+import org.joda.time.Period;
+import org.joda.time.format.PeriodFormat;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests for {@link FormatterRegistry}.
+ */
+public class FormatterRegistryTest
+{
+  /**
+   * Tests that overriding a pattern returns a new registry and leaves the original untouched.
+   */
+  @Test
+  public void testImmutable()
+  {
+    final FormatterRegistry iso = FormatterRegistry.iso();
+    final FormatterRegistry custom = iso.withLocalDatePattern("dd/MM/yyyy");
+
+    assertThat(custom, is(not(sameInstance(iso))));
+    assertThat(iso.localDateFormatter().print(new LocalDate(2019, 7, 7)), is("2019-07-07"));
+    assertThat(custom.localDateFormatter().print(new LocalDate(2019, 7, 7)), is("07/07/2019"));
+  }
+
+  /**
+   * Tests that the basic format registry prints the basic format and reads both formats.
+   */
+  @Test
+  public void testIsoBasic()
+  {
+    final Gson gson = Converters.registerAllBasic(new GsonBuilder()).create();
+    final DateTime dt = new DateTime(2024, 1, 1, 10, 15, 0, 123, DateTimeZone.forOffsetHoursMinutes(-3, -30));
+    final LocalDateTime ldt = new LocalDateTime(2024, 1, 1, 10, 15, 0, 123);
+
+    assertThat(gson.toJson(dt.toInstant()), is("\"20240101T134500.123Z\""));
+    assertThat(gson.toJson(dt), is("\"20240101T101500.123-0330\""));
+    assertThat(gson.toJson(ldt), is("\"20240101T101500.123\""));
+    assertThat(gson.toJson(ldt.toLocalDate()), is("\"20240101\""));
+    assertThat(gson.toJson(ldt.toLocalTime()), is("\"101500.123\""));
+
+    assertThat(gson.fromJson("\"20240101T101500.123-0330\"", DateTime.class), is(dt));
+    assertThat(gson.fromJson("\"2024-01-01T10:15:00.123-03:30\"", DateTime.class), is(dt));
+    assertThat(gson.fromJson("\"20240101T134500.123Z\"", Instant.class), is(dt.toInstant()));
+    assertThat(gson.fromJson("\"20240101T101500.123\"", LocalDateTime.class), is(ldt));
+    assertThat(gson.fromJson("\"2024-01-01\"", LocalDate.class), is(ldt.toLocalDate()));
+    assertThat(gson.fromJson("\"10:15:00.123\"", LocalTime.class), is(ldt.toLocalTime()));
+    assertThat(gson.fromJson(gson.toJson(dt.toDateMidnight()), DateTime.class), is(dt.toDateMidnight().toDateTime()));
+  }
+
+  /**
+   * Tests that the basic format registry falls back to Joda for values outside the fixed-width shape.
+   */
+  @Test
+  public void testIsoBasicFallBack()
+  {
+    final Gson gson = Converters.registerAllBasic(new GsonBuilder()).create();
+    final DateTime bigYear = new DateTime(10000, 1, 1, 0, 0, DateTimeZone.UTC);
+
+    assertThat(gson.toJson(bigYear), is("\"100000101T000000.000Z\""));
+    assertThat(
+      gson.fromJson("\"2024-01-01T10:15+01:00\"", DateTime.class),
+      is(new DateTime(2024, 1, 1, 10, 15, DateTimeZone.forOffsetHours(1))));
+  }
+
+  /**
+   * Tests that the overridden formatters are used when registering all the converters.
+   */
+  @Test
+  public void testRegisterAllWithOverrides()
+  {
+    final FormatterRegistry formatters = FormatterRegistry.iso()
+      .withLocalDatePattern("dd/MM/yyyy")
+      .withLocalTimePattern("HH:mm")
+      .withDateTimePattern("yyyy-MM-dd HH:mm:ssZZ")
+      .withInstantPattern("yyyyMMddHHmmss")
+      .withPeriod(PeriodFormat.getDefault());
+    final Gson gson = Converters.registerAll(new GsonBuilder(), formatters).create();
+    final DateTime dt = new DateTime(2019, 7, 7, 10, 15, 30, DateTimeZone.forOffsetHours(10));
+
+    assertThat(gson.toJson(new LocalDate(2019, 7, 7)), is("\"07/07/2019\""));
+    assertThat(gson.toJson(new LocalTime(10, 15)), is("\"10:15\""));
+    assertThat(gson.toJson(dt), is("\"2019-07-07 10:15:30+10:00\""));
+    assertThat(gson.toJson(dt.toInstant()), is("\"20190707001530\""));
+    assertThat(gson.toJson(Period.days(2)), is("\"2 days\""));
+
+    assertThat(gson.fromJson("\"07/07/2019\"", LocalDate.class), is(new LocalDate(2019, 7, 7)));
+    assertThat(gson.fromJson("\"10:15\"", LocalTime.class), is(new LocalTime(10, 15)));
+    assertThat(gson.fromJson("\"2019-07-07 10:15:30+10:00\"", DateTime.class), is(dt));
+    assertThat(gson.fromJson("\"20190707001530\"", Instant.class), is(dt.toInstant()));
+  }
+
+  /**
+   * Tests that an overridden ISO-shaped pattern isn't bypassed by the ISO fast paths.
+   */
+  @Test
+  public void testOverrideDisablesFastPath()
+  {
+    final FormatterRegistry formatters = FormatterRegistry.iso()
+      .withDateTime(FormatterRegistry.ISO_DATE_TIME_PRINTER.withZone(DateTimeZone.forOffsetHours(2)),
+                    FormatterRegistry.ISO_DATE_TIME_PARSER.withZone(DateTimeZone.forOffsetHours(2)));
+    final DateTimeConverter converter = new DateTimeConverter(formatters);
+
+    assertThat(converter.print(new DateTime(0L, DateTimeZone.UTC)), is("1970-01-01T02:00:00.000+02:00"));
+    assertThat(converter.parse("1970-01-01T00:00:00.000Z").getZone(), is(DateTimeZone.forOffsetHours(2)));
+  }
+}
@@ -0,0 +1,279 @@
+/*
+ * GSON Joda Time Serialisers
+ *
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjodatime;
+
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.Instant;
+import org.joda.time.LocalDate;
+import org.joda.time.LocalDateTime;
+import org.joda.time.LocalTime;
+import org.joda.time.format.DateTimeFormatter;
+import org.joda.time.format.ISODateTimeFormat;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests for {@link IsoDateTimeParser}.
+ */
+public class IsoDateTimeParserTest
+{
+  /** The parser the fast path must agree with for {@link DateTime}. */
+  private static final DateTimeFormatter DATE_TIME_PARSER = ISODateTimeFormat.dateTimeParser().withOffsetParsed();
+
+  /** The parser the fast path must agree with for {@link Instant}. */
+  private static final DateTimeFormatter INSTANT_PARSER = ISODateTimeFormat.dateTimeParser().withZoneUTC();
+
+  /** The parser the fast path must agree with for the basic format. */
+  private static final DateTimeFormatter BASIC_PARSER = FormatterRegistry.BASIC_DATE_TIME_PARSER;
+
+  /**
+   * Tests that random values in the fast path shape parse identically to Joda's ISO parser.
+   */
+  @Test
+  public void testRandomValuesMatchJoda()
+  {
+    final Random random = new Random(20190707L);
+    final long min = new DateTime(0, 1, 1, 0, 0, DateTimeZone.UTC).getMillis();
+    final long max = new DateTime(9999, 12, 31, 0, 0, DateTimeZone.UTC).getMillis();
+
+    for (int i = 0; i < 20000; i++)
+    {
+      final long millis = min + (long) (random.nextDouble() * (max - min));
+      final int offsetMinutes = random.nextInt(4) == 0 ? 0 : random.nextInt(2 * 24 * 60 - 1) - (24 * 60 - 1);
+      final DateTimeZone zone = DateTimeZone.forOffsetMillis(offsetMinutes * 60000);
+      final String text = withFractionDigits(
+        ISODateTimeFormat.dateTime().print(new DateTime(millis, zone)),
+        random.nextInt(10),
+        random);
+
+      assertMatchesJoda(text);
+    }
+  }
+
+  /**
+   * Tests interesting values in the fast path shape parse identically to Joda's ISO parser.
+   */
+  @Test
+  public void testEdgeValuesMatchJoda()
+  {
+    assertMatchesJoda("1970-01-01T00:00:00.000Z");
+    assertMatchesJoda("1969-12-31T23:59:59.999Z");
+    assertMatchesJoda("0000-01-01T00:00:00Z");
+    assertMatchesJoda("9999-12-31T23:59:59.999-23:59");
+    assertMatchesJoda("2016-02-29T12:00:00+14:00");
+    assertMatchesJoda("2000-02-29T12:00:00.5+05:30");
+    assertMatchesJoda("2019-01-31T10:37:20.631+01:00");
+    assertMatchesJoda("2016-07-01T12:30:25.123456789Z");
+    assertMatchesJoda("2016-07-01T12:30:25-00:00");
+  }
+
+  /**
+   * Tests that random values in the basic format parse identically to Joda's ISO basic parser.
+   */
+  @Test
+  public void testRandomBasicValuesMatchJoda()
+  {
+    final Random random = new Random(20240101L);
+    final long min = new DateTime(0, 1, 1, 0, 0, DateTimeZone.UTC).getMillis();
+    final long max = new DateTime(9999, 12, 31, 0, 0, DateTimeZone.UTC).getMillis();
+
+    for (int i = 0; i < 20000; i++)
+    {
+      final long millis = min + (long) (random.nextDouble() * (max - min));
+      final int offsetMinutes = random.nextInt(4) == 0 ? 0 : random.nextInt(2 * 24 * 60 - 1) - (24 * 60 - 1);
+      final DateTimeZone zone = DateTimeZone.forOffsetMillis(offsetMinutes * 60000);
+      final DateTimeFormatter printer = random.nextBoolean() ?
+        ISODateTimeFormat.basicDateTime() :
+        ISODateTimeFormat.basicDateTimeNoMillis();
+      final String text = printer.print(new DateTime(millis, zone));
+      final DateTime expected = BASIC_PARSER.parseDateTime(text);
+
+      assertThat(text, IsoDateTimeParser.parseDateTime(text, true), is(expected));
+      assertThat(text, IsoDateTimeParser.parseDateTime(text, true).getZone(), is(expected.getZone()));
+      assertThat(text, IsoDateTimeParser.parseInstant(text, true), is(expected.toInstant()));
+      assertThat(text, IsoDateTimeParser.parseInstant(text, false), is(nullValue()));
+    }
+  }
+
+  /**
+   * Tests that the partial types parse in both formats.
+   */
+  @Test
+  public void testPartials()
+  {
+    final LocalDateTime ldt = new LocalDateTime(2024, 1, 1, 10, 15, 0, 123);
+
+    assertThat(IsoDateTimeParser.parseLocalDate("2024-01-01", true), is(ldt.toLocalDate()));
+    assertThat(IsoDateTimeParser.parseLocalDate("20240101", true), is(ldt.toLocalDate()));
+    assertThat(IsoDateTimeParser.parseLocalDateTime("2024-01-01T10:15:00.123", true), is(ldt));
+    assertThat(IsoDateTimeParser.parseLocalDateTime("20240101T101500.123", true), is(ldt));
+    assertThat(IsoDateTimeParser.parseLocalDateTime("20240101T101500", true), is(ldt.withMillisOfSecond(0)));
+    assertThat(IsoDateTimeParser.parseLocalTime("10:15:00.123", true), is(ldt.toLocalTime()));
+    assertThat(IsoDateTimeParser.parseLocalTime("101500.123456", true), is(ldt.toLocalTime()));
+    assertThat(IsoDateTimeParser.parseLocalTime("101500", true), is(new LocalTime(10, 15)));
+
+    assertThat(IsoDateTimeParser.parseLocalDate("2024-0101", true), is(nullValue()));
+    assertThat(IsoDateTimeParser.parseLocalDate("20240230", true), is(nullValue()));
+    assertThat(IsoDateTimeParser.parseLocalDate("202401011", true), is(nullValue()));
+    assertThat(IsoDateTimeParser.parseLocalDateTime("20240101T101500Z", true), is(nullValue()));
+    assertThat(IsoDateTimeParser.parseLocalTime("10:15", true), is(nullValue()));
+    assertThat(IsoDateTimeParser.parseLocalTime("10:1500", true), is(nullValue()));
+    assertThat(IsoDateTimeParser.parseLocalTime("1015:00", true), is(nullValue()));
+  }
+
+  /**
+   * Tests that the basic format is left for the fall back parser unless it's asked for.
+   */
+  @Test
+  public void testBasicNotAllowed()
+  {
+    assertThat(IsoDateTimeParser.parseLocalDate("2024-02-29", false), is(new LocalDate(2024, 2, 29)));
+    assertThat(IsoDateTimeParser.parseLocalTime("13:45:30", false), is(new LocalTime(13, 45, 30)));
+
+    assertThat(IsoDateTimeParser.parseLocalDate("20240229", false), is(nullValue()));
+    assertThat(IsoDateTimeParser.parseLocalTime("134530", false), is(nullValue()));
+    assertThat(IsoDateTimeParser.parseLocalDateTime("20240229T134530.000", false), is(nullValue()));
+    assertThat(IsoDateTimeParser.parseDateTime("20240229T134530Z", false), is(nullValue()));
+    assertThat(IsoDateTimeParser.parseInstant("20240229T134530Z", false), is(nullValue()));
+  }
+
+  /**
+   * Tests that text outside the fast path shape is left for the fall back parser.
+   */
+  @Test
+  public void testRejectsOtherShapes()
+  {
+    assertRejected("2016-07-01");
+    assertRejected("2016-07-01T12:30");
+    assertRejected("2016-07-01T12:30:25");
+    assertRejected("2016-07-01T12:30:25.");
+    assertRejected("2016-07-01T12:30:25.Z");
+    assertRejected("2016-07-01T12:30:25,5Z");
+    assertRejected("2016-07-01T12:30:25+10");
+    assertRejected("2016-07-01T12:30:25+1000");
+    assertRejected("2016-07-01T12:30:25Zulu");
+    assertRejected("2016-07-01T12:30:25.1234567890Z");
+    assertRejected("+2016-07-01T12:30:25Z");
+    assertRejected("2016-07-01 12:30:25Z");
+    assertRejected("20160701T123025+10:00");
+    assertRejected("20160701T12:30:25Z");
+    assertRejected("2016-07-01T123025Z");
+    assertRejected("20160701T1230Z");
+  }
+
+  /**
+   * Tests that out of range fields are left for the fall back parser to report.
+   */
+  @Test
+  public void testRejectsOutOfRangeFields()
+  {
+    assertRejected("2015-02-29T12:30:25Z");
+    assertRejected("1900-02-29T12:30:25Z");
+    assertRejected("2016-04-31T12:30:25Z");
+    assertRejected("2016-13-01T12:30:25Z");
+    assertRejected("2016-00-01T12:30:25Z");
+    assertRejected("2016-07-00T12:30:25Z");
+    assertRejected("2016-07-01T24:00:00Z");
+    assertRejected("2016-07-01T12:60:25Z");
+    assertRejected("2016-07-01T12:30:60Z");
+    assertRejected("2016-07-01T12:30:25+24:00");
+    assertRejected("2016-07-01T12:30:25+10:60");
+    assertRejected("2016-0a-01T12:30:25Z");
+  }
+
+  /**
+   * Tests that the converter falls back to the formatter for values outside the fast path shape.
+   */
+  @Test
+  public void testConverterFallsBack()
+  {
+    final DateTimeConverter converter = new DateTimeConverter();
+
+    assertThat(converter.parse("2016-07-01T12:30+10:00"), is(DATE_TIME_PARSER.parseDateTime("2016-07-01T12:30+10:00")));
+    assertThat(converter.parse("2016-07-01T12:30:25,5Z"), is(DATE_TIME_PARSER.parseDateTime("2016-07-01T12:30:25,5Z")));
+  }
+
+  /**
+   * Tests that the converter reports out of range fields just as the formatter does.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testConverterReportsInvalid()
+  {
+    new DateTimeConverter().parse("2015-02-29T12:30:25Z");
+  }
+
+  /**
+   * Asserts that the text parses to the same value with the fast path as with Joda.
+   * @param text The text.
+   */
+  private static void assertMatchesJoda(String text)
+  {
+    final DateTime expected = DATE_TIME_PARSER.parseDateTime(text);
+    final DateTime actual = IsoDateTimeParser.parseDateTime(text, false);
+
+    assertThat(text, actual, is(expected));
+    assertThat(text, actual.getZone(), is(expected.getZone()));
+    assertThat(text, IsoDateTimeParser.parseInstant(text, false), is(Instant.parse(text, INSTANT_PARSER)));
+  }
+
+  /**
+   * Asserts that the fast path declines to parse the text.
+   * @param text The text.
+   */
+  private static void assertRejected(String text)
+  {
+    assertThat(text, IsoDateTimeParser.parseDateTime(text, true), is(nullValue()));
+    assertThat(text, IsoDateTimeParser.parseInstant(text, true), is(nullValue()));
+  }
+
+  /**
+   * Replaces the three digit fraction of a printed value with one of the given length.
+   * @param text The printed value, with a three digit fraction.
+   * @param digits The number of fraction digits required (zero for no fraction).
+   * @param random The source of the extra digits.
+   * @return The adjusted text.
+   */
+  private static String withFractionDigits(String text, int digits, Random random)
+  {
+    final StringBuilder fraction = new StringBuilder(text.substring(19, 23));
+    while (fraction.length() > digits + 1)
+    {
+      fraction.setLength(fraction.length() - 1);
+    }
+    while (fraction.length() < digits + 1)
+    {
+      fraction.append((char) ('0' + random.nextInt(10)));
+    }
+
+    return text.substring(0, 19) + (digits == 0 ? "" : fraction) + text.substring(23);
+  }
+}
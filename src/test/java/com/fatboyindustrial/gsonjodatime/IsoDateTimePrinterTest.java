@@ -0,0 +1,207 @@
+/*
+ * GSON Joda Time Serialisers
+ *
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjodatime;
+
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.Instant;
+import org.joda.time.LocalDate;
+import org.joda.time.LocalDateTime;
+import org.joda.time.LocalTime;
+import org.joda.time.chrono.BuddhistChronology;
+import org.joda.time.format.DateTimeFormat;
+import org.joda.time.format.ISODateTimeFormat;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests for {@link IsoDateTimePrinter}.
+ */
+public class IsoDateTimePrinterTest
+{
+  /** Zones to print random values in. */
+  private static final DateTimeZone[] ZONES = {
+    DateTimeZone.UTC,
+    DateTimeZone.forID("Australia/Brisbane"),
+    DateTimeZone.forID("Australia/Adelaide"),
+    DateTimeZone.forID("America/New_York"),
+    DateTimeZone.forID("Asia/Kathmandu"),
+    DateTimeZone.forOffsetHoursMinutes(-9, -30),
+  };
+
+  /**
+   * Tests that random values print identically to Joda's ISO printer.
+   */
+  @Test
+  public void testRandomValuesMatchJoda()
+  {
+    final Random random = new Random(20170329L);
+    final long min = new DateTime(0, 1, 2, 0, 0, DateTimeZone.UTC).getMillis();
+    final long max = new DateTime(9999, 12, 30, 0, 0, DateTimeZone.UTC).getMillis();
+
+    for (int i = 0; i < 20000; i++)
+    {
+      final long millis = min + (long) (random.nextDouble() * (max - min));
+      final DateTime dt = new DateTime(millis, ZONES[random.nextInt(ZONES.length)]);
+      final int offset = dt.getZone().getOffset(millis);
+
+      // Local mean time offsets aren't whole minutes, so are left to the formatter
+      if (offset % 60000 == 0)
+      {
+        assertThat(IsoDateTimePrinter.EXTENDED.print(millis, offset), is(ISODateTimeFormat.dateTime().print(dt)));
+      }
+      else
+      {
+        assertThat(IsoDateTimePrinter.EXTENDED.print(millis, offset), is(nullValue()));
+      }
+    }
+  }
+
+  /**
+   * Tests that random values print identically to Joda's ISO basic printer.
+   */
+  @Test
+  public void testRandomValuesMatchJodaBasic()
+  {
+    final Random random = new Random(20240101L);
+    final long min = new DateTime(0, 1, 2, 0, 0, DateTimeZone.UTC).getMillis();
+    final long max = new DateTime(9999, 12, 30, 0, 0, DateTimeZone.UTC).getMillis();
+
+    for (int i = 0; i < 20000; i++)
+    {
+      final long millis = min + (long) (random.nextDouble() * (max - min));
+      final DateTime dt = new DateTime(millis, ZONES[random.nextInt(ZONES.length)]);
+      final int offset = dt.getZone().getOffset(millis);
+
+      if (offset % 60000 == 0)
+      {
+        assertThat(IsoDateTimePrinter.BASIC.print(millis, offset), is(ISODateTimeFormat.basicDateTime().print(dt)));
+      }
+    }
+  }
+
+  /**
+   * Tests that the partial types print identically to Joda in both formats.
+   */
+  @Test
+  public void testPartialsMatchJoda()
+  {
+    final LocalDateTime ldt = new LocalDateTime(2024, 1, 1, 10, 15, 0, 123);
+    final LocalDate date = ldt.toLocalDate();
+    final LocalTime time = ldt.toLocalTime();
+
+    assertThat(IsoDateTimePrinter.EXTENDED.printDate(2024, 1, 1), is(DateTimeFormat.forPattern("yyyy-MM-dd").print(date)));
+    assertThat(IsoDateTimePrinter.BASIC.printDate(2024, 1, 1), is(ISODateTimeFormat.basicDate().print(date)));
+    assertThat(IsoDateTimePrinter.EXTENDED.printTime(time.getMillisOfDay()), is(ISODateTimeFormat.time().print(time)));
+    assertThat(IsoDateTimePrinter.BASIC.printTime(time.getMillisOfDay()), is("101500.123"));
+    assertThat(
+      IsoDateTimePrinter.EXTENDED.printLocal(2024, 1, 1, time.getMillisOfDay()),
+      is(DateTimeFormat.forPattern("yyyy-MM-dd'T'HH:mm:ss.SSS").print(ldt)));
+    assertThat(IsoDateTimePrinter.BASIC.printLocal(2024, 1, 1, time.getMillisOfDay()), is("20240101T101500.123"));
+    assertThat(IsoDateTimePrinter.BASIC.printDate(10000, 1, 1), is(nullValue()));
+  }
+
+  /**
+   * Tests that the fraction is left out as the precision says.
+   */
+  @Test
+  public void testPrecision()
+  {
+    final DateTime dt = new DateTime(2019, 7, 7, 10, 15, 30, 123, DateTimeZone.forOffsetHours(10));
+    final DateTime whole = dt.withMillisOfSecond(0);
+    final IsoDateTimePrinter seconds = IsoDateTimePrinter.EXTENDED.withPrecision(Precision.SECOND);
+    final IsoDateTimePrinter omitZero = IsoDateTimePrinter.BASIC.withPrecision(Precision.OMIT_ZERO_FRACTION);
+
+    assertThat(seconds.print(dt.getMillis(), 36000000), is(ISODateTimeFormat.dateTimeNoMillis().print(dt)));
+    assertThat(seconds.printTime(dt.getMillisOfDay()), is("10:15:30"));
+    assertThat(omitZero.print(dt.getMillis(), 36000000), is(ISODateTimeFormat.basicDateTime().print(dt)));
+    assertThat(omitZero.print(whole.getMillis(), 36000000), is(ISODateTimeFormat.basicDateTimeNoMillis().print(whole)));
+    assertThat(IsoDateTimePrinter.EXTENDED.withPrecision(Precision.MILLISECOND), is(IsoDateTimePrinter.EXTENDED));
+  }
+
+  /**
+   * Tests interesting values print identically to Joda's ISO printer.
+   */
+  @Test
+  public void testEdgeValuesMatchJoda()
+  {
+    assertMatchesJoda(new DateTime(1970, 1, 1, 0, 0, DateTimeZone.UTC));
+    assertMatchesJoda(new DateTime(1969, 12, 31, 23, 59, 59, 999, DateTimeZone.UTC));
+    assertMatchesJoda(new DateTime(0, 1, 1, 0, 0, DateTimeZone.UTC));
+    assertMatchesJoda(new DateTime(9999, 12, 31, 23, 59, 59, 999, DateTimeZone.UTC));
+    assertMatchesJoda(new DateTime(2000, 2, 29, 12, 0, DateTimeZone.forOffsetHours(14)));
+    assertMatchesJoda(new DateTime(1900, 3, 1, 0, 0, DateTimeZone.forOffsetHoursMinutes(-5, -45)));
+  }
+
+  /**
+   * Tests that values outside the fixed-width shape are declined.
+   */
+  @Test
+  public void testDeclinesOtherValues()
+  {
+    final DateTime negativeYear = new DateTime(-1, 12, 31, 0, 0, DateTimeZone.UTC);
+    final DateTime bigYear = new DateTime(10000, 1, 1, 0, 0, DateTimeZone.UTC);
+
+    assertThat(IsoDateTimePrinter.EXTENDED.print(negativeYear.getMillis(), 0), is(nullValue()));
+    assertThat(IsoDateTimePrinter.EXTENDED.print(bigYear.getMillis(), 0), is(nullValue()));
+    assertThat(IsoDateTimePrinter.EXTENDED.print(0L, 1000), is(nullValue()));
+  }
+
+  /**
+   * Tests that the converters fall back to the formatter for values outside the fixed-width shape.
+   */
+  @Test
+  public void testConvertersFallBack()
+  {
+    final DateTime negativeYear = new DateTime(-1, 12, 31, 0, 0, DateTimeZone.UTC);
+    final DateTime buddhist = new DateTime(2019, 7, 7, 10, 0, BuddhistChronology.getInstance(DateTimeZone.UTC));
+    final DateTime secondsOffset = new DateTime(2019, 7, 7, 10, 0, DateTimeZone.forOffsetMillis(1000));
+
+    assertThat(new DateTimeConverter().print(negativeYear), is(ISODateTimeFormat.dateTime().print(negativeYear)));
+    assertThat(new DateTimeConverter().print(buddhist), is(ISODateTimeFormat.dateTime().print(buddhist)));
+    assertThat(new DateTimeConverter().print(secondsOffset), is(ISODateTimeFormat.dateTime().print(secondsOffset)));
+    assertThat(
+      new InstantConverter().print(negativeYear.toInstant()),
+      is(ISODateTimeFormat.dateTime().withZoneUTC().print(negativeYear)));
+    assertThat(
+      new InstantConverter().print(new Instant(0L)),
+      is("1970-01-01T00:00:00.000Z"));
+  }
+
+  /**
+   * Asserts that the value prints the same with the fixed-width printer as with Joda.
+   * @param dt The value.
+   */
+  private static void assertMatchesJoda(DateTime dt)
+  {
+    assertThat(IsoDateTimePrinter.EXTENDED.print(dt.getMillis(), dt.getZone().getOffset(dt)), is(ISODateTimeFormat.dateTime().print(dt)));
+  }
+}
@@ -0,0 +1,157 @@
+/*
+ * GSON Joda Time Serialisers
+ *
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjodatime;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonNull;
+import org.joda.time.DateMidnight;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.Duration;
+import org.joda.time.Instant;
+import org.joda.time.Interval;
+import org.joda.time.LocalDate;
+import org.joda.time.LocalDateTime;
+import org.joda.time.LocalTime;
+import org.joda.time.Period;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests for {@link JodaTypeAdapterFactory}.
+ */
+public class JodaTypeAdapterFactoryTest
+{
+  /**
+   * Tests that every supported type can be round-tripped through the factory.
+   */
+  @Test
+  public void testRoundtrip()
+  {
+    final Gson gson = new GsonBuilder().registerTypeAdapterFactory(new JodaTypeAdapterFactory()).create();
+    final Container original = new Container();
+    //noinspection deprecation
+    original.dm = new DateMidnight();
+    original.dt = new DateTime();
+    original.dtz = DateTimeZone.forID("Australia/Brisbane");
+    original.d = Duration.standardMinutes(30L);
+    original.ld = new LocalDate();
+    original.ldt = new LocalDateTime();
+    original.lt = new LocalTime();
+    original.i = new Interval(DateTime.now().minusDays(14), DateTime.now().plusDays(2));
+    original.p = Period.days(2);
+    original.in = new Instant();
+
+    final Container reconstituted = gson.fromJson(gson.toJson(original), Container.class);
+
+    assertThat(reconstituted.dm, is(original.dm));
+    assertThat(reconstituted.dt.toString(), is(original.dt.toString()));  // work-around the loss of zone name and just worry about the offset
+    assertThat(reconstituted.dtz, is(original.dtz));
+    assertThat(reconstituted.d, is(original.d));
+    assertThat(reconstituted.ld, is(original.ld));
+    assertThat(reconstituted.ldt, is(original.ldt));
+    assertThat(reconstituted.lt, is(original.lt));
+    assertThat(reconstituted.i, is(original.i));
+    assertThat(reconstituted.p, is(original.p));
+    assertThat(reconstituted.in, is(original.in));
+  }
+
+  /**
+   * Tests that the factory produces the same JSON as the tree based converters.
+   */
+  @Test
+  public void testSameAsConverters()
+  {
+    final Gson streaming = new GsonBuilder().registerTypeAdapterFactory(new JodaTypeAdapterFactory()).create();
+    final Gson tree = new GsonBuilder()
+      .registerTypeAdapter(Converters.LOCAL_DATE_TYPE, new LocalDateConverter())
+      .registerTypeAdapter(Converters.INTERVAL_TYPE, new IntervalConverter())
+      .create();
+    final LocalDate ld = new LocalDate(2019, 7, 7);
+    final Interval i = new Interval(new DateTime(2019, 7, 7, 10, 0, DateTimeZone.UTC), Duration.standardHours(3L));
+
+    assertThat(streaming.toJson(ld), is(tree.toJson(ld)));
+    assertThat(streaming.toJson(i), is(tree.toJson(i)));
+  }
+
+  /**
+   * Tests that JSON null fields and empty strings deserialise to null.
+   */
+  @Test
+  public void testDeserialiseNullAndEmpty()
+  {
+    final Gson gson = new GsonBuilder().registerTypeAdapterFactory(new JodaTypeAdapterFactory()).create();
+
+    final Container reconstituted = gson.fromJson("{\"dt\":null,\"ld\":\"\",\"dtz\":null}", Container.class);
+
+    assertThat(reconstituted.dt, is(nullValue()));
+    assertThat(reconstituted.ld, is(nullValue()));
+    assertThat(reconstituted.dtz, is(nullValue()));
+  }
+
+  /**
+   * Tests that a zone can be serialised using its runtime type.
+   */
+  @Test
+  public void testSerialiseZoneRuntimeType()
+  {
+    final Gson gson = new GsonBuilder().registerTypeAdapterFactory(new JodaTypeAdapterFactory()).create();
+
+    assertThat(gson.toJson(DateTimeZone.forID("Europe/London")), is("\"Europe/London\""));
+  }
+
+  /**
+   * Tests that the tree based converters deserialise a {@link JsonNull} to null.
+   */
+  @Test
+  public void testConverterDeserialiseJsonNull()
+  {
+    assertThat(new DateTimeConverter().deserialize(JsonNull.INSTANCE, DateTime.class, null), is(nullValue()));
+    assertThat(new LocalDateConverter().deserialize(JsonNull.INSTANCE, LocalDate.class, null), is(nullValue()));
+  }
+
+  /**
+   * Container for serialising many fields.
+   */
+  private static class Container
+  {
+    @SuppressWarnings("deprecation")
+    private DateMidnight dm;
+    private DateTime dt;
+    private DateTimeZone dtz;
+    private Duration d;
+    private LocalDate ld;
+    private LocalDateTime ldt;
+    private LocalTime lt;
+    private Interval i;
+    private Period p;
+    private Instant in;
+  }
+}
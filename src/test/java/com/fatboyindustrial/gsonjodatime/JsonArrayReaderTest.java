@@ -0,0 +1,159 @@
+/*
+ * GSON Joda Time Serialisers
+ *
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjodatime;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.reflect.TypeToken;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.LocalDate;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests for {@link JsonArrayReader}.
+ */
+public class JsonArrayReaderTest
+{
+  /** The GSON instance with the Joda Time converters registered. */
+  private final Gson gson = Converters.registerAll(new GsonBuilder()).create();
+
+  /**
+   * Tests that every element is read, in order.
+   */
+  @Test
+  public void testRead() throws IOException
+  {
+    final String text =
+      "[{\"name\":\"a\",\"at\":\"2024-01-01T10:15:00.000+10:00\"},\n" +
+      " {\"name\":\"b\",\"at\":\"2024-01-02T10:15:00.000Z\"},\n" +
+      " null]";
+    final JsonArrayReader<Event> reader = new JsonArrayReader<Event>(this.gson, new StringReader(text), Event.class);
+
+    final List<Event> events = new ArrayList<Event>();
+    while (reader.hasNext())
+    {
+      events.add(reader.next());
+    }
+    reader.close();
+
+    assertThat(events.size(), is(3));
+    assertThat(events.get(0).name, is("a"));
+    assertThat(events.get(0).at, is(new DateTime(2024, 1, 1, 10, 15, DateTimeZone.forOffsetHours(10))));
+    assertThat(events.get(1).at, is(new DateTime(2024, 1, 2, 10, 15, DateTimeZone.UTC)));
+    assertThat(events.get(2), is(nullValue()));
+    assertThat(reader.hasNext(), is(false));
+  }
+
+  /**
+   * Tests that an empty array has no elements.
+   */
+  @Test
+  public void testEmpty()
+  {
+    assertThat(new JsonArrayReader<Event>(this.gson, new StringReader(" [ ] "), Event.class).hasNext(), is(false));
+  }
+
+  /**
+   * Tests that elements are read before the rest of the array, so that a later malformed element is only
+   * reported when it is reached.
+   */
+  @Test
+  public void testLazy()
+  {
+    final JsonArrayReader<LocalDate> reader = new JsonArrayReader<LocalDate>(
+      this.gson, new StringReader("[\"2024-02-29\", {"), LocalDate.class);
+
+    assertThat(reader.next(), is(new LocalDate(2024, 2, 29)));
+
+    try
+    {
+      reader.next();
+      throw new AssertionError("expected a JsonSyntaxException");
+    }
+    catch (JsonSyntaxException e)
+    {
+      // expected
+    }
+  }
+
+  /**
+   * Tests reading elements of a generic type.
+   */
+  @Test
+  public void testGenericType()
+  {
+    final JsonArrayReader<List<LocalDate>> reader = new JsonArrayReader<List<LocalDate>>(
+      this.gson,
+      new StringReader("[[\"2024-01-01\"], []]"),
+      new TypeToken<List<LocalDate>>(){}.getType());
+
+    assertThat(reader.next().get(0), is(new LocalDate(2024, 1, 1)));
+    assertThat(reader.next().size(), is(0));
+    assertThat(reader.hasNext(), is(false));
+  }
+
+  /**
+   * Tests that reading past the last element fails.
+   */
+  @Test(expected = NoSuchElementException.class)
+  public void testNextAtEnd()
+  {
+    new JsonArrayReader<Event>(this.gson, new StringReader("[]"), Event.class).next();
+  }
+
+  /**
+   * Tests that an input that isn't an array is reported.
+   */
+  @Test(expected = JsonSyntaxException.class)
+  public void testNotAnArray()
+  {
+    new JsonArrayReader<Event>(this.gson, new StringReader("{}"), Event.class).hasNext();
+  }
+
+  /**
+   * Tests that a truncated array is reported.
+   */
+  @Test(expected = JsonSyntaxException.class)
+  public void testTruncated()
+  {
+    final JsonArrayReader<Event> reader = new JsonArrayReader<Event>(this.gson, new StringReader("[{}"), Event.class);
+
+    reader.next();
+    reader.hasNext();
+  }
+}
@@ -0,0 +1,195 @@
+/*
+ * GSON Joda Time Serialisers
+ *
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjodatime;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.reflect.TypeToken;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.LocalDate;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests for {@link JsonFeedDecoder}.
+ */
+public class JsonFeedDecoderTest
+{
+  /** The GSON instance with the Joda Time converters registered. */
+  private final Gson gson = Converters.registerAll(new GsonBuilder()).create();
+
+  /** Records whose strings hold braces, escaped quotes and multi-byte characters. */
+  private static final String RECORDS =
+    "{\"name\":\"{caf\u00e9 \\\"\u2192\\\" ]}\",\"at\":\"2024-01-01T10:15:00.000+10:00\"}\n" +
+    "{\"name\":\"\ud83d\ude00\",\"at\":\"2024-01-02T10:15:00.000Z\"}\r\n" +
+    "  {\"name\":\"c\"}";
+
+  /**
+   * Tests decoding the records from a single chunk.
+   */
+  @Test
+  public void testSingleChunk()
+  {
+    final JsonFeedDecoder<Event> decoder = new JsonFeedDecoder<Event>(this.gson, Event.class);
+    final List<Event> events = new ArrayList<Event>();
+
+    assertThat(decoder.feed(ByteBuffer.wrap(utf8(RECORDS)), events), is(3));
+    decoder.finish();
+
+    assertEvents(events);
+  }
+
+  /**
+   * Tests that the records are decoded the same however the input is split, including part way through string
+   * escapes and multi-byte characters.
+   */
+  @Test
+  public void testEverySplit()
+  {
+    final byte[] bytes = utf8(RECORDS);
+    for (int split = 1; split < bytes.length; split++)
+    {
+      final JsonFeedDecoder<Event> decoder = new JsonFeedDecoder<Event>(this.gson, Event.class);
+      final List<Event> events = new ArrayList<Event>();
+
+      decoder.feed(ByteBuffer.wrap(bytes, 0, split), events);
+      decoder.feed(ByteBuffer.wrap(bytes, split, bytes.length - split), events);
+      decoder.finish();
+
+      assertEvents(events);
+    }
+  }
+
+  /**
+   * Tests feeding one byte at a time, and that records are emitted as soon as they are complete.
+   */
+  @Test
+  public void testByteAtATime()
+  {
+    final JsonFeedDecoder<Event> decoder = new JsonFeedDecoder<Event>(this.gson, Event.class);
+    final List<Event> events = new ArrayList<Event>();
+    final byte[] bytes = utf8(RECORDS);
+
+    for (int i = 0; i < bytes.length; i++)
+    {
+      final int count = decoder.feed(ByteBuffer.wrap(bytes, i, 1), events);
+      assertThat(count, is(bytes[i] == '}' && !decoder.hasPartialRecord() ? 1 : 0));
+    }
+    decoder.finish();
+
+    assertEvents(events);
+  }
+
+  /**
+   * Tests decoding records that are arrays, and records longer than the initial buffers.
+   */
+  @Test
+  public void testArrayRecords()
+  {
+    final JsonFeedDecoder<List<LocalDate>> decoder =
+      new JsonFeedDecoder<List<LocalDate>>(this.gson, new TypeToken<List<LocalDate>>(){}.getType());
+    final List<List<LocalDate>> records = new ArrayList<List<LocalDate>>();
+    final StringBuilder text = new StringBuilder("[");
+    for (int i = 0; i < 500; i++)
+    {
+      text.append(i == 0 ? "" : ",").append("\"2024-01-01\"");
+    }
+    text.append("]\n[\"2024-02-29\"]\n");
+
+    assertThat(decoder.feed(ByteBuffer.wrap(utf8(text.toString())), records), is(2));
+    assertThat(records.get(0).size(), is(500));
+    assertThat(records.get(0).get(499), is(new LocalDate(2024, 1, 1)));
+    assertThat(records.get(1).get(0), is(new LocalDate(2024, 2, 29)));
+  }
+
+  /**
+   * Tests that input ending part way through a record is reported.
+   */
+  @Test(expected = JsonSyntaxException.class)
+  public void testTruncated()
+  {
+    final JsonFeedDecoder<Event> decoder = new JsonFeedDecoder<Event>(this.gson, Event.class);
+    final List<Event> events = new ArrayList<Event>();
+
+    decoder.feed(ByteBuffer.wrap(utf8("{}\n{\"name\":")), events);
+    assertThat(events.size(), is(1));
+    assertThat(decoder.hasPartialRecord(), is(true));
+    decoder.finish();
+  }
+
+  /**
+   * Tests that a value between records that isn't an object or array is reported.
+   */
+  @Test(expected = JsonSyntaxException.class)
+  public void testScalarRecord()
+  {
+    new JsonFeedDecoder<Event>(this.gson, Event.class).feed(ByteBuffer.wrap(utf8("{}\n42\n")), new ArrayList<Event>());
+  }
+
+  /**
+   * Tests that a record that can't be read as the record type is reported.
+   */
+  @Test(expected = JsonSyntaxException.class)
+  public void testMalformed()
+  {
+    final JsonFeedDecoder<Event> decoder = new JsonFeedDecoder<Event>(this.gson, Event.class);
+
+    decoder.feed(ByteBuffer.wrap(utf8("{\"at\":[]}")), new ArrayList<Event>());
+  }
+
+  /**
+   * Asserts that the events are those of {@link #RECORDS}.
+   * @param events The decoded events.
+   */
+  private static void assertEvents(List<Event> events)
+  {
+    assertThat(events.size(), is(3));
+    assertThat(events.get(0).name, is("{caf\u00e9 \"\u2192\" ]}"));
+    assertThat(events.get(0).at, is(new DateTime(2024, 1, 1, 10, 15, DateTimeZone.forOffsetHours(10))));
+    assertThat(events.get(1).name, is("\ud83d\ude00"));
+    assertThat(events.get(1).at, is(new DateTime(2024, 1, 2, 10, 15, DateTimeZone.UTC)));
+    assertThat(events.get(2).name, is("c"));
+  }
+
+  /**
+   * Encodes text as UTF-8.
+   * @param text The text.
+   * @return The encoded text.
+   */
+  private static byte[] utf8(String text)
+  {
+    return text.getBytes(Charset.forName("UTF-8"));
+  }
+}
@@ -0,0 +1,120 @@
+/*
+ * GSON Joda Time Serialisers
+ *
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjodatime;
+
+import com.google.gson.JsonSyntaxException;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests for {@link JsonFieldScanner}.
+ */
+public class JsonFieldScannerTest
+{
+  /**
+   * Tests finding string, number and null members.
+   */
+  @Test
+  public void testText()
+  {
+    final String json = "{\"a\":\"one\", \"b\" : 42 ,\"c\":null,\"d\":true}";
+
+    assertThat(JsonFieldScanner.text(json, "a"), is("one"));
+    assertThat(JsonFieldScanner.text(json, "b"), is("42"));
+    assertThat(JsonFieldScanner.text(json, "c"), is(nullValue()));
+    assertThat(JsonFieldScanner.text(json, "d"), is("true"));
+    assertThat(JsonFieldScanner.text(json, "e"), is(nullValue()));
+    assertThat(JsonFieldScanner.text("{}", "a"), is(nullValue()));
+  }
+
+  /**
+   * Tests that only the members of the outermost object are found, and that nested values and strings holding
+   * JSON syntax are skipped over.
+   */
+  @Test
+  public void testNested()
+  {
+    final String json =
+      "{\"x\":{\"at\":\"inner\",\"y\":[1,{\"at\":2}]},\"s\":\"\\\"at\\\":\\\"no\\\" }]\",\"at\":\"outer\"}";
+
+    assertThat(JsonFieldScanner.text(json, "at"), is("outer"));
+  }
+
+  /**
+   * Tests escapes in member names and string values.
+   */
+  @Test
+  public void testEscapes()
+  {
+    final String json = "{\"\\u0061t\":\"2024\\u002d01\\/02 \\\"\\\\\\n\"}";
+
+    assertThat(JsonFieldScanner.text(json, "at"), is("2024-01/02 \"\\\n"));
+  }
+
+  /**
+   * Tests the value index, and the end of values.
+   */
+  @Test
+  public void testValueIndex()
+  {
+    final String json = "{\"a\":[1,2], \"b\":-1.5e3}";
+
+    assertThat(JsonFieldScanner.valueIndex(json, "a"), is(5));
+    assertThat(JsonFieldScanner.valueEnd(json, 5), is(10));
+    assertThat(json.substring(JsonFieldScanner.valueIndex(json, "b"), json.length() - 1), is("-1.5e3"));
+    assertThat(JsonFieldScanner.valueIndex(json, "c"), is(-1));
+  }
+
+  /**
+   * Tests that text that isn't an object is reported.
+   */
+  @Test(expected = JsonSyntaxException.class)
+  public void testNotAnObject()
+  {
+    JsonFieldScanner.valueIndex("[{\"at\":1}]", "at");
+  }
+
+  /**
+   * Tests that a truncated object is reported.
+   */
+  @Test(expected = JsonSyntaxException.class)
+  public void testTruncated()
+  {
+    JsonFieldScanner.valueIndex("{\"a\":\"unterminated, \"at\":1}", "at");
+  }
+
+  /**
+   * Tests that a value that isn't a primitive is reported.
+   */
+  @Test(expected = JsonSyntaxException.class)
+  public void testNotPrimitive()
+  {
+    JsonFieldScanner.text("{\"at\":{}}", "at");
+  }
+}
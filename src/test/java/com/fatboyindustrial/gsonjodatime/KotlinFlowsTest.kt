@@ -0,0 +1,109 @@
+/*
+ * GSON Joda Time Serialisers
+ *
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjodatime
+
+import com.google.gson.GsonBuilder
+import com.google.gson.JsonSyntaxException
+import kotlinx.coroutines.asCoroutineDispatcher
+import kotlinx.coroutines.flow.collect
+import kotlinx.coroutines.flow.take
+import kotlinx.coroutines.flow.toList
+import kotlinx.coroutines.runBlocking
+import org.hamcrest.Matchers.`is`
+import org.joda.time.LocalDate
+import org.junit.Assert.assertThat
+import org.junit.Test
+import java.io.Reader
+import java.io.StringReader
+import java.util.concurrent.Executors
+
+class KotlinFlowsTest {
+    private val gson = GsonBuilder().registerAllJodaConverters().create()
+
+    /**
+     * Tests that the [jsonRecordFlow] kotlin extension method reads the records in the given context, and closes
+     * the input when done.
+     */
+    @Test
+    fun testFlow() {
+        val reader = ClosingReader("[\"2024-01-01\", \"2024-02-29\"]")
+        val context = Executors.newSingleThreadExecutor { Thread(it, "reader") }.asCoroutineDispatcher()
+
+        val dates = runBlocking {
+            reader.jsonRecordFlow<LocalDate>(gson, RecordFormat.JSON_ARRAY, context).toList()
+        }
+        context.close()
+
+        assertThat(dates, `is`(listOf(LocalDate(2024, 1, 1), LocalDate(2024, 2, 29))))
+        assertThat(reader.readOn.all { it.startsWith("reader") }, `is`(true))
+        assertThat(reader.closed, `is`(true))
+    }
+
+    /**
+     * Tests that cancelling part way through the input closes it.
+     */
+    @Test
+    fun testCancel() {
+        val text = (0 until 1000).joinToString("\n") { "\"${LocalDate(2024, 1, 1).plusDays(it)}\"" }
+        val reader = ClosingReader(text)
+
+        val dates = runBlocking {
+            reader.jsonRecordFlow<LocalDate>(gson).take(3).toList()
+        }
+
+        assertThat(dates.last(), `is`(LocalDate(2024, 1, 3)))
+        assertThat(reader.closed, `is`(true))
+    }
+
+    /**
+     * Tests that a malformed record fails the flow.
+     */
+    @Test(expected = JsonSyntaxException::class)
+    fun testMalformed() {
+        runBlocking {
+            "\"2024-01-01\"\n{".byteInputStream().jsonRecordFlow<LocalDate>(gson).collect { }
+        }
+    }
+
+    /**
+     * A reader that records the threads it is read on, and whether it was closed.
+     */
+    private class ClosingReader(text: String) : Reader() {
+        private val input = StringReader(text)
+        val readOn = mutableListOf<String>()
+        @Volatile var closed = false
+
+        override fun read(cbuf: CharArray, off: Int, len: Int): Int {
+            synchronized(readOn) { readOn.add(Thread.currentThread().name) }
+            return input.read(cbuf, off, len)
+        }
+
+        override fun close() {
+            closed = true
+            input.close()
+        }
+    }
+}
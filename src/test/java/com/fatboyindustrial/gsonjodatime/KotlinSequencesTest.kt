@@ -0,0 +1,75 @@
+/*
+ * GSON Joda Time Serialisers
+ *
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjodatime
+
+import com.google.gson.GsonBuilder
+import org.hamcrest.Matchers.`is`
+import org.joda.time.DateTime
+import org.joda.time.DateTimeZone
+import org.joda.time.LocalDate
+import org.junit.Assert.assertThat
+import org.junit.Test
+import java.io.StringReader
+
+class KotlinSequencesTest {
+    private val gson = GsonBuilder().registerAllJodaConverters().create()
+
+    /**
+     * Tests that the [jsonRecords] kotlin extension method reads NDJSON records with the Joda Time converters.
+     */
+    @Test
+    fun testNdjson() {
+        val text = "{\"name\":\"a\",\"at\":\"2024-01-01T10:15:00.000+10:00\"}\n{\"name\":\"b\"}\n"
+        val events = StringReader(text).jsonRecords<Event>(gson).toList()
+
+        assertThat(events.size, `is`(2))
+        assertThat(events[0].at, `is`(DateTime(2024, 1, 1, 10, 15, DateTimeZone.forOffsetHours(10))))
+        assertThat(events[1].name, `is`("b"))
+    }
+
+    /**
+     * Tests that the [jsonRecords] kotlin extension method reads the elements of a JSON array lazily, and of a
+     * generic type.
+     */
+    @Test
+    fun testJsonArray() {
+        val text = "[[\"2024-01-01\"], [\"2024-02-29\", \"2024-03-01\"], {"
+        val dates = text.byteInputStream().jsonRecords<MutableList<LocalDate>>(gson, RecordFormat.JSON_ARRAY)
+
+        assertThat(dates.take(2).last(), `is`(listOf(LocalDate(2024, 2, 29), LocalDate(2024, 3, 1))))
+    }
+
+    /**
+     * Tests that the sequence can only be iterated once.
+     */
+    @Test(expected = IllegalStateException::class)
+    fun testOnce() {
+        val dates = StringReader("\"2024-01-01\"").jsonRecords<LocalDate>(gson)
+
+        dates.toList()
+        dates.toList()
+    }
+}
@@ -72,4 +72,22 @@ public class LocalDateConverterTest
 
     assertThat(gson.fromJson((String) null, LocalDate.class), is(nullValue()));
   }
+
+  /**
+   * Tests that the default ISO converter rejects the basic format, as the extended formatter does.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testRejectsBasicFormat()
+  {
+    new LocalDateConverter().parse("20240229");
+  }
+
+  /**
+   * Tests that the basic format is accepted when the basic formatters are registered.
+   */
+  @Test
+  public void testParsesBasicFormat()
+  {
+    assertThat(new LocalDateConverter(FormatterRegistry.isoBasic()).parse("20240229"), is(new LocalDate(2024, 2, 29)));
+  }
 }
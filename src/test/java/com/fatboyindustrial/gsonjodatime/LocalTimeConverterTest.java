@@ -81,4 +81,22 @@ public class LocalTimeConverterTest
 
     assertThat(gson.fromJson((String) null, LocalTime.class), is(nullValue()));
   }
+
+  /**
+   * Tests that the default ISO converter rejects the basic format, as the extended formatter does.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testRejectsBasicFormat()
+  {
+    new LocalTimeConverter().parse("134530");
+  }
+
+  /**
+   * Tests that the basic format is accepted when the basic formatters are registered.
+   */
+  @Test
+  public void testParsesBasicFormat()
+  {
+    assertThat(new LocalTimeConverter(FormatterRegistry.isoBasic()).parse("134530"), is(new LocalTime(13, 45, 30)));
+  }
 }
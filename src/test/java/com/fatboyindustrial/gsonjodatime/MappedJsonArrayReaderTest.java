@@ -0,0 +1,228 @@
+/*
+ * GSON Joda Time Serialisers
+ *
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjodatime;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.reflect.TypeToken;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests for {@link MappedJsonArrayReader}.
+ */
+public class MappedJsonArrayReaderTest
+{
+  /** The temporary files. */
+  @Rule
+  public final TemporaryFolder folder = new TemporaryFolder();
+
+  /** The GSON instance with the Joda Time converters registered. */
+  private final Gson gson = Converters.registerAll(new GsonBuilder()).create();
+
+  /** The executor to decode on. */
+  private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+  /**
+   * Stops the executor.
+   */
+  @After
+  public void tearDown()
+  {
+    this.executor.shutdownNow();
+  }
+
+  /**
+   * Tests that the elements are returned in order, whatever the sizes of the shards and of the scanning windows,
+   * including elements whose strings hold brackets, commas, escaped quotes and multi-byte characters.
+   */
+  @Test
+  public void testInputOrder() throws IOException
+  {
+    // Few enough events that the smallest windows don't map more regions than the OS allows at a time
+    final List<Event> events = Event.events(300);
+    final File file = write(this.gson.toJson(events));
+
+    for (final int shardSize : new int[] { 1, 50, 4096, 1 << 20 })
+    {
+      for (final int windowSize : new int[] { 7, 1000, 1 << 26 })
+      {
+        final List<Event> read = readAll(file, RecordOrder.INPUT, shardSize, windowSize);
+
+        assertThat(read.size(), is(events.size()));
+        for (int i = 0; i < read.size(); i++)
+        {
+          assertThat(read.get(i).sequence, is(i));
+          assertThat(read.get(i).name, is(events.get(i).name));
+          assertThat(read.get(i).at, is(events.get(i).at));
+        }
+      }
+    }
+  }
+
+  /**
+   * Tests that every element is returned in completion order.
+   */
+  @Test
+  public void testCompletionOrder() throws IOException
+  {
+    final List<Event> read = readAll(write(this.gson.toJson(Event.events(1000))), RecordOrder.COMPLETION, 300, 1 << 26);
+
+    final List<Integer> sequences = new ArrayList<Integer>();
+    for (final Event event : read)
+    {
+      sequences.add(event.sequence);
+    }
+    Collections.sort(sequences);
+
+    assertThat(sequences.size(), is(1000));
+    assertThat(sequences.get(999), is(999));
+  }
+
+  /**
+   * Tests arrays with surrounding whitespace, a byte order mark, nested arrays and no elements.
+   */
+  @Test
+  public void testLayout() throws IOException
+  {
+    final File nested = write("\ufeff \n[ [\"2024-01-01T00:00:00.000Z\"] ,\n[], [\"2024-01-02T00:00:00.000Z\"] ]\n");
+    final MappedJsonArrayReader<List<DateTime>> reader = new MappedJsonArrayReader<List<DateTime>>(
+      this.gson, nested, new TypeToken<List<DateTime>>(){}.getType(), this.executor, RecordOrder.INPUT, 1, 4);
+
+    assertThat(reader.next().get(0), is(new DateTime(2024, 1, 1, 0, 0, DateTimeZone.UTC)));
+    assertThat(reader.next().size(), is(0));
+    assertThat(reader.next().get(0), is(new DateTime(2024, 1, 2, 0, 0, DateTimeZone.UTC)));
+    assertThat(reader.hasNext(), is(false));
+    reader.close();
+
+    assertThat(readAll(write(" [ ] "), RecordOrder.INPUT, 16, 1 << 26).size(), is(0));
+  }
+
+  /**
+   * Tests that a file that isn't an array is reported.
+   */
+  @Test(expected = JsonSyntaxException.class)
+  public void testNotAnArray() throws IOException
+  {
+    readAll(write("{\"sequence\":1}"), RecordOrder.INPUT, 16, 1 << 26);
+  }
+
+  /**
+   * Tests that a truncated array is reported.
+   */
+  @Test(expected = JsonSyntaxException.class)
+  public void testTruncated() throws IOException
+  {
+    readAll(write("[{\"sequence\":1},{\"sequence\":"), RecordOrder.INPUT, 1, 1 << 26);
+  }
+
+  /**
+   * Tests that content after the array is reported.
+   */
+  @Test(expected = JsonSyntaxException.class)
+  public void testTrailing() throws IOException
+  {
+    readAll(write("[{\"sequence\":1}] []"), RecordOrder.INPUT, 16, 1 << 26);
+  }
+
+  /**
+   * Tests that a malformed element is reported.
+   */
+  @Test(expected = JsonSyntaxException.class)
+  public void testMalformed() throws IOException
+  {
+    readAll(write("[{\"sequence\":1},,{\"sequence\":2}]"), RecordOrder.INPUT, 1, 1 << 26);
+  }
+
+  /**
+   * Reads every element of a file.
+   * @param file The file.
+   * @param order The order to read the elements in.
+   * @param shardSize The number of bytes in each shard.
+   * @param windowSize The number of bytes to map at a time.
+   * @return The elements.
+   */
+  private List<Event> readAll(File file, RecordOrder order, int shardSize, int windowSize) throws IOException
+  {
+    final MappedJsonArrayReader<Event> reader = new MappedJsonArrayReader<Event>(
+      this.gson, file, TypeToken.get(Event.class), this.executor, order, shardSize, 3, windowSize);
+
+    final List<Event> events = new ArrayList<Event>();
+    try
+    {
+      while (reader.hasNext())
+      {
+        events.add(reader.next());
+      }
+    }
+    finally
+    {
+      reader.close();
+    }
+
+    return events;
+  }
+
+  /**
+   * Writes a file.
+   * @param text The content of the file.
+   * @return The file.
+   */
+  private File write(String text) throws IOException
+  {
+    final File file = this.folder.newFile();
+    final OutputStream out = new FileOutputStream(file);
+    try
+    {
+      out.write(text.getBytes("UTF-8"));
+    }
+    finally
+    {
+      out.close();
+    }
+
+    return file;
+  }
+
+}
@@ -0,0 +1,144 @@
+/*
+ * GSON Joda Time Serialisers
+ *
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjodatime;
+
+import com.google.gson.JsonSyntaxException;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests for {@link NdjsonMerger}.
+ */
+public class NdjsonMergerTest
+{
+  /**
+   * Tests merging inputs whose timestamps have different offsets, keeping the lines unchanged.
+   */
+  @Test
+  public void testMerge() throws IOException
+  {
+    final List<Reader> inputs = Arrays.<Reader>asList(
+      new StringReader(
+        "{\"host\":\"a\",  \"at\":\"2024-01-01T10:00:00.000+10:00\"}\n" +
+        "{\"host\":\"a\",\"at\":\"2024-01-01T00:30:00.000Z\", \"extra\":{\"at\":\"1999-01-01T00:00:00Z\"}}\n"),
+      new StringReader(
+        "{\"at\":\"2023-12-31T23:59:59.999Z\",\"host\":\"b\"}\n" +
+        "\n" +
+        "{\"at\":\"2024-01-01T01:00:00.000+01:00\",\"host\":\"b\"}\n"),
+      new StringReader(""),
+      new StringReader("{\"host\":\"c\",\"at\":\"2024-01-01T00:15:00Z\"}"));
+    final StringWriter out = new StringWriter();
+
+    final long written = new NdjsonMerger("at").merge(inputs, out);
+
+    assertThat(written, is(5L));
+    assertThat(out.toString(),
+      is("{\"at\":\"2023-12-31T23:59:59.999Z\",\"host\":\"b\"}\n" +
+         "{\"host\":\"a\",  \"at\":\"2024-01-01T10:00:00.000+10:00\"}\n" +
+         "{\"at\":\"2024-01-01T01:00:00.000+01:00\",\"host\":\"b\"}\n" +
+         "{\"host\":\"c\",\"at\":\"2024-01-01T00:15:00Z\"}\n" +
+         "{\"host\":\"a\",\"at\":\"2024-01-01T00:30:00.000Z\", \"extra\":{\"at\":\"1999-01-01T00:00:00Z\"}}\n"));
+  }
+
+  /**
+   * Tests merging numeric epoch timestamps, and that equal timestamps keep the order of the inputs.
+   */
+  @Test
+  public void testNumericAndStable() throws IOException
+  {
+    final List<Reader> inputs = Arrays.<Reader>asList(
+      new StringReader("{\"t\":100,\"n\":\"a1\"}\n{\"t\":200,\"n\":\"a2\"}\n"),
+      new StringReader("{\"t\":100,\"n\":\"b1\"}\n{\"t\":150,\"n\":\"b2\"}\n"));
+    final StringWriter out = new StringWriter();
+
+    new NdjsonMerger("t").merge(inputs, out);
+
+    assertThat(out.toString(),
+      is("{\"t\":100,\"n\":\"a1\"}\n{\"t\":100,\"n\":\"b1\"}\n{\"t\":150,\"n\":\"b2\"}\n{\"t\":200,\"n\":\"a2\"}\n"));
+  }
+
+  /**
+   * Tests merging many inputs.
+   */
+  @Test
+  public void testManyInputs() throws IOException
+  {
+    final List<Reader> inputs = new ArrayList<Reader>();
+    final List<Long> expected = new ArrayList<Long>();
+    for (int i = 0; i < 50; i++)
+    {
+      final StringBuilder text = new StringBuilder();
+      for (long t = i; t < 5000; t += 7 + i)
+      {
+        text.append("{\"t\":").append(t).append("}\n");
+        expected.add(t);
+      }
+      inputs.add(new StringReader(text.toString()));
+    }
+    Collections.sort(expected);
+    final StringWriter out = new StringWriter();
+
+    new NdjsonMerger("t").merge(inputs, out);
+
+    final String[] lines = out.toString().split("\n");
+    assertThat(lines.length, is(expected.size()));
+    for (int i = 0; i < lines.length; i++)
+    {
+      assertThat(lines[i], is("{\"t\":" + expected.get(i) + "}"));
+    }
+  }
+
+  /**
+   * Tests that a record without the timestamp field is reported.
+   */
+  @Test(expected = JsonSyntaxException.class)
+  public void testMissingField() throws IOException
+  {
+    new NdjsonMerger("at").merge(
+      Arrays.<Reader>asList(new StringReader("{\"other\":\"2024-01-01T00:00:00Z\"}\n")), new StringWriter());
+  }
+
+  /**
+   * Tests that a timestamp that can't be parsed is reported.
+   */
+  @Test(expected = JsonSyntaxException.class)
+  public void testMalformedTimestamp() throws IOException
+  {
+    new NdjsonMerger("at").merge(
+      Arrays.<Reader>asList(new StringReader("{\"at\":\"yesterday\"}\n")), new StringWriter());
+  }
+}
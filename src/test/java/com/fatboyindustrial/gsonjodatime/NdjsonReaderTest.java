@@ -0,0 +1,140 @@
+/*
+ * GSON Joda Time Serialisers
+ *
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjodatime;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.reflect.TypeToken;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests for {@link NdjsonReader}.
+ */
+public class NdjsonReaderTest
+{
+  /** The GSON instance with the Joda Time converters registered. */
+  private final Gson gson = Converters.registerAll(new GsonBuilder()).create();
+
+  /**
+   * Tests that every record is read, in order.
+   */
+  @Test
+  public void testRead() throws IOException
+  {
+    final String text =
+      "{\"name\":\"a\",\"at\":\"2024-01-01T10:15:00.000+10:00\"," +
+      "\"window\":\"2024-01-01T00:00:00.000Z/2024-01-02T00:00:00.000Z\"}\n" +
+      "{\"name\":\"b\",\"at\":\"2024-01-02T10:15:00.000Z\"}\n" +
+      "null\n";
+    final NdjsonReader<Event> reader = new NdjsonReader<Event>(this.gson, new StringReader(text), Event.class);
+
+    final List<Event> events = new ArrayList<Event>();
+    while (reader.hasNext())
+    {
+      events.add(reader.next());
+    }
+    reader.close();
+
+    assertThat(events.size(), is(3));
+    assertThat(events.get(0).name, is("a"));
+    assertThat(events.get(0).at, is(new DateTime(2024, 1, 1, 10, 15, DateTimeZone.forOffsetHours(10))));
+    assertThat(events.get(0).window.toDurationMillis(), is(86400000L));
+    assertThat(events.get(1).at, is(new DateTime(2024, 1, 2, 10, 15, DateTimeZone.UTC)));
+    assertThat(events.get(1).window, is(nullValue()));
+    assertThat(events.get(2), is(nullValue()));
+  }
+
+  /**
+   * Tests that an input without records, or with only whitespace, has no records.
+   */
+  @Test
+  public void testEmpty()
+  {
+    assertThat(new NdjsonReader<Event>(this.gson, new StringReader(""), Event.class).hasNext(), is(false));
+    assertThat(new NdjsonReader<Event>(this.gson, new StringReader("\n \n"), Event.class).hasNext(), is(false));
+  }
+
+  /**
+   * Tests reading records of a generic type.
+   */
+  @Test
+  public void testGenericType()
+  {
+    final NdjsonReader<Map<String, DateTime>> reader = new NdjsonReader<Map<String, DateTime>>(
+      this.gson,
+      new StringReader("{\"at\":\"2024-01-01T00:00:00.000Z\"}\n{\"at\":\"2024-01-02T00:00:00.000Z\"}"),
+      new TypeToken<Map<String, DateTime>>(){}.getType());
+
+    assertThat(reader.next().get("at"), is(new DateTime(2024, 1, 1, 0, 0, DateTimeZone.UTC)));
+    assertThat(reader.next().get("at"), is(new DateTime(2024, 1, 2, 0, 0, DateTimeZone.UTC)));
+    assertThat(reader.hasNext(), is(false));
+  }
+
+  /**
+   * Tests that reading past the last record fails.
+   */
+  @Test(expected = NoSuchElementException.class)
+  public void testNextAtEnd()
+  {
+    new NdjsonReader<Event>(this.gson, new StringReader(""), Event.class).next();
+  }
+
+  /**
+   * Tests that a truncated record is reported.
+   */
+  @Test(expected = JsonSyntaxException.class)
+  public void testTruncated()
+  {
+    new NdjsonReader<Event>(this.gson, new StringReader("{\"name\":"), Event.class).next();
+  }
+
+  /**
+   * Tests that a malformed record is reported.
+   */
+  @Test(expected = JsonSyntaxException.class)
+  public void testMalformed()
+  {
+    final NdjsonReader<Event> reader =
+      new NdjsonReader<Event>(this.gson, new StringReader("{}\n{\"at\":[}"), Event.class);
+
+    reader.next();
+    reader.next();
+  }
+}
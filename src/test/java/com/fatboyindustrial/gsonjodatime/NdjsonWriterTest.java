@@ -0,0 +1,112 @@
+/*
+ * GSON Joda Time Serialisers
+ *
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjodatime;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.Interval;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests for {@link NdjsonWriter}.
+ */
+public class NdjsonWriterTest
+{
+  /**
+   * Tests that each record is written on its own line.
+   */
+  @Test
+  public void testWrite() throws IOException
+  {
+    final Gson gson = Converters.registerAll(new GsonBuilder()).setPrettyPrinting().create();
+    final StringWriter text = new StringWriter();
+    final NdjsonWriter<Event> writer = new NdjsonWriter<Event>(gson, text, Event.class);
+
+    writer.write(new Event("a", new DateTime(2024, 1, 1, 10, 15, DateTimeZone.UTC), null));
+    writer.write(null);
+    writer.write(new Event("b", null, new Interval(0L, 1000L, DateTimeZone.UTC)));
+    writer.close();
+
+    assertThat(text.toString(), is(
+      "{\"name\":\"a\",\"at\":\"2024-01-01T10:15:00.000Z\"}\n" +
+      "null\n" +
+      "{\"name\":\"b\",\"window\":\"1970-01-01T00:00:00.000Z/1970-01-01T00:00:01.000Z\"}\n"));
+  }
+
+  /**
+   * Tests that the GSON instance's null serialisation and HTML escaping settings are applied to the records.
+   */
+  @Test
+  public void testGsonSettings() throws IOException
+  {
+    final Gson gson = Converters.registerAll(new GsonBuilder()).serializeNulls().create();
+    final StringWriter text = new StringWriter();
+    final NdjsonWriter<Event> writer = new NdjsonWriter<Event>(gson, text, Event.class);
+    final Event event = new Event("<a>", null, null);
+
+    writer.write(event);
+    writer.close();
+
+    assertThat(text.toString(),
+               is("{\"sequence\":null,\"name\":\"\\u003ca\\u003e\",\"at\":null,\"window\":null,\"days\":null}\n"));
+    assertThat(text.toString(), is(gson.toJson(event) + "\n"));
+  }
+
+  /**
+   * Tests that written records read back the same.
+   */
+  @Test
+  public void testRoundtrip() throws IOException
+  {
+    final Gson gson = Converters.registerAll(new GsonBuilder()).create();
+    final StringWriter text = new StringWriter();
+    final NdjsonWriter<Event> writer = new NdjsonWriter<Event>(gson, text, Event.class);
+
+    for (int i = 0; i < 1000; i++)
+    {
+      writer.write(new Event(Integer.toString(i), new DateTime(i * 3600000L, DateTimeZone.UTC), null));
+    }
+    writer.flush();
+
+    final NdjsonReader<Event> reader = new NdjsonReader<Event>(gson, new StringReader(text.toString()), Event.class);
+    for (int i = 0; i < 1000; i++)
+    {
+      final Event event = reader.next();
+      assertThat(event.name, is(Integer.toString(i)));
+      assertThat(event.at, is(new DateTime(i * 3600000L, DateTimeZone.UTC)));
+    }
+    assertThat(reader.hasNext(), is(false));
+  }
+}
@@ -0,0 +1,226 @@
+/*
+ * GSON Joda Time Serialisers
+ *
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjodatime;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonSyntaxException;
+import org.joda.time.LocalDate;
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests for {@link ParallelNdjsonReader}.
+ */
+public class ParallelNdjsonReaderTest
+{
+  /** The GSON instance with the Joda Time converters registered. */
+  private final Gson gson = Converters.registerAll(new GsonBuilder()).create();
+
+  /** The executor to decode on. */
+  private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+  /**
+   * Stops the executor.
+   */
+  @After
+  public void tearDown()
+  {
+    this.executor.shutdownNow();
+  }
+
+  /**
+   * Tests that records are returned in the order of the input, whatever the size of the batches.
+   */
+  @Test
+  public void testInputOrder() throws IOException
+  {
+    final List<Event> written = Event.events(2000);
+    final String text = ndjson(written);
+
+    for (final int batchSize : new int[] { 8, 100, 4096, 1 << 20 })
+    {
+      final List<Event> events = readAll(text, RecordOrder.INPUT, batchSize);
+
+      assertThat(events.size(), is(2000));
+      for (int i = 0; i < events.size(); i++)
+      {
+        assertThat(events.get(i).sequence, is(i));
+        assertThat(events.get(i).at, is(written.get(i).at));
+      }
+    }
+  }
+
+  /**
+   * Tests that every record is returned in completion order.
+   */
+  @Test
+  public void testCompletionOrder() throws IOException
+  {
+    final List<Event> events = readAll(ndjson(Event.events(2000)), RecordOrder.COMPLETION, 256);
+
+    final List<Integer> sequences = new ArrayList<Integer>();
+    for (final Event event : events)
+    {
+      sequences.add(event.sequence);
+    }
+    Collections.sort(sequences);
+
+    assertThat(sequences.size(), is(2000));
+    for (int i = 0; i < sequences.size(); i++)
+    {
+      assertThat(sequences.get(i), is(i));
+    }
+  }
+
+  /**
+   * Tests blank lines, a missing final newline and null records.
+   */
+  @Test
+  public void testLayout() throws IOException
+  {
+    final List<Event> events =
+      readAll("\n{\"sequence\":1}\r\n\n  \nnull\n{\"sequence\":2}", RecordOrder.INPUT, 16);
+
+    assertThat(events.size(), is(3));
+    assertThat(events.get(0).sequence, is(1));
+    assertThat(events.get(1), is(nullValue()));
+    assertThat(events.get(2).sequence, is(2));
+  }
+
+  /**
+   * Tests that an empty input has no records.
+   */
+  @Test
+  public void testEmpty() throws IOException
+  {
+    assertThat(readAll("", RecordOrder.INPUT, 16).size(), is(0));
+  }
+
+  /**
+   * Tests that a malformed record is reported.
+   */
+  @Test(expected = JsonSyntaxException.class)
+  public void testMalformed() throws IOException
+  {
+    readAll(ndjson(Event.events(100)) + "{\"at\":[}\n" + ndjson(Event.events(100)), RecordOrder.INPUT, 64);
+  }
+
+  /**
+   * Tests that a failed batch is reported once, in completion order, and that reading carries on after it.
+   */
+  @Test(timeout = 10000)
+  public void testFailureInCompletionOrder() throws IOException
+  {
+    final ParallelNdjsonReader<LocalDate> reader = new ParallelNdjsonReader<LocalDate>(
+      this.gson, new StringReader("\"2024-01-01\"\n\"bogus\"\n"), LocalDate.class, this.executor,
+      RecordOrder.COMPLETION, 1, 3);
+
+    final List<LocalDate> dates = new ArrayList<LocalDate>();
+    int failures = 0;
+    try
+    {
+      while (true)
+      {
+        try
+        {
+          if (!reader.hasNext())
+          {
+            break;
+          }
+          dates.add(reader.next());
+        }
+        catch (IllegalArgumentException e)
+        {
+          failures++;
+        }
+      }
+    }
+    finally
+    {
+      reader.close();
+    }
+
+    assertThat(failures, is(1));
+    assertThat(dates, is(Collections.singletonList(new LocalDate(2024, 1, 1))));
+  }
+
+  /**
+   * Reads every record.
+   * @param text The NDJSON text.
+   * @param order The order to read the records in.
+   * @param batchSize The number of characters in each batch.
+   * @return The records.
+   */
+  private List<Event> readAll(String text, RecordOrder order, int batchSize) throws IOException
+  {
+    final ParallelNdjsonReader<Event> reader = new ParallelNdjsonReader<Event>(
+      this.gson, new StringReader(text), Event.class, this.executor, order, batchSize, 3);
+
+    final List<Event> events = new ArrayList<Event>();
+    try
+    {
+      while (reader.hasNext())
+      {
+        events.add(reader.next());
+      }
+    }
+    finally
+    {
+      reader.close();
+    }
+
+    return events;
+  }
+
+  /**
+   * Writes events as NDJSON.
+   * @param events The events.
+   * @return The NDJSON text.
+   */
+  private String ndjson(List<Event> events)
+  {
+    final StringBuilder text = new StringBuilder();
+    for (final Event event : events)
+    {
+      text.append(this.gson.toJson(event)).append('\n');
+    }
+
+    return text.toString();
+  }
+}
@@ -0,0 +1,167 @@
+/*
+ * GSON Joda Time Serialisers
+ *
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjodatime;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests for {@link ParallelRecordWriter}.
+ */
+public class ParallelRecordWriterTest
+{
+  /** The GSON instance with the Joda Time converters registered. */
+  private final Gson gson = Converters.registerAll(new GsonBuilder()).create();
+
+  /** The executor to format on. */
+  private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+  /**
+   * Stops the executor.
+   */
+  @After
+  public void tearDown()
+  {
+    this.executor.shutdownNow();
+  }
+
+  /**
+   * Tests that a JSON array is identical to the one GSON writes for the whole list, however it is split up.
+   */
+  @Test
+  public void testJsonArray() throws IOException
+  {
+    final List<Event> events = events(1000);
+    final String expected = this.gson.toJson(events);
+
+    for (final int chunkSize : new int[] { 1, 7, 100, 1000, 5000 })
+    {
+      for (final int maxInFlight : new int[] { 1, 3, 16 })
+      {
+        final StringWriter out = new StringWriter();
+        new ParallelRecordWriter<Event>(
+          this.gson, Event.class, RecordFormat.JSON_ARRAY, this.executor, chunkSize, maxInFlight).write(events, out);
+
+        assertThat(out.toString(), is(expected));
+      }
+    }
+  }
+
+  /**
+   * Tests that an empty list is written.
+   */
+  @Test
+  public void testEmpty() throws IOException
+  {
+    final StringWriter array = new StringWriter();
+    final StringWriter ndjson = new StringWriter();
+
+    new ParallelRecordWriter<Event>(this.gson, Event.class, RecordFormat.JSON_ARRAY, this.executor, 10, 2)
+      .write(new ArrayList<Event>(), array);
+    new ParallelRecordWriter<Event>(this.gson, Event.class, RecordFormat.NDJSON, this.executor, 10, 2)
+      .write(new ArrayList<Event>(), ndjson);
+
+    assertThat(array.toString(), is("[]"));
+    assertThat(ndjson.toString(), is(""));
+  }
+
+  /**
+   * Tests that NDJSON is identical to GSON's output for each record in turn.
+   */
+  @Test
+  public void testNdjson() throws IOException
+  {
+    final List<Event> events = events(500);
+    final StringBuilder expected = new StringBuilder();
+    for (final Event event : events)
+    {
+      expected.append(this.gson.toJson(event, Event.class)).append('\n');
+    }
+
+    final StringWriter out = new StringWriter();
+    new ParallelRecordWriter<Event>(this.gson, Event.class, RecordFormat.NDJSON, this.executor, 33, 4)
+      .write(events, out);
+
+    assertThat(out.toString(), is(expected.toString()));
+  }
+
+  /**
+   * Tests that a failure to format a record is reported to the caller.
+   */
+  @Test(expected = JsonParseException.class)
+  public void testFailure() throws IOException
+  {
+    final Gson failing = new GsonBuilder().registerTypeAdapter(Event.class, new TypeAdapter<Event>()
+    {
+      @Override
+      public void write(JsonWriter out, Event value)
+      {
+        throw new JsonParseException("cannot write");
+      }
+
+      @Override
+      public Event read(JsonReader in)
+      {
+        throw new UnsupportedOperationException();
+      }
+    }).create();
+
+    new ParallelRecordWriter<Event>(failing, Event.class, RecordFormat.NDJSON, this.executor, 10, 2)
+      .write(events(100), new StringWriter());
+  }
+
+  /**
+   * Creates events, every 97th of which is {@code null}.
+   * @param count The number of events.
+   * @return The events.
+   */
+  private static List<Event> events(int count)
+  {
+    final List<Event> events = Event.events(count);
+    for (int i = 0; i < count; i += 97)
+    {
+      events.set(i, null);
+    }
+
+    return events;
+  }
+}
@@ -0,0 +1,163 @@
+/*
+ * GSON Joda Time Serialisers
+ *
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjodatime;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.LocalDate;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests for {@link ParseCache}.
+ */
+public class ParseCacheTest
+{
+  /**
+   * Tests that repeated values are served from the cache and counted.
+   */
+  @Test
+  public void testHitsAndMisses()
+  {
+    final ParseCache<DateTime> cache = new ParseCache<DateTime>(64);
+    final Gson gson = Converters.registerDateTime(new GsonBuilder(), cache).create();
+
+    final DateTime first = gson.fromJson("\"2019-07-07T10:15:30.000+10:00\"", DateTime.class);
+    final DateTime second = gson.fromJson("\"2019-07-07T10:15:30.000+10:00\"", DateTime.class);
+
+    assertThat(second, is(sameInstance(first)));
+    assertThat(cache.missCount(), is(1L));
+    assertThat(cache.hitCount(), is(1L));
+    assertThat(cache.evictionCount(), is(0L));
+  }
+
+  /**
+   * Tests that the cache never holds more than its maximum size, and counts evictions.
+   */
+  @Test
+  public void testBounded()
+  {
+    final ParseCache<LocalDate> cache = new ParseCache<LocalDate>(100);
+    final LocalDateConverter converter = new LocalDateConverter();
+    final CachingConverter<LocalDate> caching = new CachingConverter<LocalDate>(converter, cache);
+    LocalDate date = new LocalDate(2019, 1, 1);
+
+    for (int i = 0; i < 1000; i++)
+    {
+      assertThat(caching.parse(converter.print(date)), is(date));
+      date = date.plusDays(1);
+    }
+
+    assertThat(cache.maximumSize(), is(64));
+    assertThat(cache.missCount(), is(1000L));
+    assertThat(cache.evictionCount(), is(lessThanOrEqualTo(1000L - 1L)));
+    assertThat(cache.evictionCount() + cache.maximumSize() >= 1000L, is(true));
+  }
+
+  /**
+   * Tests that a miss leaves nothing behind.
+   */
+  @Test
+  public void testGetMiss()
+  {
+    final ParseCache<LocalDate> cache = new ParseCache<LocalDate>(8);
+
+    assertThat(cache.get("2019-07-07"), is(nullValue()));
+    assertThat(cache.missCount(), is(1L));
+  }
+
+  /**
+   * Tests that many threads sharing a cache always see correctly parsed values.
+   * @throws Exception if a thread fails.
+   */
+  @Test
+  public void testConcurrentAccess() throws Exception
+  {
+    final ParseCache<DateTime> cache = new ParseCache<DateTime>(16);
+    final DateTimeConverter converter = new DateTimeConverter();
+    final CachingConverter<DateTime> caching = new CachingConverter<DateTime>(converter, cache);
+    final ExecutorService executor = Executors.newFixedThreadPool(32);
+
+    try
+    {
+      final List<Future<Boolean>> results = new ArrayList<Future<Boolean>>();
+      for (int t = 0; t < 32; t++)
+      {
+        final int seed = t;
+        results.add(executor.submit(new Callable<Boolean>()
+        {
+          @Override
+          public Boolean call()
+          {
+            for (int i = 0; i < 10000; i++)
+            {
+              final DateTime expected = new DateTime(2019, 7, 7, 10, (seed + i) % 60, DateTimeZone.UTC);
+              if (!caching.parse(converter.print(expected)).equals(expected))
+              {
+                return false;
+              }
+            }
+            return true;
+          }
+        }));
+      }
+
+      for (final Future<Boolean> result : results)
+      {
+        assertThat(result.get(), is(true));
+      }
+    }
+    finally
+    {
+      executor.shutdown();
+    }
+
+    assertThat(cache.hitCount() + cache.missCount(), is(320000L));
+  }
+
+  /**
+   * Tests that a non-positive size is rejected.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testRejectsZeroSize()
+  {
+    new ParseCache<DateTime>(0);
+  }
+}
@@ -0,0 +1,243 @@
+/*
+ * GSON Joda Time Serialisers
+ *
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjodatime;
+
+import com.google.gson.JsonSyntaxException;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.Instant;
+import org.joda.time.LocalDate;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests for {@link PartitionedNdjsonWriter}.
+ */
+public class PartitionedNdjsonWriterTest
+{
+  /** The temporary files. */
+  @Rule
+  public final TemporaryFolder folder = new TemporaryFolder();
+
+  /**
+   * Tests that date time records are bucketed by the hours of the local time in the zone, whatever offset they
+   * were written with, and are written unchanged.
+   */
+  @Test
+  public void testHourly() throws IOException
+  {
+    final File directory = this.folder.newFolder();
+    final PartitionedNdjsonWriter writer = new PartitionedNdjsonWriter(
+      directory, "at", DateTime.class, TimeBucket.HOUR, DateTimeZone.forOffsetHours(10));
+
+    final String first = "{\"id\":1,\"at\":\"2026-10-18T09:15:00.000+10:00\"}";
+    final String second = "{\"at\":\"2026-10-17T23:59:59.999Z\",\"id\":2}";
+    final String third = "{\"id\":3,\"at\":\"2026-10-18T10:00:00.000+11:00\",\"text\":\"\\u00e9\"}";
+    final String fourth = "{\"id\":4, \"at\" : \"2026-10-18T00:00:00Z\"}";
+    writer.writeAll(new StringReader(first + "\n" + second + "\n\n" + third + "\r\n" + fourth + "\n"));
+    writer.close();
+
+    assertThat(names(directory), is(Arrays.asList("2026-10-18T09.ndjson", "2026-10-18T10.ndjson")));
+    assertThat(lines(new File(directory, "2026-10-18T09.ndjson")), is(Arrays.asList(first, second, third)));
+    assertThat(lines(new File(directory, "2026-10-18T10.ndjson")), is(Arrays.asList(fourth)));
+  }
+
+  /**
+   * Tests that the repeated hour at the end of daylight saving goes to a single file, named for its local time.
+   */
+  @Test
+  public void testDaylightSavingEnd() throws IOException
+  {
+    final File directory = this.folder.newFolder();
+    final PartitionedNdjsonWriter writer = new PartitionedNdjsonWriter(
+      directory, "at", Instant.class, TimeBucket.HOUR, DateTimeZone.forID("Australia/Sydney"));
+
+    // 02:30 in Sydney, before and after the clocks go back from 03:00 to 02:00
+    final String daylight = "{\"at\":\"2026-04-04T15:30:00.000Z\"}";
+    final String standard = "{\"at\":\"2026-04-04T16:30:00.000Z\"}";
+    writer.write(daylight);
+    writer.write(standard);
+    writer.close();
+
+    assertThat(names(directory), is(Arrays.asList("2026-04-05T02.ndjson")));
+    assertThat(lines(new File(directory, "2026-04-05T02.ndjson")), is(Arrays.asList(daylight, standard)));
+  }
+
+  /**
+   * Tests that local date records are bucketed by day, as text or as a number of days since the epoch.
+   */
+  @Test
+  public void testDailyLocalDate() throws IOException
+  {
+    final File directory = this.folder.newFolder();
+    final PartitionedNdjsonWriter writer = new PartitionedNdjsonWriter(
+      directory, "on", LocalDate.class, TimeBucket.DAY, DateTimeZone.forID("America/New_York"));
+
+    final String text = "{\"on\":\"2024-02-29\"}";
+    final String number = "{\"on\":" + new LocalDate(2024, 2, 29).toDateTimeAtStartOfDay(DateTimeZone.UTC)
+      .getMillis() / 86400000L + "}";
+    final String early = "{\"on\":\"1969-12-31\"}";
+    writer.write(text);
+    writer.write(number);
+    writer.write(early);
+    writer.close();
+
+    assertThat(names(directory), is(Arrays.asList("1969-12-31.ndjson", "2024-02-29.ndjson")));
+    assertThat(lines(new File(directory, "2024-02-29.ndjson")), is(Arrays.asList(text, number)));
+    assertThat(lines(new File(directory, "1969-12-31.ndjson")), is(Arrays.asList(early)));
+  }
+
+  /**
+   * Tests that instants before the epoch, as text or as a number of milliseconds, are bucketed by day.
+   */
+  @Test
+  public void testBeforeEpoch() throws IOException
+  {
+    final File directory = this.folder.newFolder();
+    final PartitionedNdjsonWriter writer = new PartitionedNdjsonWriter(
+      directory, "at", Instant.class, TimeBucket.DAY, DateTimeZone.UTC);
+
+    assertThat(TimeBucket.DAY.name(writer.start("{\"at\":\"1969-12-31T23:30:00Z\"}")), is("1969-12-31"));
+    assertThat(TimeBucket.DAY.name(writer.start("{\"at\":-1}")), is("1969-12-31"));
+    assertThat(TimeBucket.DAY.name(writer.start("{\"at\":0}")), is("1970-01-01"));
+    writer.close();
+  }
+
+  /**
+   * Tests that files closed to keep within the open file limit are appended to when they're used again, as are
+   * files that existed before the writer.
+   */
+  @Test
+  public void testEviction() throws IOException
+  {
+    final File directory = this.folder.newFolder();
+    final List<String> expected = new ArrayList<String>();
+    final PartitionedNdjsonWriter before = new PartitionedNdjsonWriter(
+      directory, "at", DateTime.class, TimeBucket.DAY, DateTimeZone.UTC);
+    final String existing = "{\"at\":\"2026-01-01T00:00:00Z\",\"n\":-1}";
+    before.write(existing);
+    before.close();
+    expected.add(existing);
+
+    final PartitionedNdjsonWriter writer = new PartitionedNdjsonWriter(
+      directory, "at", DateTime.class, TimeBucket.DAY, DateTimeZone.UTC, FormatterRegistry.iso(), 2, 16);
+    for (int i = 0; i < 300; i++)
+    {
+      final String line = "{\"at\":\"2026-01-0" + (1 + i % 3) + "T12:00:00Z\",\"n\":" + i + "}";
+      writer.write(line);
+      if (i % 3 == 0)
+      {
+        expected.add(line);
+      }
+    }
+    writer.close();
+
+    assertThat(names(directory), is(Arrays.asList("2026-01-01.ndjson", "2026-01-02.ndjson", "2026-01-03.ndjson")));
+    assertThat(lines(new File(directory, "2026-01-01.ndjson")), is(expected));
+    assertThat(lines(new File(directory, "2026-01-03.ndjson")).size(), is(100));
+  }
+
+  /**
+   * Tests that a record without the timestamp field is rejected.
+   */
+  @Test(expected = JsonSyntaxException.class)
+  public void testMissingField() throws IOException
+  {
+    final PartitionedNdjsonWriter writer = new PartitionedNdjsonWriter(
+      this.folder.newFolder(), "at", DateTime.class, TimeBucket.DAY, DateTimeZone.UTC);
+    writer.write("{\"id\":1}");
+  }
+
+  /**
+   * Tests that a timestamp that can't be parsed is rejected.
+   */
+  @Test(expected = JsonSyntaxException.class)
+  public void testMalformedTimestamp() throws IOException
+  {
+    final PartitionedNdjsonWriter writer = new PartitionedNdjsonWriter(
+      this.folder.newFolder(), "at", DateTime.class, TimeBucket.DAY, DateTimeZone.UTC);
+    writer.write("{\"at\":\"yesterday\"}");
+  }
+
+  /**
+   * Tests that local dates can't be bucketed by hour.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testHourlyLocalDate() throws IOException
+  {
+    new PartitionedNdjsonWriter(this.folder.newFolder(), "on", LocalDate.class, TimeBucket.HOUR, DateTimeZone.UTC);
+  }
+
+  /**
+   * Lists the names of the files in a directory.
+   * @param directory The directory.
+   * @return The names, sorted.
+   */
+  private static List<String> names(File directory)
+  {
+    final String[] names = directory.list();
+    Arrays.sort(names);
+    return Arrays.asList(names);
+  }
+
+  /**
+   * Reads the lines of a file.
+   * @param file The file.
+   * @return The lines.
+   */
+  private static List<String> lines(File file) throws IOException
+  {
+    final BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(file), "UTF-8"));
+    try
+    {
+      final List<String> lines = new ArrayList<String>();
+      String line;
+      while ((line = reader.readLine()) != null)
+      {
+        lines.add(line);
+      }
+      return lines;
+    }
+    finally
+    {
+      reader.close();
+    }
+  }
+}
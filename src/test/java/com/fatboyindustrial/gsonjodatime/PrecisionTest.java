@@ -0,0 +1,165 @@
+/*
+ * GSON Joda Time Serialisers
+ *
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjodatime;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.Instant;
+import org.joda.time.LocalDateTime;
+import org.joda.time.LocalTime;
+import org.joda.time.chrono.BuddhistChronology;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests for {@link Precision}.
+ */
+public class PrecisionTest
+{
+  /** A moment with milliseconds. */
+  private static final DateTime MOMENT = new DateTime(2019, 7, 7, 10, 15, 30, 123, DateTimeZone.forOffsetHours(10));
+
+  /** A moment on a whole second. */
+  private static final DateTime WHOLE = MOMENT.withMillisOfSecond(0);
+
+  /**
+   * Tests that second precision truncates the milliseconds.
+   */
+  @Test
+  public void testSecond()
+  {
+    final Gson gson = gson(FormatterRegistry.iso().withPrecision(Precision.SECOND));
+
+    assertThat(gson.toJson(MOMENT), is("\"2019-07-07T10:15:30+10:00\""));
+    assertThat(gson.toJson(MOMENT.toInstant()), is("\"2019-07-07T00:15:30Z\""));
+    assertThat(gson.toJson(MOMENT.toLocalDateTime()), is("\"2019-07-07T10:15:30\""));
+    assertThat(gson.toJson(MOMENT.toLocalTime()), is("\"10:15:30\""));
+  }
+
+  /**
+   * Tests that omitting a zero fraction only affects values on a whole second.
+   */
+  @Test
+  public void testOmitZeroFraction()
+  {
+    final Gson gson = gson(FormatterRegistry.isoBasic().withPrecision(Precision.OMIT_ZERO_FRACTION));
+
+    assertThat(gson.toJson(MOMENT), is("\"20190707T101530.123+1000\""));
+    assertThat(gson.toJson(WHOLE), is("\"20190707T101530+1000\""));
+    assertThat(gson.toJson(WHOLE.toInstant()), is("\"20190707T001530Z\""));
+    assertThat(gson.toJson(WHOLE.toLocalDateTime()), is("\"20190707T101530\""));
+    assertThat(gson.toJson(WHOLE.toLocalTime()), is("\"101530\""));
+  }
+
+  /**
+   * Tests that the precision can be set per type.
+   */
+  @Test
+  public void testPerType()
+  {
+    final Gson gson = gson(FormatterRegistry.iso().withInstantPrecision(Precision.SECOND));
+
+    assertThat(gson.toJson(MOMENT.toInstant()), is("\"2019-07-07T00:15:30Z\""));
+    assertThat(gson.toJson(MOMENT), is("\"2019-07-07T10:15:30.123+10:00\""));
+  }
+
+  /**
+   * Tests that values of any precision are parsed, whatever the precision printed.
+   */
+  @Test
+  public void testParsesAnyPrecision()
+  {
+    final Gson gson = gson(FormatterRegistry.iso().withPrecision(Precision.SECOND));
+
+    assertThat(gson.fromJson("\"2019-07-07T10:15:30.123+10:00\"", DateTime.class), is(MOMENT));
+    assertThat(gson.fromJson("\"2019-07-07T10:15:30+10:00\"", DateTime.class), is(WHOLE));
+    assertThat(gson.fromJson("\"2019-07-07T00:15:30.123456Z\"", Instant.class), is(MOMENT.toInstant()));
+    assertThat(gson.fromJson("\"2019-07-07T10:15:30.123\"", LocalDateTime.class), is(MOMENT.toLocalDateTime()));
+    assertThat(gson.fromJson("\"10:15:30\"", LocalTime.class), is(WHOLE.toLocalTime()));
+  }
+
+  /**
+   * Tests that the precision still applies to values that the fixed-width printer declines.
+   */
+  @Test
+  public void testFallBack()
+  {
+    final Gson gson = gson(FormatterRegistry.iso().withPrecision(Precision.OMIT_ZERO_FRACTION));
+    final DateTime bigYear = new DateTime(10000, 1, 1, 0, 0, DateTimeZone.UTC);
+    final DateTime buddhist = new DateTime(2019, 7, 7, 10, 0, 0, 5, BuddhistChronology.getInstance(DateTimeZone.UTC));
+
+    assertThat(gson.toJson(bigYear), is("\"10000-01-01T00:00:00Z\""));
+    assertThat(gson.toJson(bigYear.toInstant()), is("\"10000-01-01T00:00:00Z\""));
+    assertThat(gson.toJson(bigYear.plusMillis(1).toLocalDateTime()), is("\"10000-01-01T00:00:00.001\""));
+    assertThat(gson.toJson(buddhist), is("\"2019-07-07T10:00:00.005Z\""));
+  }
+
+  /**
+   * Tests that values the fixed-width printer declines, printed without the fraction, read back.  (A year of
+   * more than four digits can't be told apart from the month in the basic format, so isn't tried with it.)
+   */
+  @Test
+  public void testFallBackRoundtrip()
+  {
+    final LocalDateTime bigYear = new LocalDateTime(12345, 1, 1, 10, 15, 30);
+    final LocalDateTime negativeYear = new LocalDateTime(-1, 1, 1, 10, 15, 30);
+    for (final Precision precision : new Precision[] { Precision.SECOND, Precision.OMIT_ZERO_FRACTION })
+    {
+      final Gson iso = gson(FormatterRegistry.iso().withPrecision(precision));
+      final Gson basic = gson(FormatterRegistry.isoBasic().withPrecision(precision));
+
+      assertThat(iso.toJson(bigYear), is("\"12345-01-01T10:15:30\""));
+      assertThat(iso.fromJson(iso.toJson(bigYear), LocalDateTime.class), is(bigYear));
+      assertThat(iso.fromJson(iso.toJson(negativeYear), LocalDateTime.class), is(negativeYear));
+      assertThat(basic.fromJson(basic.toJson(negativeYear), LocalDateTime.class), is(negativeYear));
+    }
+  }
+
+  /**
+   * Tests that the precision doesn't change what a custom formatter prints.
+   */
+  @Test
+  public void testCustomFormatterUnaffected()
+  {
+    final Gson gson = gson(FormatterRegistry.iso().withDateTimePattern("HH:mm:ss.SSS").withPrecision(Precision.SECOND));
+
+    assertThat(gson.toJson(MOMENT), is("\"10:15:30.123\""));
+  }
+
+  /**
+   * Creates a GSON instance with all the converters registered.
+   * @param formatters The formatters to register the converters with.
+   * @return The GSON instance.
+   */
+  private static Gson gson(FormatterRegistry formatters)
+  {
+    return Converters.registerAll(new GsonBuilder(), formatters).create();
+  }
+}
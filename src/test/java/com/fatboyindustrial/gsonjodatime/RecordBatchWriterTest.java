@@ -0,0 +1,195 @@
+/*
+ * GSON Joda Time Serialisers
+ *
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjodatime;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests for {@link RecordBatchWriter}.
+ */
+public class RecordBatchWriterTest
+{
+  /** The GSON instance with the Joda Time converters registered. */
+  private final Gson gson = Converters.registerAll(new GsonBuilder()).create();
+
+  /**
+   * Tests that a JSON array is written as GSON would write the whole list.
+   */
+  @Test
+  public void testJsonArray() throws IOException
+  {
+    final List<Event> events = Event.events(100);
+    final StringWriter out = new StringWriter();
+
+    final RecordBatchWriter<Event> writer =
+      new RecordBatchWriter<Event>(this.gson, out, Event.class, RecordFormat.JSON_ARRAY, 64);
+    writer.writeAll(events);
+    writer.close();
+
+    assertThat(out.toString(), is(this.gson.toJson(events)));
+  }
+
+  /**
+   * Tests that the GSON instance's null serialisation and HTML escaping settings are applied to the records.
+   */
+  @Test
+  public void testGsonSettings() throws IOException
+  {
+    final Gson gson = Converters.registerAll(new GsonBuilder()).serializeNulls().create();
+    final Event event = new Event();
+    event.name = "<a>";
+    final List<Event> events = Arrays.asList(event, null);
+    final StringWriter out = new StringWriter();
+
+    final RecordBatchWriter<Event> writer =
+      new RecordBatchWriter<Event>(gson, out, Event.class, RecordFormat.JSON_ARRAY, 64);
+    writer.writeAll(events);
+    writer.close();
+
+    assertThat(out.toString(),
+               is("[{\"sequence\":null,\"name\":\"\\u003ca\\u003e\",\"at\":null,\"window\":null,\"days\":null},null]"));
+    assertThat(out.toString(), is(gson.toJson(events)));
+  }
+
+  /**
+   * Tests that NDJSON is written one record per line, and can be read back.
+   */
+  @Test
+  public void testNdjson() throws IOException
+  {
+    final List<Event> events = Event.events(3);
+    final StringWriter out = new StringWriter();
+
+    final RecordBatchWriter<Event> writer = new RecordBatchWriter<Event>(
+      this.gson, out, Event.class, RecordFormat.NDJSON, RecordBatchWriter.DEFAULT_CHUNK_SIZE);
+    writer.write(events.get(0));
+    writer.writeAll(events.subList(1, 3).iterator());
+    writer.write(null);
+    writer.close();
+
+    final String[] lines = out.toString().split("\n");
+    assertThat(lines.length, is(4));
+    assertThat(lines[1], is(this.gson.toJson(events.get(1))));
+    assertThat(lines[3], is("null"));
+
+    final NdjsonReader<Event> reader =
+      new NdjsonReader<Event>(this.gson, new StringReader(out.toString()), Event.class);
+    assertThat(reader.next().at, is(events.get(0).at));
+  }
+
+  /**
+   * Tests that an array without records is written.
+   */
+  @Test
+  public void testEmptyArray() throws IOException
+  {
+    final StringWriter out = new StringWriter();
+
+    new RecordBatchWriter<Event>(this.gson, out, Event.class, RecordFormat.JSON_ARRAY, 16).close();
+
+    assertThat(out.toString(), is("[]"));
+  }
+
+  /**
+   * Tests that the output is handed on, and flushed, in chunks.
+   */
+  @Test
+  public void testChunks() throws IOException
+  {
+    final ChunkRecorder out = new ChunkRecorder();
+
+    final RecordBatchWriter<Event> writer =
+      new RecordBatchWriter<Event>(this.gson, out, Event.class, RecordFormat.NDJSON, 100);
+    writer.writeAll(Event.events(50));
+    final int flushed = out.written.length();
+    writer.finish();
+
+    assertThat(flushed > 0, is(true));
+    assertThat(flushed % 100, is(0));
+    assertThat(out.flushes >= out.chunks.size(), is(true));
+    for (final Integer chunk : out.chunks)
+    {
+      assertThat(chunk, is(lessThanOrEqualTo(100)));
+    }
+    assertThat(out.written.toString().split("\n").length, is(50));
+  }
+
+  /**
+   * Tests that records can't be written once the writer has been finished.
+   */
+  @Test(expected = IllegalStateException.class)
+  public void testWriteAfterFinish() throws IOException
+  {
+    final RecordBatchWriter<Event> writer =
+      new RecordBatchWriter<Event>(this.gson, new StringWriter(), Event.class, RecordFormat.JSON_ARRAY, 16);
+
+    writer.finish();
+    writer.write(new Event());
+  }
+
+
+  /**
+   * A writer that records the chunks written to it.
+   */
+  private static final class ChunkRecorder extends Writer
+  {
+    private final StringBuilder written = new StringBuilder();
+    private final List<Integer> chunks = new ArrayList<Integer>();
+    private int flushes;
+
+    @Override
+    public void write(char[] cbuf, int off, int len)
+    {
+      this.written.append(cbuf, off, len);
+      this.chunks.add(len);
+    }
+
+    @Override
+    public void flush()
+    {
+      this.flushes++;
+    }
+
+    @Override
+    public void close()
+    {
+    }
+  }
+}
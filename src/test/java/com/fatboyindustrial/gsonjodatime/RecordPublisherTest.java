@@ -0,0 +1,321 @@
+/*
+ * GSON Joda Time Serialisers
+ *
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjodatime;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonSyntaxException;
+import org.joda.time.LocalDate;
+import org.junit.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests for {@link RecordPublisher}.
+ */
+public class RecordPublisherTest
+{
+  /** The GSON instance with the Joda Time converters registered. */
+  private final Gson gson = Converters.registerAll(new GsonBuilder()).create();
+
+  /**
+   * Tests that records are only read when they have been requested.
+   */
+  @Test
+  public void testDemand()
+  {
+    final CountingReader input = new CountingReader(dates(3000, RecordFormat.JSON_ARRAY));
+    final RecordPublisher<LocalDate> publisher =
+      new RecordPublisher<LocalDate>(this.gson, input, LocalDate.class, RecordFormat.JSON_ARRAY);
+    final Recorder<LocalDate> recorder = new Recorder<LocalDate>();
+
+    publisher.subscribe(recorder);
+    assertThat(input.read, is(0));
+    assertThat(recorder.records.size(), is(0));
+
+    recorder.subscription.request(2);
+    assertThat(recorder.records.size(), is(2));
+    assertThat(recorder.records.get(1), is(new LocalDate(2024, 1, 2)));
+
+    // Only the reader's fixed size buffer is read ahead of the requested records
+    assertThat(input.read <= 1024, is(true));
+
+    recorder.subscription.request(Long.MAX_VALUE);
+    assertThat(recorder.records.size(), is(3000));
+    assertThat(recorder.completed, is(true));
+    assertThat(input.closed, is(true));
+  }
+
+  /**
+   * Tests publishing NDJSON records, and that the end is only looked for once another record has been requested.
+   */
+  @Test
+  public void testNdjson()
+  {
+    final CountingReader input = new CountingReader(dates(2, RecordFormat.NDJSON));
+    final RecordPublisher<LocalDate> publisher =
+      new RecordPublisher<LocalDate>(this.gson, input, LocalDate.class, RecordFormat.NDJSON);
+    final Recorder<LocalDate> recorder = new Recorder<LocalDate>();
+
+    publisher.subscribe(recorder);
+    recorder.subscription.request(2);
+
+    assertThat(recorder.records.size(), is(2));
+    assertThat(recorder.completed, is(false));
+    assertThat(input.closed, is(false));
+
+    recorder.subscription.request(1);
+    assertThat(recorder.records.size(), is(2));
+    assertThat(recorder.completed, is(true));
+    assertThat(input.closed, is(true));
+  }
+
+  /**
+   * Tests cancelling part way through the input.
+   */
+  @Test
+  public void testCancel()
+  {
+    final CountingReader input = new CountingReader(dates(3000, RecordFormat.NDJSON));
+    final RecordPublisher<LocalDate> publisher =
+      new RecordPublisher<LocalDate>(this.gson, input, LocalDate.class, RecordFormat.NDJSON);
+    final Recorder<LocalDate> recorder = new Recorder<LocalDate>()
+    {
+      @Override
+      public void onNext(LocalDate record)
+      {
+        super.onNext(record);
+        if (this.records.size() == 10)
+        {
+          this.subscription.cancel();
+        }
+      }
+    };
+
+    publisher.subscribe(recorder);
+    recorder.subscription.request(Long.MAX_VALUE);
+
+    assertThat(recorder.records.size(), is(10));
+    assertThat(recorder.completed, is(false));
+    assertThat(recorder.error, is(nullValue()));
+    assertThat(input.closed, is(true));
+  }
+
+  /**
+   * Tests that a malformed record is reported to the subscriber.
+   */
+  @Test
+  public void testMalformed()
+  {
+    final RecordPublisher<LocalDate> publisher = new RecordPublisher<LocalDate>(
+      this.gson, new StringReader("[\"2024-01-01\", {]"), LocalDate.class, RecordFormat.JSON_ARRAY);
+    final Recorder<LocalDate> recorder = new Recorder<LocalDate>();
+
+    publisher.subscribe(recorder);
+    recorder.subscription.request(5);
+
+    assertThat(recorder.records.size(), is(1));
+    assertThat(recorder.error, instanceOf(JsonSyntaxException.class));
+  }
+
+  /**
+   * Tests that a request for a non-positive number of records is reported to the subscriber.
+   */
+  @Test
+  public void testInvalidRequest()
+  {
+    final RecordPublisher<LocalDate> publisher = new RecordPublisher<LocalDate>(
+      this.gson, new StringReader(dates(2, RecordFormat.NDJSON)), LocalDate.class, RecordFormat.NDJSON);
+    final Recorder<LocalDate> recorder = new Recorder<LocalDate>();
+
+    publisher.subscribe(recorder);
+    recorder.subscription.request(0);
+
+    assertThat(recorder.error, instanceOf(IllegalArgumentException.class));
+  }
+
+  /**
+   * Tests that a second subscriber is refused.
+   */
+  @Test
+  public void testSecondSubscriber()
+  {
+    final RecordPublisher<LocalDate> publisher = new RecordPublisher<LocalDate>(
+      this.gson, new StringReader("[]"), LocalDate.class, RecordFormat.JSON_ARRAY);
+    final Recorder<LocalDate> second = new Recorder<LocalDate>();
+
+    publisher.subscribe(new Recorder<LocalDate>());
+    publisher.subscribe(second);
+
+    assertThat(second.error, instanceOf(IllegalStateException.class));
+  }
+
+  /**
+   * Tests reading on an executor, with records requested one at a time from the subscriber.
+   */
+  @Test
+  public void testExecutor() throws InterruptedException
+  {
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+    final CountDownLatch done = new CountDownLatch(1);
+    final RecordPublisher<LocalDate> publisher = new RecordPublisher<LocalDate>(
+      this.gson, new StringReader(dates(500, RecordFormat.JSON_ARRAY)), LocalDate.class, RecordFormat.JSON_ARRAY,
+      executor);
+    final Recorder<LocalDate> recorder = new Recorder<LocalDate>()
+    {
+      @Override
+      public void onNext(LocalDate record)
+      {
+        super.onNext(record);
+        this.subscription.request(1);
+      }
+
+      @Override
+      public void onComplete()
+      {
+        super.onComplete();
+        done.countDown();
+      }
+    };
+
+    try
+    {
+      publisher.subscribe(recorder);
+      recorder.subscription.request(1);
+
+      assertThat(done.await(10, TimeUnit.SECONDS), is(true));
+      assertThat(recorder.records.size(), is(500));
+      assertThat(recorder.records.get(499), is(new LocalDate(2024, 1, 1).plusDays(499)));
+    }
+    finally
+    {
+      executor.shutdown();
+    }
+  }
+
+  /**
+   * Creates consecutive dates from 2024-01-01.
+   * @param count The number of dates.
+   * @param format The layout of the dates.
+   * @return The JSON text of the dates.
+   */
+  private static String dates(int count, RecordFormat format)
+  {
+    final StringBuilder text = new StringBuilder(format == RecordFormat.JSON_ARRAY ? "[" : "");
+    LocalDate date = new LocalDate(2024, 1, 1);
+    for (int i = 0; i < count; i++)
+    {
+      if (i > 0)
+      {
+        text.append(format == RecordFormat.JSON_ARRAY ? ",\n" : "\n");
+      }
+      text.append('"').append(date).append('"');
+      date = date.plusDays(1);
+    }
+
+    return text.append(format == RecordFormat.JSON_ARRAY ? "]" : "").toString();
+  }
+
+  /**
+   * A reader that counts the characters read from it.
+   */
+  private static final class CountingReader extends Reader
+  {
+    private final Reader in;
+    private int read;
+    private boolean closed;
+
+    public CountingReader(String text)
+    {
+      this.in = new StringReader(text);
+    }
+
+    @Override
+    public int read(char[] cbuf, int off, int len) throws IOException
+    {
+      final int count = this.in.read(cbuf, off, len);
+      this.read += Math.max(count, 0);
+      return count;
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+      this.closed = true;
+      this.in.close();
+    }
+  }
+
+  /**
+   * A subscriber that records what it is sent.
+   */
+  private static class Recorder<T> implements Subscriber<T>
+  {
+    protected final List<T> records = new ArrayList<T>();
+    protected volatile Subscription subscription;
+    protected volatile boolean completed;
+    protected volatile Throwable error;
+
+    @Override
+    public void onSubscribe(Subscription subscription)
+    {
+      this.subscription = subscription;
+    }
+
+    @Override
+    public void onNext(T record)
+    {
+      this.records.add(record);
+    }
+
+    @Override
+    public void onError(Throwable error)
+    {
+      this.error = error;
+    }
+
+    @Override
+    public void onComplete()
+    {
+      this.completed = true;
+    }
+  }
+}
@@ -0,0 +1,595 @@
+/*
+ * GSON Joda Time Serialisers
+ *
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjodatime;
+
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeConstants;
+import org.joda.time.DateTimeZone;
+import org.joda.time.Duration;
+import org.joda.time.Instant;
+import org.joda.time.Interval;
+import org.joda.time.LocalDate;
+import org.joda.time.LocalDateTime;
+import org.joda.time.LocalTime;
+import org.joda.time.Period;
+import org.joda.time.chrono.ISOChronology;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.Random;
+
+/**
+ * Generates a deterministic corpus of NDJSON records whose fields are the JSON text of Joda Time values, shaped
+ * like real traffic rather than like {@code new DateTime()} printed in a loop:
+ * <ul>
+ *   <li>date times in region zones and at fixed offsets, including offsets of half and three quarter hours;</li>
+ *   <li>instants on and either side of daylight saving transitions;</li>
+ *   <li>leap days, including those of 1600, 2000 and 2400;</li>
+ *   <li>fractions of a second of no digits up to nine;</li>
+ *   <li>years before year one (negative) and years far beyond 9999;</li>
+ *   <li>periods in each ISO 8601 shape (dates, times, weeks, fractional and negative seconds, values above their
+ *       normal range) and intervals as start and end, start and period, and period and end.</li>
+ * </ul>
+ * The same seed always gives the same records.  Each record is an object with the fields of {@link Record}, so
+ * it can be read by a {@link com.google.gson.Gson} instance configured by {@link Converters#registerAll}, as by
+ * {@link NdjsonReader}.  The tests read the corpus from memory; a fixture file for the benchmarks or a soak test
+ * is written by {@link #main(String[])}:
+ * <pre>
+ *   java -cp ... com.fatboyindustrial.gsonjodatime.TemporalCorpus corpus.ndjson 1000000 42
+ * </pre>
+ */
+public final class TemporalCorpus
+{
+  /** The region zones, which include zones with daylight saving of half an hour, and zones that changed sides
+   *  of the date line. */
+  private static final String[] REGIONS = {
+    "Europe/London", "Europe/Berlin", "America/New_York", "America/Sao_Paulo", "America/St_Johns",
+    "Australia/Sydney", "Australia/Lord_Howe", "Asia/Kolkata", "Asia/Kathmandu", "Pacific/Chatham",
+    "Pacific/Apia", "Africa/Casablanca", "Asia/Tokyo", "UTC" };
+
+  /** The region zones with daylight saving. */
+  private static final String[] DAYLIGHT_SAVING_REGIONS = {
+    "Europe/London", "Europe/Berlin", "America/New_York", "America/Sao_Paulo", "America/St_Johns",
+    "Australia/Sydney", "Australia/Lord_Howe", "Pacific/Chatham", "Pacific/Apia" };
+
+  /** The distances from a daylight saving transition of the instants near it, in milliseconds. */
+  private static final long[] TRANSITION_OFFSETS = {
+    -DateTimeConstants.MILLIS_PER_HOUR, -DateTimeConstants.MILLIS_PER_HOUR / 2, -1, 0, 1,
+    DateTimeConstants.MILLIS_PER_HOUR / 2, DateTimeConstants.MILLIS_PER_HOUR };
+
+  /** The minutes of the fixed offsets. */
+  private static final int[] OFFSET_MINUTES = { 0, 0, 0, 30, 45 };
+
+  /** The milliseconds since 1970 of the start of 1970 and 2040, the range of ordinary instants. */
+  private static final long ORDINARY_START = 0L;
+
+  /** The milliseconds since 1970 of the start of 2040. */
+  private static final long ORDINARY_END = 2208988800000L;
+
+  /** The chronology that fields are computed in, from local milliseconds. */
+  private static final ISOChronology UTC = ISOChronology.getInstanceUTC();
+
+  /** The random numbers. */
+  private final Random random;
+
+  /**
+   * Constructor.
+   * @param seed The seed; the same seed always gives the same records.
+   */
+  public TemporalCorpus(long seed)
+  {
+    this.random = new Random(seed);
+  }
+
+  /**
+   * Writes a fixture file.
+   * @param args The file, the number of records, and optionally the seed (which is 0 by default).
+   * @throws IOException if the file can't be written.
+   */
+  public static void main(String[] args) throws IOException
+  {
+    if (args.length < 2)
+    {
+      System.err.println("Usage: TemporalCorpus <file> <records> [<seed>]");
+      System.exit(1);
+    }
+
+    final Writer out = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(new File(args[0])), "UTF-8"));
+    try
+    {
+      new TemporalCorpus(args.length > 2 ? Long.parseLong(args[2]) : 0).write(out, Integer.parseInt(args[1]));
+    }
+    finally
+    {
+      out.close();
+    }
+  }
+
+  /**
+   * Writes records, one per line.
+   * @param out The output, which isn't closed.
+   * @param count The number of records.
+   * @throws IOException if the output can't be written.
+   */
+  public void write(Writer out, int count) throws IOException
+  {
+    for (int i = 0; i < count; i++)
+    {
+      out.write(next());
+      out.write('\n');
+    }
+    out.flush();
+  }
+
+  /**
+   * Generates a record.
+   * @return The JSON of the record, without a line terminator.
+   */
+  public String next()
+  {
+    final StringBuilder json = new StringBuilder(512);
+    json.append("{\"dateTime\":\"").append(dateTime());
+    json.append("\",\"instant\":\"").append(dateTime());
+    json.append("\",\"localDate\":\"").append(localDate());
+    json.append("\",\"localDateTime\":\"").append(localDateTime());
+    json.append("\",\"localTime\":\"").append(localTime());
+    json.append("\",\"zone\":\"").append(zone());
+    json.append("\",\"duration\":\"").append(duration());
+    json.append("\",\"period\":\"").append(period());
+    json.append("\",\"interval\":\"").append(interval());
+    json.append("\"}");
+    return json.toString();
+  }
+
+  /**
+   * Generates the text of a date time with an offset.
+   * @return The text.
+   */
+  String dateTime()
+  {
+    final DateTimeZone zone;
+    long millis;
+    switch (this.random.nextInt(10))
+    {
+      case 0:
+      case 1:
+        // Near a daylight saving transition of a random year
+        zone = DateTimeZone.forID(pick(DAYLIGHT_SAVING_REGIONS));
+        final long yearStart = UTC.getDateTimeMillis(1970 + this.random.nextInt(70), 1, 1, 0);
+        millis = zone.nextTransition(yearStart);
+        if (this.random.nextBoolean())
+        {
+          millis = zone.nextTransition(millis);
+        }
+        millis += TRANSITION_OFFSETS[this.random.nextInt(TRANSITION_OFFSETS.length)];
+        break;
+
+      case 2:
+        // A leap day, local to the zone
+        zone = this.random.nextBoolean() ? DateTimeZone.forID(pick(REGIONS)) : offsetZone();
+        millis = zone.convertLocalToUTC(leapDay() + timeOfDay(), false);
+        break;
+
+      case 3:
+        // Before year one, at a fixed offset since the zone rules of regions didn't apply
+        zone = offsetZone();
+        millis = UTC.getDateTimeMillis(-this.random.nextInt(10000), 1, 1, 0) + dayOfYear() + timeOfDay();
+        millis -= zone.getOffset(millis);
+        break;
+
+      case 4:
+        // Far in the future, sometimes beyond four digit years
+        zone = offsetZone();
+        final int year = this.random.nextBoolean() ? 2100 + this.random.nextInt(7900) :
+                         10000 + this.random.nextInt(990000);
+        millis = UTC.getDateTimeMillis(year, 1, 1, 0) + dayOfYear() + timeOfDay();
+        millis -= zone.getOffset(millis);
+        break;
+
+      default:
+        zone = this.random.nextBoolean() ? DateTimeZone.forID(pick(REGIONS)) : offsetZone();
+        millis = ORDINARY_START + (long) (this.random.nextDouble() * (ORDINARY_END - ORDINARY_START));
+        break;
+    }
+
+    final int offset = zone.getOffset(millis);
+    final StringBuilder text = new StringBuilder(40);
+    appendLocalDateTime(text, millis + offset, true);
+    appendOffset(text, offset);
+    return text.toString();
+  }
+
+  /**
+   * Generates the text of a local date.
+   * @return The text.
+   */
+  String localDate()
+  {
+    final long local;
+    switch (this.random.nextInt(6))
+    {
+      case 0:
+        local = leapDay();
+        break;
+      case 1:
+        local = UTC.getDateTimeMillis(-this.random.nextInt(10000), 1, 1, 0) + dayOfYear();
+        break;
+      case 2:
+        local = UTC.getDateTimeMillis(2100 + this.random.nextInt(997900), 1, 1, 0) + dayOfYear();
+        break;
+      default:
+        local = UTC.getDateTimeMillis(1900 + this.random.nextInt(200), 1, 1, 0) + dayOfYear();
+        break;
+    }
+
+    final StringBuilder text = new StringBuilder(16);
+    appendDate(text, local);
+    return text.toString();
+  }
+
+  /**
+   * Generates the text of a local date time, which always has seconds and a fraction of up to three digits, as
+   * the {@code LocalDateTime} formatter requires.
+   * @return The text.
+   */
+  String localDateTime()
+  {
+    final long local = (this.random.nextInt(5) == 0 ? leapDay() : UTC.getDateTimeMillis(
+      1900 + this.random.nextInt(200), 1, 1, 0) + dayOfYear()) + timeOfDay();
+
+    final StringBuilder text = new StringBuilder(32);
+    appendDate(text, local);
+    text.append('T');
+    appendTime(text, local, 1 + this.random.nextInt(3));
+    return text.toString();
+  }
+
+  /**
+   * Generates the text of a local time, with or without seconds and a fraction.
+   * @return The text.
+   */
+  String localTime()
+  {
+    final long local = timeOfDay();
+    final StringBuilder text = new StringBuilder(20);
+    switch (this.random.nextInt(4))
+    {
+      case 0:
+        append(text, UTC.hourOfDay().get(local), 2).append(':');
+        append(text, UTC.minuteOfHour().get(local), 2);
+        break;
+      default:
+        appendTime(text, local, fractionDigits());
+        break;
+    }
+    return text.toString();
+  }
+
+  /**
+   * Generates the ID of a zone: a region, or an offset.
+   * @return The ID.
+   */
+  String zone()
+  {
+    return this.random.nextInt(3) == 0 ? offsetZone().getID() : pick(REGIONS);
+  }
+
+  /**
+   * Generates the text of a duration, in seconds with or without a fraction, and sometimes negative.
+   * @return The text.
+   */
+  String duration()
+  {
+    final long millis = (long) (this.random.nextDouble() * 40L * DateTimeConstants.MILLIS_PER_DAY);
+    final StringBuilder text = new StringBuilder(24).append("PT");
+    if (this.random.nextInt(8) == 0)
+    {
+      text.append('-');
+    }
+    text.append(millis / 1000);
+    if (this.random.nextBoolean())
+    {
+      text.append('.');
+      append(text, (int) (millis % 1000), 3);
+    }
+    return text.append('S').toString();
+  }
+
+  /**
+   * Generates the text of a period, in one of the ISO 8601 shapes.
+   * @return The text.
+   */
+  String period()
+  {
+    final StringBuilder text = new StringBuilder(40).append('P');
+    switch (this.random.nextInt(9))
+    {
+      case 0:
+        // Years only
+        text.append(1 + this.random.nextInt(100)).append('Y');
+        break;
+      case 1:
+        // Months, sometimes above their normal range
+        text.append(1 + this.random.nextInt(36)).append('M');
+        break;
+      case 2:
+        // Weeks
+        text.append(1 + this.random.nextInt(52)).append('W');
+        break;
+      case 3:
+        // Days only
+        text.append(1 + this.random.nextInt(400)).append('D');
+        break;
+      case 4:
+        // Time only, sometimes above their normal ranges
+        text.append('T').append(this.random.nextInt(48)).append('H').append(this.random.nextInt(90)).append('M');
+        break;
+      case 5:
+        // Seconds with a fraction
+        text.append('T').append(this.random.nextInt(100)).append('.');
+        append(text, this.random.nextInt(1000), 3).append('S');
+        break;
+      case 6:
+        // Negative values
+        text.append('-').append(1 + this.random.nextInt(30)).append("DT-");
+        text.append(1 + this.random.nextInt(59)).append('S');
+        break;
+      case 7:
+        // Zero
+        text.append("T0S");
+        break;
+      default:
+        // Every field
+        text.append(this.random.nextInt(10)).append('Y').append(this.random.nextInt(12)).append('M');
+        text.append(this.random.nextInt(5)).append('W').append(this.random.nextInt(7)).append("DT");
+        text.append(this.random.nextInt(24)).append('H').append(this.random.nextInt(60)).append('M');
+        text.append(this.random.nextInt(60)).append('.');
+        append(text, this.random.nextInt(1000), 3).append('S');
+        break;
+    }
+    return text.toString();
+  }
+
+  /**
+   * Generates the text of an interval, as a start and end, a start and period, or a period and end.
+   * @return The text.
+   */
+  String interval()
+  {
+    final long start = ORDINARY_START + (long) (this.random.nextDouble() * (ORDINARY_END - ORDINARY_START));
+    final long end = start + (long) (this.random.nextDouble() * 400L * DateTimeConstants.MILLIS_PER_DAY);
+    final DateTimeZone zone = this.random.nextBoolean() ? DateTimeZone.forID(pick(REGIONS)) : offsetZone();
+
+    final StringBuilder text = new StringBuilder(64);
+    switch (this.random.nextInt(3))
+    {
+      case 0:
+        appendLocalDateTime(text, start + zone.getOffset(start), false);
+        appendOffset(text, zone.getOffset(start));
+        text.append('/').append(positivePeriod());
+        break;
+      case 1:
+        text.append(positivePeriod()).append('/');
+        appendLocalDateTime(text, end + zone.getOffset(end), false);
+        appendOffset(text, zone.getOffset(end));
+        break;
+      default:
+        appendLocalDateTime(text, start + zone.getOffset(start), false);
+        appendOffset(text, zone.getOffset(start));
+        text.append('/');
+        appendLocalDateTime(text, end + zone.getOffset(end), false);
+        appendOffset(text, zone.getOffset(end));
+        break;
+    }
+    return text.toString();
+  }
+
+  /**
+   * Generates the text of a period that isn't negative, for an interval.
+   * @return The text.
+   */
+  private String positivePeriod()
+  {
+    String period;
+    do
+    {
+      period = period();
+    }
+    while (period.indexOf('-') >= 0);
+    return period;
+  }
+
+  /**
+   * Appends a local date time, with a fraction of a random number of digits.
+   * @param text The text to append to.
+   * @param local The local date time, in milliseconds since the local epoch.
+   * @param anyFraction Whether the fraction may have no digits, or more than three.
+   */
+  private void appendLocalDateTime(StringBuilder text, long local, boolean anyFraction)
+  {
+    appendDate(text, local);
+    text.append('T');
+    appendTime(text, local, anyFraction ? fractionDigits() : 3);
+  }
+
+  /**
+   * Appends a date.
+   * @param text The text to append to.
+   * @param local The date, in milliseconds since the local epoch.
+   */
+  private static void appendDate(StringBuilder text, long local)
+  {
+    final int year = UTC.year().get(local);
+    if (year < 0)
+    {
+      text.append('-');
+    }
+    append(text, Math.abs(year), 4).append('-');
+    append(text, UTC.monthOfYear().get(local), 2).append('-');
+    append(text, UTC.dayOfMonth().get(local), 2);
+  }
+
+  /**
+   * Appends a time with seconds, and a fraction of the given number of digits.  Digits beyond the third are
+   * random, as a parser ignores them; digits of the milliseconds beyond the fraction are dropped.
+   * @param text The text to append to.
+   * @param local The time, in milliseconds since the local epoch.
+   * @param digits The number of digits of the fraction, which has no decimal point if it's zero.
+   */
+  private void appendTime(StringBuilder text, long local, int digits)
+  {
+    append(text, UTC.hourOfDay().get(local), 2).append(':');
+    append(text, UTC.minuteOfHour().get(local), 2).append(':');
+    append(text, UTC.secondOfMinute().get(local), 2);
+    if (digits > 0)
+    {
+      final String millis = String.valueOf(1000 + UTC.millisOfSecond().get(local)).substring(1);
+      text.append('.').append(millis, 0, Math.min(digits, 3));
+      for (int i = 3; i < digits; i++)
+      {
+        text.append((char) ('0' + this.random.nextInt(10)));
+      }
+    }
+  }
+
+  /**
+   * Appends an offset: {@code Z}, or {@code +00:00}, for zero.
+   * @param text The text to append to.
+   * @param offset The offset, in milliseconds.
+   */
+  private void appendOffset(StringBuilder text, int offset)
+  {
+    if (offset == 0 && this.random.nextBoolean())
+    {
+      text.append('Z');
+      return;
+    }
+
+    final int minutes = Math.abs(offset) / DateTimeConstants.MILLIS_PER_MINUTE;
+    text.append(offset < 0 ? '-' : '+');
+    append(text, minutes / 60, 2).append(':');
+    append(text, minutes % 60, 2);
+  }
+
+  /**
+   * Appends a number, padded with zeros.
+   * @param text The text to append to.
+   * @param value The number, which isn't negative.
+   * @param width The minimum number of digits.
+   * @return {@code text}.
+   */
+  private static StringBuilder append(StringBuilder text, int value, int width)
+  {
+    final String digits = String.valueOf(value);
+    for (int i = digits.length(); i < width; i++)
+    {
+      text.append('0');
+    }
+    return text.append(digits);
+  }
+
+  /**
+   * Chooses the number of digits of a fraction of a second: most often three, and otherwise none to nine.
+   * @return The number of digits.
+   */
+  private int fractionDigits()
+  {
+    return this.random.nextBoolean() ? 3 : this.random.nextInt(10);
+  }
+
+  /**
+   * Chooses a fixed offset zone, of a whole hour, or with 30 or 45 minutes.
+   * @return The zone.
+   */
+  private DateTimeZone offsetZone()
+  {
+    final int hours = this.random.nextInt(27) - 12;
+    final int minutes = OFFSET_MINUTES[this.random.nextInt(OFFSET_MINUTES.length)];
+    final int millis = Math.abs(hours) * DateTimeConstants.MILLIS_PER_HOUR +
+                       minutes * DateTimeConstants.MILLIS_PER_MINUTE;
+    return DateTimeZone.forOffsetMillis(hours < 0 ? -millis : millis);
+  }
+
+  /**
+   * Chooses a leap day.
+   * @return The leap day, in milliseconds since the local epoch.
+   */
+  private long leapDay()
+  {
+    final int[] centuries = { 1600, 2000, 2400 };
+    final int year = this.random.nextInt(4) == 0 ? centuries[this.random.nextInt(centuries.length)] :
+                     1904 + 4 * this.random.nextInt(49);
+    return UTC.getDateTimeMillis(year, 2, 29, 0);
+  }
+
+  /**
+   * Chooses a day of the year, other than the last of a leap year.
+   * @return The milliseconds from the start of the year to the start of the day.
+   */
+  private long dayOfYear()
+  {
+    return (long) this.random.nextInt(365) * DateTimeConstants.MILLIS_PER_DAY;
+  }
+
+  /**
+   * Chooses a time of day.
+   * @return The milliseconds from the start of the day.
+   */
+  private long timeOfDay()
+  {
+    return this.random.nextInt(DateTimeConstants.MILLIS_PER_DAY);
+  }
+
+  /**
+   * Chooses one of some strings.
+   * @param choices The strings.
+   * @return The string chosen.
+   */
+  private String pick(String[] choices)
+  {
+    return choices[this.random.nextInt(choices.length)];
+  }
+
+  /**
+   * A record of the corpus.
+   */
+  public static class Record
+  {
+    DateTime dateTime;
+    Instant instant;
+    LocalDate localDate;
+    LocalDateTime localDateTime;
+    LocalTime localTime;
+    DateTimeZone zone;
+    Duration duration;
+    Period period;
+    Interval interval;
+  }
+}
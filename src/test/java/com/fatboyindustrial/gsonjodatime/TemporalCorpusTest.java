@@ -0,0 +1,178 @@
+/*
+ * GSON Joda Time Serialisers
+ *
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjodatime;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.joda.time.DateTimeZone;
+import org.joda.time.Duration;
+import org.joda.time.Interval;
+import org.joda.time.format.ISOPeriodFormat;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.StringWriter;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests for {@link TemporalCorpus}, and of the converters against the corpus.
+ */
+public class TemporalCorpusTest
+{
+  /** The number of records checked. */
+  private static final int RECORDS = 5000;
+
+  /** The temporary files. */
+  @Rule
+  public final TemporaryFolder folder = new TemporaryFolder();
+
+  /** The GSON instance with the Joda Time converters registered. */
+  private final Gson gson = Converters.registerAll(new GsonBuilder()).create();
+
+  /**
+   * Tests that the same seed gives the same records, and another seed different records.
+   */
+  @Test
+  public void testSeed() throws IOException
+  {
+    assertThat(corpus(42, 1000), is(corpus(42, 1000)));
+    assertThat(corpus(42, 1000), is(not(corpus(43, 1000))));
+  }
+
+  /**
+   * Tests that the converters, with their fast paths, read each field as the formatters of
+   * {@link FormatterRegistry#iso()} and Joda Time's own parsers do.
+   */
+  @Test
+  public void testRead()
+  {
+    final TemporalCorpus corpus = new TemporalCorpus(1);
+    final JsonParser parser = new JsonParser();
+    for (int i = 0; i < RECORDS; i++)
+    {
+      final String line = corpus.next();
+      final TemporalCorpus.Record record = this.gson.fromJson(line, TemporalCorpus.Record.class);
+      final JsonObject text = parser.parse(line).getAsJsonObject();
+
+      assertThat(line, record.dateTime,
+                 is(FormatterRegistry.ISO_DATE_TIME_PARSER.parseDateTime(string(text, "dateTime"))));
+      assertThat(line, record.instant,
+                 is(FormatterRegistry.ISO_INSTANT_PARSER.parseDateTime(string(text, "instant")).toInstant()));
+      assertThat(line, record.localDate,
+                 is(FormatterRegistry.ISO_LOCAL_DATE_FORMATTER.parseLocalDate(string(text, "localDate"))));
+      assertThat(line, record.localDateTime,
+                 is(FormatterRegistry.ISO_LOCAL_DATE_TIME_FORMATTER.parseLocalDateTime(string(text, "localDateTime"))));
+      assertThat(line, record.localTime,
+                 is(FormatterRegistry.ISO_LOCAL_TIME_FORMATTER.parseLocalTime(string(text, "localTime"))));
+      assertThat(line, record.zone, is(DateTimeZone.forID(string(text, "zone"))));
+      assertThat(line, record.duration, is(Duration.parse(string(text, "duration"))));
+      assertThat(line, record.period, is(ISOPeriodFormat.standard().parsePeriod(string(text, "period"))));
+      assertThat(line, record.interval, is(new Interval(string(text, "interval"))));
+    }
+  }
+
+  /**
+   * Tests that each record is read back unchanged after it's written, with the printers' fast paths.
+   */
+  @Test
+  public void testRoundTrip()
+  {
+    final TemporalCorpus corpus = new TemporalCorpus(2);
+    for (int i = 0; i < RECORDS; i++)
+    {
+      final String line = corpus.next();
+      final TemporalCorpus.Record record = this.gson.fromJson(line, TemporalCorpus.Record.class);
+      final String json = this.gson.toJson(record);
+      final TemporalCorpus.Record read = this.gson.fromJson(json, TemporalCorpus.Record.class);
+
+      assertThat(json, read.dateTime, is(record.dateTime));
+      assertThat(json, read.instant, is(record.instant));
+      assertThat(json, read.localDate, is(record.localDate));
+      assertThat(json, read.localDateTime, is(record.localDateTime));
+      assertThat(json, read.localTime, is(record.localTime));
+      assertThat(json, read.zone, is(record.zone));
+      assertThat(json, read.duration, is(record.duration));
+      assertThat(json, read.period, is(record.period));
+      assertThat(json, read.interval, is(record.interval));
+    }
+  }
+
+  /**
+   * Tests that a fixture file holds the records of the corpus, and can be read with {@link NdjsonReader}.
+   */
+  @Test
+  public void testFixture() throws IOException
+  {
+    final File file = new File(this.folder.getRoot(), "corpus.ndjson");
+    TemporalCorpus.main(new String[] { file.getPath(), "100", "42" });
+
+    final NdjsonReader<TemporalCorpus.Record> reader = new NdjsonReader<TemporalCorpus.Record>(
+      this.gson, new InputStreamReader(new FileInputStream(file), "UTF-8"), TemporalCorpus.Record.class);
+    int count = 0;
+    while (reader.hasNext())
+    {
+      reader.next();
+      count++;
+    }
+    reader.close();
+
+    assertThat(count, is(100));
+  }
+
+  /**
+   * Generates records.
+   * @param seed The seed.
+   * @param count The number of records.
+   * @return The records, one per line.
+   */
+  private static String corpus(long seed, int count) throws IOException
+  {
+    final StringWriter out = new StringWriter();
+    new TemporalCorpus(seed).write(out, count);
+    return out.toString();
+  }
+
+  /**
+   * Reads a string field.
+   * @param object The object.
+   * @param name The name of the field.
+   * @return The string.
+   */
+  private static String string(JsonObject object, String name)
+  {
+    return object.get(name).getAsString();
+  }
+}
@@ -0,0 +1,137 @@
+/*
+ * GSON Joda Time Serialisers
+ *
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjodatime;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.reflect.TypeToken;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.junit.Test;
+
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests for {@link ZoneDictionaryTypeAdapterFactory}.
+ */
+public class ZoneDictionaryTypeAdapterFactoryTest
+{
+  /** The type of a list of date times. */
+  private static final Type LIST_TYPE = new TypeToken<List<DateTime>>(){}.getType();
+
+  /** Sydney. */
+  private static final DateTimeZone SYDNEY = DateTimeZone.forID("Australia/Sydney");
+
+  /** London. */
+  private static final DateTimeZone LONDON = DateTimeZone.forID("Europe/London");
+
+  /**
+   * Tests that the zone table is written once, and the values refer to it.
+   */
+  @Test
+  public void testSerialise()
+  {
+    final Gson gson = Converters.registerZoneDictionary(Converters.registerAll(new GsonBuilder())).create();
+    final List<DateTime> values = Arrays.asList(
+      new DateTime(2024, 1, 1, 10, 15, SYDNEY),
+      new DateTime(2024, 1, 1, 10, 15, LONDON),
+      null,
+      new DateTime(2024, 7, 1, 10, 15, SYDNEY));
+
+    assertThat(gson.toJson(values, LIST_TYPE), is(
+      "{\"zones\":[\"Australia/Sydney\",\"Europe/London\"],\"values\":[" +
+      "[\"2024-01-01T10:15:00.000+11:00\",0]," +
+      "[\"2024-01-01T10:15:00.000Z\",1]," +
+      "null," +
+      "[\"2024-07-01T10:15:00.000+10:00\",0]]}"));
+  }
+
+  /**
+   * Tests that lists, collections and arrays round-trip with their region zones.
+   */
+  @Test
+  public void testRoundtrip()
+  {
+    final Gson gson = Converters.registerZoneDictionary(new GsonBuilder()).create();
+    final List<DateTime> values = Arrays.asList(
+      new DateTime(2024, 1, 1, 10, 15, SYDNEY),
+      new DateTime(2024, 3, 31, 2, 30, LONDON),
+      new DateTime(2024, 1, 1, 10, 15, DateTimeZone.UTC));
+    final Type collectionType = new TypeToken<Collection<DateTime>>(){}.getType();
+    final DateTime[] array = values.toArray(new DateTime[values.size()]);
+
+    final List<DateTime> list = gson.fromJson(gson.toJson(values, LIST_TYPE), LIST_TYPE);
+    assertThat(list, is(values));
+    assertThat(list.get(0).getZone(), is(SYDNEY));
+    final Collection<DateTime> collection = gson.fromJson(gson.toJson(values, collectionType), collectionType);
+    assertThat(collection, is((Collection<DateTime>) values));
+    assertThat(gson.fromJson(gson.toJson(array), DateTime[].class), is(array));
+  }
+
+  /**
+   * Tests that a plain array of values is accepted, and that nulls are preserved.
+   */
+  @Test
+  public void testDeserialisePlain()
+  {
+    final Gson gson = Converters.registerZoneDictionary(new GsonBuilder()).create();
+    final List<DateTime> list = gson.fromJson("[\"2024-01-01T10:15:00.000+11:00\",null,\"\"]", LIST_TYPE);
+
+    assertThat(list.size(), is(3));
+    assertThat(list.get(0), is(new DateTime(2024, 1, 1, 10, 15, DateTimeZone.forOffsetHours(11))));
+    assertThat(list.get(1), is(nullValue()));
+    assertThat(list.get(2), is(nullValue()));
+    assertThat(gson.fromJson("null", LIST_TYPE), is(nullValue()));
+  }
+
+  /**
+   * Tests that values before the zone table are rejected.
+   */
+  @Test(expected = JsonSyntaxException.class)
+  public void testZonesMustPrecedeValues()
+  {
+    final Gson gson = Converters.registerZoneDictionary(new GsonBuilder()).create();
+    gson.fromJson("{\"values\":[[\"2024-01-01T10:15:00.000Z\",0]],\"zones\":[\"UTC\"]}", LIST_TYPE);
+  }
+
+  /**
+   * Tests that an index outside the zone table is rejected.
+   */
+  @Test(expected = JsonSyntaxException.class)
+  public void testIndexOutOfRange()
+  {
+    final Gson gson = Converters.registerZoneDictionary(new GsonBuilder()).create();
+    gson.fromJson("{\"zones\":[\"UTC\"],\"values\":[[\"2024-01-01T10:15:00.000Z\",1]]}", LIST_TYPE);
+  }
+}